@@ -0,0 +1,103 @@
+package installer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of writing a jar to disk from a stream, the way the downloader
+ * receives it: Files.copy against FileChannel.transferFrom, with and without
+ * the CountingChannel used for progress.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CopyBenchmark {
+	private static final long CHUNK = 256 * 1024;
+
+	@Param({ "16", "64" })
+	public int sizeMb;
+
+	private Path source;
+	private Path target;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		source = Files.createTempFile("copy-bench", ".jar");
+		target = Files.createTempFile("copy-bench", ".part");
+		byte[] block = new byte[1024 * 1024];
+		new Random(3).nextBytes(block);
+		try (FileChannel out = FileChannel.open(source, StandardOpenOption.WRITE)) {
+			for (int i = 0; i < sizeMb; i++) {
+				out.write(ByteBuffer.wrap(block));
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(source);
+		Files.deleteIfExists(target);
+	}
+
+	@Benchmark
+	public long filesCopy() throws IOException {
+		try (InputStream in = Files.newInputStream(source)) {
+			return Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@Benchmark
+	public long transferFrom() throws IOException {
+		try (InputStream in = Files.newInputStream(source)) {
+			return transfer(Channels.newChannel(in));
+		}
+	}
+
+	@Benchmark
+	public long transferFromCounting() throws IOException {
+		TransferProgress.Item item = new TransferProgress().newItem();
+		try (InputStream in = Files.newInputStream(source)) {
+			return transfer(new CountingChannel(Channels.newChannel(in), item::add));
+		}
+	}
+
+	private long transfer(ReadableByteChannel source) throws IOException {
+		try (FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			long position = 0;
+			long written;
+			while ((written = out.transferFrom(source, position, CHUNK)) > 0) {
+				position += written;
+			}
+			return position;
+		}
+	}
+
+}
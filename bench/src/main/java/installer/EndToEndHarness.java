@@ -0,0 +1,382 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Offline end-to-end run of the installer against a {@link StandInServer}:
+ *
+ * <pre>
+ * java -cp bench/target/benchmarks.jar installer.EndToEndHarness [--installs N] [--versions N]
+ *     [--jar-kb N] [--libraries N] [--prefetch] [--latency-ms N] [--bandwidth BYTES_PER_SECOND]
+ *     [--error-rate R] [--disconnect-rate R] [--seed N] [--summary file] [--keep]
+ * </pre>
+ *
+ * Generates an installer.json, a version manifest, version JSONs, client jars
+ * and libraries for --versions Minecraft versions, all under .invalid hosts so
+ * nothing can leak to the real endpoints, and serves them through the stand-in
+ * as the only mirror. Then starts --installs installs at once through
+ * {@link Client#installClient}, each into its own .minecraft directory, and
+ * prints wall time, install latency percentiles, throughput, retries and the
+ * faults the server injected as JSON, to stdout or the --summary file. Every
+ * install that reports success is then checked on disk: the client jar
+ * must match what was published, and with --prefetch so must every library.
+ * Failed installs and broken ones are listed on stderr and make the exit code
+ * non-zero, so a fault profile doubles as a robustness check.
+ */
+public final class EndToEndHarness {
+	private static final String CLIENT_VERSION = "1.0";
+	private static final URI INSTALLER_JSON = URI.create(
+			"https://raw.githubusercontent.invalid/MorchClient/resources/json/installer.json");
+	private static final URI VERSION_MANIFEST = URI.create(
+			"https://launchermeta.invalid/mc/game/version_manifest_v2.json");
+
+	private int installs = 8;
+	private int versions = 4;
+	private int jarKb = 8 * 1024;
+	private int libraries = 20;
+	private boolean prefetch;
+	private long latencyMillis;
+	private long bandwidth;
+	private double errorRate;
+	private double disconnectRate;
+	private long seed = 1;
+	private String summaryFile;
+	private boolean keep;
+
+	// SHA-1 of what was published: client jars by Minecraft version, libraries by path
+	private final Map<String, String> jarSha1s = new HashMap<>();
+	private final Map<String, String> librarySha1s = new LinkedHashMap<>();
+
+	private EndToEndHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		EndToEndHarness harness = new EndToEndHarness();
+		try {
+			harness.parse(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: [--installs N] [--versions N] [--jar-kb N] [--libraries N] [--prefetch]"
+					+ " [--latency-ms N] [--bandwidth N] [--error-rate R] [--disconnect-rate R] [--seed N]"
+					+ " [--summary <file>] [--keep]");
+			System.exit(2);
+		}
+		System.exit(harness.run());
+	}
+
+	private void parse(String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--installs":
+				installs = Integer.parseInt(CommandLine.value(args, ++i));
+				break;
+			case "--versions":
+				versions = Integer.parseInt(CommandLine.value(args, ++i));
+				break;
+			case "--jar-kb":
+				jarKb = Integer.parseInt(CommandLine.value(args, ++i));
+				break;
+			case "--libraries":
+				libraries = Integer.parseInt(CommandLine.value(args, ++i));
+				break;
+			case "--prefetch":
+				prefetch = true;
+				break;
+			case "--latency-ms":
+				latencyMillis = Long.parseLong(CommandLine.value(args, ++i));
+				break;
+			case "--bandwidth":
+				bandwidth = Long.parseLong(CommandLine.value(args, ++i));
+				break;
+			case "--error-rate":
+				errorRate = Double.parseDouble(CommandLine.value(args, ++i));
+				break;
+			case "--disconnect-rate":
+				disconnectRate = Double.parseDouble(CommandLine.value(args, ++i));
+				break;
+			case "--seed":
+				seed = Long.parseLong(CommandLine.value(args, ++i));
+				break;
+			case "--summary":
+				summaryFile = CommandLine.value(args, ++i);
+				break;
+			case "--keep":
+				keep = true;
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option: " + args[i]);
+			}
+		}
+		if (installs < 1 || versions < 1) {
+			throw new IllegalArgumentException("--installs and --versions must be at least 1");
+		}
+	}
+
+	private int run() throws IOException {
+		Path work = Files.createTempDirectory("morch-e2e");
+		try (StandInServer server = StandInServer.start(seed)) {
+			// Sources and Cache read these once, so they are set before anything touches those classes
+			System.setProperty("morch.cache", work.resolve("cache").toString());
+			System.setProperty("morch.mirrors", server.getBaseUri().toString());
+			System.setProperty("morch.source.installerJson", INSTALLER_JSON.toString());
+			System.setProperty("morch.source.versionManifest", VERSION_MANIFEST.toString());
+
+			List<String> minecraftVersions = publish(server);
+			// Faults start once the fixtures are up, the fixture upload itself is not a request
+			server.setLatencyMillis(latencyMillis);
+			server.setBandwidth(bandwidth);
+			server.setErrorRate(errorRate);
+			server.setDisconnectRate(disconnectRate);
+
+			Client client = new Client(new ConsoleProgressListener(""));
+			List<InstallScheduler.Job> jobs = new ArrayList<>();
+			long start = System.nanoTime();
+			for (int i = 0; i < installs; i++) {
+				String minecraftVersion = minecraftVersions.get(i % minecraftVersions.size());
+				Path minecraftPath = work.resolve("minecraft-" + i);
+				Files.createDirectories(minecraftPath);
+				jobs.add(client.installClient(CLIENT_VERSION, minecraftVersion, minecraftPath.toString(), "", true,
+						prefetch));
+			}
+			List<InstallResult> results = new ArrayList<>();
+			for (InstallScheduler.Job job : jobs) {
+				try {
+					results.add(job.getResult().join());
+				} catch (CompletionException e) {
+					results.add(InstallResult.failure(job.getSpec(), e.getCause().toString(), start));
+				}
+			}
+			long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+			List<String> problems = new ArrayList<>();
+			for (int i = 0; i < jobs.size(); i++) {
+				InstallSpec spec = jobs.get(i).getSpec();
+				if (!results.get(i).isSuccess()) {
+					problems.add("Install of " + spec + " failed: " + results.get(i).getError());
+				} else {
+					check(spec, problems);
+				}
+			}
+
+			JsonObject summary = summarize(results, wallMillis, server);
+			JsonArray problemArray = new JsonArray();
+			problems.forEach(problemArray::add);
+			summary.add("problems", problemArray);
+			CommandLine.writeSummary(summary, summaryFile);
+			if (!problems.isEmpty()) {
+				problems.forEach(System.err::println);
+				System.err.println("FAILED: " + problems.size() + " problem(s) across " + installs + " installs");
+				return 1;
+			}
+			return 0;
+		} finally {
+			if (!keep) {
+				CommandLine.delete(work);
+			} else {
+				System.out.println("Kept the work directory at " + work);
+			}
+		}
+	}
+
+	// What a successful install must have left behind
+	private void check(InstallSpec spec, List<String> problems) throws IOException {
+		String versionName = "morch-" + spec.getClientVersion() + "-" + spec.getMinecraftVersion();
+		Path versionDir = Paths.get(spec.getMinecraftPath(), "versions", versionName);
+		checkFile(spec, versionDir.resolve(versionName + ".jar"), jarSha1s.get(spec.getMinecraftVersion()), problems);
+		if (!Files.isRegularFile(versionDir.resolve(versionName + ".json"))) {
+			problems.add(spec + " has no version JSON");
+		}
+		if (prefetch) {
+			for (Map.Entry<String, String> library : librarySha1s.entrySet()) {
+				checkFile(spec, Paths.get(spec.getMinecraftPath(), "libraries", library.getKey()), library.getValue(),
+						problems);
+			}
+		}
+	}
+
+	private static void checkFile(InstallSpec spec, Path file, String sha1, List<String> problems) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			problems.add(spec + " is missing " + file);
+		} else if (!Downloader.sha1(file).equals(sha1)) {
+			problems.add(spec + " has the wrong content in " + file);
+		}
+	}
+
+	/**
+	 * Puts every fixture on the server and returns the Minecraft versions. All
+	 * versions share the same libraries, like real releases close together do.
+	 */
+	private List<String> publish(StandInServer server) throws IOException {
+		Random random = new Random(seed);
+		JsonArray libraryArray = new JsonArray();
+		for (int i = 0; i < libraries; i++) {
+			String path = "com/example/lib" + i + "/1.0/lib" + i + "-1.0.jar";
+			byte[] content = randomBytes(random, 16 * 1024 + random.nextInt(256 * 1024));
+			JsonObject artifact = new JsonObject();
+			artifact.addProperty("path", path);
+			artifact.addProperty("sha1", StandInServer.sha1(content));
+			librarySha1s.put(path, StandInServer.sha1(content));
+			artifact.addProperty("size", content.length);
+			artifact.addProperty("url", server.put(URI.create("https://libraries.invalid/" + path), content).toString());
+			JsonObject downloads = new JsonObject();
+			downloads.add("artifact", artifact);
+			JsonObject library = new JsonObject();
+			library.addProperty("name", "com.example:lib" + i + ":1.0");
+			library.add("downloads", downloads);
+			libraryArray.add(library);
+		}
+
+		List<String> minecraftVersions = new ArrayList<>();
+		JsonObject client = new JsonObject();
+		JsonArray manifestVersions = new JsonArray();
+		for (int v = versions - 1; v >= 0; v--) {
+			String id = "1.20." + v;
+			minecraftVersions.add(0, id);
+
+			JsonObject versionJson = new JsonObject();
+			versionJson.addProperty("id", id);
+			versionJson.addProperty("mainClass", "net.minecraft.client.main.Main");
+			versionJson.addProperty("type", "release");
+			versionJson.add("libraries", libraryArray);
+			byte[] versionBytes = versionJson.toString().getBytes(StandardCharsets.UTF_8);
+			String versionSha1 = StandInServer.sha1(versionBytes);
+			URI versionUrl = server.put(
+					URI.create("https://piston-meta.invalid/v1/packages/" + versionSha1 + "/" + id + ".json"),
+					versionBytes);
+
+			JsonObject manifestEntry = new JsonObject();
+			manifestEntry.addProperty("id", id);
+			manifestEntry.addProperty("type", "release");
+			manifestEntry.addProperty("url", versionUrl.toString());
+			manifestEntry.addProperty("sha1", versionSha1);
+			manifestVersions.add(manifestEntry);
+
+			byte[] jar = jar(random, jarKb * 1024);
+			jarSha1s.put(id, StandInServer.sha1(jar));
+			URI jarUrl = server.put(URI.create("https://github.invalid/MorchClient/releases/download/" + id
+					+ "/morch-" + CLIENT_VERSION + ".jar"), jar);
+			JsonObject entry = new JsonObject();
+			JsonArray clientVersions = new JsonArray();
+			clientVersions.add(CLIENT_VERSION);
+			JsonArray instLinks = new JsonArray();
+			instLinks.add(jarUrl.toString());
+			entry.add("versions", clientVersions);
+			entry.add("instLink", instLinks);
+			client.add(id, entry);
+		}
+
+		JsonObject manifest = new JsonObject();
+		manifest.add("versions", manifestVersions);
+		server.put(VERSION_MANIFEST, manifest.toString().getBytes(StandardCharsets.UTF_8));
+		JsonObject installerJson = new JsonObject();
+		installerJson.add("client", client);
+		server.put(INSTALLER_JSON, installerJson.toString().getBytes(StandardCharsets.UTF_8));
+		return minecraftVersions;
+	}
+
+	private JsonObject summarize(List<InstallResult> results, long wallMillis, StandInServer server) {
+		Gson gson = new Gson();
+		long failed = 0;
+		long bytes = 0;
+		long retries = 0;
+		long cacheHits = 0;
+		List<Long> durations = new ArrayList<>();
+		JsonArray installResults = new JsonArray();
+		for (InstallResult result : results) {
+			JsonObject entry = gson.toJsonTree(result).getAsJsonObject();
+			if (!result.isSuccess()) {
+				failed++;
+			}
+			durations.add(result.getDurationMillis());
+			if (result.getReport() != null) {
+				try (Reader reader = Files.newBufferedReader(Paths.get(result.getReport()))) {
+					JsonObject report = gson.fromJson(reader, JsonObject.class);
+					bytes += report.get("bytes").getAsLong();
+					retries += report.get("retries").getAsLong();
+					cacheHits += report.get("cacheHits").getAsLong();
+				} catch (IOException e) {
+					System.out.println("Unable to read install report " + result.getReport() + ": " + e);
+				}
+			}
+			installResults.add(entry);
+		}
+		durations.sort(Comparator.naturalOrder());
+
+		JsonObject faults = new JsonObject();
+		faults.addProperty("latencyMillis", latencyMillis);
+		faults.addProperty("bandwidth", bandwidth);
+		faults.addProperty("errorRate", errorRate);
+		faults.addProperty("disconnectRate", disconnectRate);
+		faults.addProperty("seed", seed);
+
+		JsonObject serverStats = new JsonObject();
+		serverStats.addProperty("requests", server.getRequests());
+		serverStats.addProperty("errors", server.getErrors());
+		serverStats.addProperty("disconnects", server.getDisconnects());
+		serverStats.addProperty("bytesSent", server.getBytesSent());
+
+		JsonObject summary = new JsonObject();
+		summary.addProperty("installs", results.size());
+		summary.addProperty("succeeded", results.size() - failed);
+		summary.addProperty("failed", failed);
+		summary.addProperty("wallMillis", wallMillis);
+		summary.addProperty("p50Millis", percentile(durations, 50));
+		summary.addProperty("p95Millis", percentile(durations, 95));
+		summary.addProperty("maxMillis", durations.get(durations.size() - 1));
+		summary.addProperty("bytes", bytes);
+		summary.addProperty("megabytesPerSecond", wallMillis > 0 ? bytes / 1048.576 / wallMillis : 0);
+		summary.addProperty("retries", retries);
+		summary.addProperty("cacheHits", cacheHits);
+		summary.add("faults", faults);
+		summary.add("server", serverStats);
+		summary.add("results", installResults);
+		return summary;
+	}
+
+	private static long percentile(List<Long> sorted, double percentile) {
+		int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+		return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+	}
+
+	// Random content does not compress, so the jar is about as large as asked
+	private static byte[] jar(Random random, int size) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(size + 64 * 1024);
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			int entry = 0;
+			for (int written = 0; written < size; written += 32 * 1024) {
+				zip.putNextEntry(new ZipEntry("net/morch/C" + entry++ + ".class"));
+				zip.write(randomBytes(random, Math.min(32 * 1024, size - written)));
+				zip.closeEntry();
+			}
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] randomBytes(Random random, int length) {
+		byte[] bytes = new byte[length];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+}
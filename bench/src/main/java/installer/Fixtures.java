@@ -0,0 +1,168 @@
+package installer;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Random;
+
+/**
+ * Generates documents shaped like the real installer.json, Mojang manifest,
+ * version JSON and launcher_profiles.json. Sizes follow what we see in the
+ * wild and the output is deterministic, so runs are comparable.
+ */
+public final class Fixtures {
+
+	private Fixtures() {
+	}
+
+	public static String installerJson(int minecraftVersions) {
+		JsonObject client = new JsonObject();
+		for (int i = 0; i < minecraftVersions; i++) {
+			JsonObject entry = new JsonObject();
+			JsonArray versions = new JsonArray();
+			for (int v = 0; v < 6; v++) {
+				versions.add("1." + v);
+			}
+			JsonArray instLinks = new JsonArray();
+			instLinks.add("https://github.com/MorchClient/releases/releases/download/1.20." + i + "/morch.jar");
+			entry.add("versions", versions);
+			entry.add("instLink", instLinks);
+			client.add("1.20." + i, entry);
+		}
+		JsonObject root = new JsonObject();
+		root.add("client", client);
+		return root.toString();
+	}
+
+	// Newest first, like Mojang's; the oldest id is "v0"
+	public static String versionManifest(int versions) {
+		Random random = new Random(42);
+		JsonArray array = new JsonArray();
+		for (int i = versions - 1; i >= 0; i--) {
+			String sha1 = sha1(random);
+			JsonObject entry = new JsonObject();
+			entry.addProperty("id", "v" + i);
+			entry.addProperty("type", i % 10 == 0 ? "release" : "snapshot");
+			entry.addProperty("url", "https://piston-meta.mojang.com/v1/packages/" + sha1 + "/v" + i + ".json");
+			entry.addProperty("time", "2023-06-12T13:25:51+00:00");
+			entry.addProperty("releaseTime", "2023-06-12T13:25:51+00:00");
+			entry.addProperty("sha1", sha1);
+			entry.addProperty("complianceLevel", 1);
+			array.add(entry);
+		}
+		JsonObject latest = new JsonObject();
+		latest.addProperty("release", "v" + (versions - 1));
+		latest.addProperty("snapshot", "v" + (versions - 1));
+		JsonObject root = new JsonObject();
+		root.add("latest", latest);
+		root.add("versions", array);
+		return root.toString();
+	}
+
+	public static String versionJson(int libraries) {
+		Random random = new Random(7);
+		JsonObject root = new JsonObject();
+
+		JsonObject assetIndex = new JsonObject();
+		assetIndex.addProperty("id", "5");
+		assetIndex.addProperty("sha1", sha1(random));
+		assetIndex.addProperty("size", 412233);
+		assetIndex.addProperty("totalSize", 622713020);
+		assetIndex.addProperty("url", "https://piston-meta.mojang.com/v1/packages/x/5.json");
+		root.add("assetIndex", assetIndex);
+		root.addProperty("assets", "5");
+
+		JsonObject downloads = new JsonObject();
+		for (String name : new String[] { "client", "client_mappings", "server", "server_mappings" }) {
+			JsonObject download = new JsonObject();
+			download.addProperty("sha1", sha1(random));
+			download.addProperty("size", 20000000 + random.nextInt(1000000));
+			download.addProperty("url", "https://piston-data.mojang.com/v1/objects/x/" + name + ".jar");
+			downloads.add(name, download);
+		}
+		root.add("downloads", downloads);
+		root.addProperty("id", "1.20.1");
+
+		JsonArray libraryArray = new JsonArray();
+		for (int i = 0; i < libraries; i++) {
+			String path = "com/example/lib" + i + "/1.0." + i + "/lib" + i + "-1.0." + i + ".jar";
+			JsonObject artifact = new JsonObject();
+			artifact.addProperty("path", path);
+			artifact.addProperty("sha1", sha1(random));
+			artifact.addProperty("size", 10000 + random.nextInt(2000000));
+			artifact.addProperty("url", "https://libraries.minecraft.net/" + path);
+			JsonObject libraryDownloads = new JsonObject();
+			libraryDownloads.add("artifact", artifact);
+			JsonObject library = new JsonObject();
+			library.add("downloads", libraryDownloads);
+			library.addProperty("name", "com.example:lib" + i + ":1.0." + i);
+			if (i % 8 == 0) {
+				JsonObject os = new JsonObject();
+				os.addProperty("name", "osx");
+				JsonObject rule = new JsonObject();
+				rule.addProperty("action", "allow");
+				rule.add("os", os);
+				JsonArray rules = new JsonArray();
+				rules.add(rule);
+				library.add("rules", rules);
+			}
+			libraryArray.add(library);
+		}
+		root.add("libraries", libraryArray);
+		root.addProperty("mainClass", "net.minecraft.client.main.Main");
+		root.addProperty("minimumLauncherVersion", 21);
+		root.addProperty("releaseTime", "2023-06-12T13:25:51+00:00");
+		root.addProperty("type", "release");
+		return root.toString();
+	}
+
+	// Every fourth profile carries a custom base64 icon, which is what makes real files large
+	public static String launcherProfiles(int profiles, int iconBytes) {
+		Random random = new Random(11);
+		byte[] icon = new byte[iconBytes];
+		random.nextBytes(icon);
+		String iconUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(icon);
+
+		JsonObject profileMap = new JsonObject();
+		for (int i = 0; i < profiles; i++) {
+			JsonObject profile = new JsonObject();
+			profile.addProperty("created", "2023-06-12T13:25:51.000Z");
+			profile.addProperty("icon", i % 4 == 0 ? iconUri : "Grass");
+			profile.addProperty("lastUsed", "2023-06-12T13:25:51.000Z");
+			profile.addProperty("lastVersionId", "1.20." + (i % 5));
+			profile.addProperty("name", "Profile " + i);
+			profile.addProperty("type", "custom");
+			profileMap.add(sha1(random), profile);
+		}
+		JsonObject settings = new JsonObject();
+		settings.addProperty("enableSnapshots", false);
+		settings.addProperty("keepLauncherOpen", false);
+		settings.addProperty("profileSorting", "ByLastPlayed");
+		JsonObject root = new JsonObject();
+		root.add("profiles", profileMap);
+		root.add("settings", settings);
+		root.addProperty("version", 3);
+		return root.toString();
+	}
+
+	public static JsonObject profile(String id) {
+		JsonObject profile = new JsonObject();
+		profile.addProperty("created", "2023-06-12T13:25:51.000Z");
+		profile.addProperty("icon", ProfileIcon.dataUri());
+		profile.addProperty("lastUsed", "2023-06-12T13:25:51.000Z");
+		profile.addProperty("name", id);
+		profile.addProperty("type", "custom");
+		profile.addProperty("javaDir", "");
+		profile.addProperty("lastVersionId", id);
+		return profile;
+	}
+
+	private static String sha1(Random random) {
+		byte[] hash = new byte[20];
+		random.nextBytes(hash);
+		return HexFormat.of().formatHex(hash);
+	}
+
+}
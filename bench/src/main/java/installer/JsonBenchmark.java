@@ -0,0 +1,162 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gson tree against streaming for the JSON the installer reads: installer.json,
+ * Mojang's version manifest and the version JSON that modifyClientJson rewrites.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+	private static final int MANIFEST_VERSIONS = 750;
+
+	private String installerJson;
+	private String manifest;
+	private String versionJson;
+
+	@State(Scope.Benchmark)
+	public static class ManifestTarget {
+		// Mojang lists newest first, so "newest" is the common case and "oldest" the worst one
+		@Param({ "newest", "oldest" })
+		public String target;
+
+		String id;
+
+		@Setup
+		public void setUp() {
+			id = target.equals("newest") ? "v" + (MANIFEST_VERSIONS - 3) : "v0";
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		installerJson = Fixtures.installerJson(40);
+		manifest = Fixtures.versionManifest(MANIFEST_VERSIONS);
+		versionJson = Fixtures.versionJson(120);
+	}
+
+	@Benchmark
+	public Map<String, VersionIndex.Entry> installerJsonTree() throws IOException {
+		return VersionIndex.parse(installerJson);
+	}
+
+	@Benchmark
+	public Map<String, List<String>> installerJsonStreaming() throws IOException {
+		Map<String, List<String>> versions = new LinkedHashMap<>();
+		try (JsonReader reader = new JsonReader(new StringReader(installerJson))) {
+			reader.beginObject();
+			while (reader.hasNext()) {
+				if (!reader.nextName().equals("client")) {
+					reader.skipValue();
+					continue;
+				}
+				reader.beginObject();
+				while (reader.hasNext()) {
+					String minecraftVersion = reader.nextName();
+					List<String> clientVersions = new ArrayList<>();
+					reader.beginObject();
+					while (reader.hasNext()) {
+						if (reader.nextName().equals("versions")) {
+							reader.beginArray();
+							while (reader.hasNext()) {
+								clientVersions.add(reader.nextString());
+							}
+							reader.endArray();
+						} else {
+							reader.skipValue();
+						}
+					}
+					reader.endObject();
+					versions.put(minecraftVersion, clientVersions);
+				}
+				reader.endObject();
+			}
+			reader.endObject();
+		}
+		return versions;
+	}
+
+	// What installClient and modifyClientJson used to do for every install
+	@Benchmark
+	public String manifestTree(ManifestTarget target) {
+		JsonObject json = new Gson().fromJson(manifest, JsonObject.class);
+		JsonArray versions = json.getAsJsonArray("versions");
+		for (JsonElement version : versions) {
+			JsonObject versionObject = version.getAsJsonObject();
+			if (versionObject.get("id").getAsString().equals(target.id)) {
+				return versionObject.get("url").getAsString();
+			}
+		}
+		return null;
+	}
+
+	@Benchmark
+	public ManifestResolver.Entry manifestStreaming(ManifestTarget target) throws IOException {
+		try (JsonReader reader = new JsonReader(new StringReader(manifest))) {
+			return ManifestResolver.find(reader, target.id, new HashMap<>());
+		}
+	}
+
+	@Benchmark
+	public String versionJsonTree() {
+		return Client.rewriteVersionJson(new StringReader(versionJson), "morch-1.2-1.20.1");
+	}
+
+	@Benchmark
+	public String versionJsonStreaming() throws IOException {
+		StringWriter out = new StringWriter();
+		try (JsonReader reader = new JsonReader(new StringReader(versionJson));
+				JsonWriter writer = new JsonWriter(out)) {
+			reader.beginObject();
+			writer.beginObject();
+			while (reader.hasNext()) {
+				String name = reader.nextName();
+				if (name.equals("downloads")) {
+					reader.skipValue();
+				} else if (name.equals("id")) {
+					reader.skipValue();
+					writer.name("id").value("morch-1.2-1.20.1");
+				} else {
+					writer.name(name);
+					LauncherProfilesPatcher.copy(reader, writer);
+				}
+			}
+			reader.endObject();
+			writer.endObject();
+		}
+		return out.toString();
+	}
+
+}
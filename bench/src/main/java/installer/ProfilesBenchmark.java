@@ -0,0 +1,90 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Adding our profile to launcher_profiles.json: the old read-modify-write of
+ * the whole Gson tree against LauncherProfilesPatcher's token stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class ProfilesBenchmark {
+	private static final String PROFILE_ID = "morch-1.2-1.20.1";
+
+	@Param({ "20", "400" })
+	public int profiles;
+
+	private Path directory;
+	private Path source;
+	private Path treeTarget;
+	private Path streamingTarget;
+	private JsonObject profile;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("profiles-bench");
+		source = directory.resolve("source.json");
+		treeTarget = directory.resolve("tree.json");
+		streamingTarget = directory.resolve("launcher_profiles.json");
+		Files.writeString(source, Fixtures.launcherProfiles(profiles, 30 * 1024), StandardCharsets.UTF_8);
+		Files.copy(source, streamingTarget);
+		profile = Fixtures.profile(PROFILE_ID);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Benchmark
+	public void tree() throws IOException {
+		JsonObject launcherProfiles;
+		try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+			launcherProfiles = new Gson().fromJson(reader, JsonObject.class);
+		}
+		launcherProfiles.getAsJsonObject("profiles").add(PROFILE_ID, profile);
+		try (Writer writer = Files.newBufferedWriter(treeTarget, StandardCharsets.UTF_8)) {
+			new Gson().toJson(launcherProfiles, writer);
+		}
+	}
+
+	// Replaces the same profile each time, so the file keeps its size across invocations
+	@Benchmark
+	public void streaming() throws IOException {
+		LauncherProfilesPatcher.putProfile(streamingTarget, PROFILE_ID, profile);
+	}
+
+}
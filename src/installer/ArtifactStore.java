@@ -0,0 +1,171 @@
+package installer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local content-addressed store shared by every .minecraft directory on the
+ * machine. Objects live under objects/ab/abcdef... keyed by their SHA-1, which
+ * is the hash Mojang publishes. Files are placed into an instance with a
+ * hardlink when the filesystem allows it and copied otherwise, so installing
+ * the same version N times costs one download. The URL index is shared
+ * too: writers merge into it under a file lock, and readers reload it when
+ * another store or process has changed it.
+ */
+public class ArtifactStore {
+	// One monitor per index file, since a FileLock cannot be taken twice within a process
+	private static final Map<Path, Object> INDEX_LOCKS = new ConcurrentHashMap<>();
+
+	private final Path root;
+	private final Path urlIndexFile;
+	private final Path urlIndexLock;
+	private final Object indexLock;
+	private final Properties urlIndex = new Properties();
+	// Modification time of the index as last read, so entries other writers add are picked up
+	private FileTime urlIndexModified;
+
+	public ArtifactStore() {
+		this(Cache.resolve("objects"));
+	}
+
+	public ArtifactStore(Path root) {
+		this.root = root;
+		this.urlIndexFile = root.resolve("urls.properties");
+		this.urlIndexLock = root.resolve("urls.lock");
+		this.indexLock = INDEX_LOCKS.computeIfAbsent(urlIndexFile.toAbsolutePath().normalize(), path -> new Object());
+	}
+
+	public Path object(String sha1) {
+		String hash = sha1.toLowerCase();
+		return root.resolve(hash.substring(0, 2)).resolve(hash);
+	}
+
+	public boolean contains(String sha1) {
+		return sha1 != null && Files.isRegularFile(object(sha1));
+	}
+
+	// Hash of the content last downloaded from this URL, for sources that do not publish one
+	public String sha1For(URI uri) {
+		String entry = urlEntry(uri);
+		return entry == null ? null : entry.split(" ", 2)[0];
+	}
+
+	// ETag or Last-Modified the server sent with that content, null when it sent neither
+	public String validatorFor(URI uri) {
+		String entry = urlEntry(uri);
+		int space = entry == null ? -1 : entry.indexOf(' ');
+		return space < 0 ? null : entry.substring(space + 1);
+	}
+
+	// The index maps a URL to "sha1" or "sha1 validator"
+	private String urlEntry(URI uri) {
+		synchronized (urlIndex) {
+			loadUrlIndex(false);
+			return urlIndex.getProperty(uri.toString());
+		}
+	}
+
+	// Rereads the index when it changed on disk, or always when forced; callers hold the urlIndex monitor
+	private void loadUrlIndex(boolean force) {
+		try {
+			FileTime modified = Files.isRegularFile(urlIndexFile) ? Files.getLastModifiedTime(urlIndexFile) : null;
+			if (!force && Objects.equals(modified, urlIndexModified)) {
+				return;
+			}
+			Properties loaded = new Properties();
+			if (modified != null) {
+				try (Reader reader = Files.newBufferedReader(urlIndexFile)) {
+					loaded.load(reader);
+				}
+			}
+			urlIndex.clear();
+			urlIndex.putAll(loaded);
+			urlIndexModified = modified;
+		} catch (IOException | IllegalArgumentException e) {
+			// Losing the index only means downloading again
+			System.out.println("Ignoring unreadable artifact url index: " + e);
+		}
+	}
+
+	/**
+	 * Moves a verified file into the store and returns its hash. The source
+	 * file is consumed; if the object is already present it is simply deleted.
+	 * When a source URL is given it is recorded with the hash and the
+	 * server's validator, so the content can be revalidated later.
+	 */
+	public String insert(Path file, String knownSha1, URI source, String validator) throws IOException {
+		String sha1 = knownSha1 != null ? knownSha1.toLowerCase() : Downloader.sha1(file);
+		Path object = object(sha1);
+		if (Files.isRegularFile(object)) {
+			Files.delete(file);
+		} else {
+			Files.createDirectories(object.getParent());
+			Cache.moveAtomically(file, object);
+		}
+
+		if (source != null) {
+			recordUrl(source, validator != null ? sha1 + " " + validator : sha1);
+		}
+		return sha1;
+	}
+
+	// Merges the entry into the index as it is on disk now, so concurrent writers never drop each other's entries
+	private void recordUrl(URI source, String entry) throws IOException {
+		synchronized (indexLock) {
+			Files.createDirectories(root);
+			try (FileChannel channel = FileChannel.open(urlIndexLock, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+				// Held until the channel closes
+				channel.lock();
+				synchronized (urlIndex) {
+					loadUrlIndex(true);
+					if (entry.equals(urlIndex.getProperty(source.toString()))) {
+						return;
+					}
+					urlIndex.setProperty(source.toString(), entry);
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					urlIndex.store(out, null);
+					Cache.writeAtomically(urlIndexFile, out.toByteArray());
+					urlIndexModified = Files.getLastModifiedTime(urlIndexFile);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Puts the object at the destination, replacing whatever was there. Does
+	 * nothing when the destination already holds the same content.
+	 */
+	public void place(String sha1, Path destination) throws IOException {
+		Path object = object(sha1);
+		if (!Files.isRegularFile(object)) {
+			throw new IOException("Object " + sha1 + " is not in the artifact store");
+		}
+		if (Files.isRegularFile(destination)
+				&& (Files.isSameFile(object, destination) || sha1.equalsIgnoreCase(Downloader.sha1(destination)))) {
+			return;
+		}
+
+		Files.createDirectories(destination.getParent());
+		Path temp = destination.resolveSibling(destination.getFileName() + ".link");
+		Files.deleteIfExists(temp);
+		try {
+			Files.createLink(temp, object);
+		} catch (IOException | UnsupportedOperationException e) {
+			// Different volume or no hardlink support, fall back to a plain copy
+			Files.copy(object, temp);
+		}
+		Cache.moveAtomically(temp, destination);
+	}
+
+}
@@ -0,0 +1,141 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Headless entry point for provisioning many instances from scripts:
+ *
+ * <pre>
+ * java -jar installer.jar --batch specs.json [--threads N] [--summary summary.json]
+ * </pre>
+ *
+ * The spec file is a JSON array of objects with minecraftVersion,
+ * clientVersion, minecraftPath, javaPath, profile and prefetch. Installs run through an
+ * {@link InstallScheduler}, at most --threads at a time and one at a time per
+ * .minecraft directory, and a JSON summary is written to stdout or the
+ * --summary file. The exit code is non-zero if any install failed; a spec
+ * without minecraftVersion, clientVersion or minecraftPath fails the whole
+ * batch with exit code 2 before anything is installed.
+ */
+public class BatchInstaller {
+
+	public static int run(String[] args) {
+		String specFile = null;
+		String summaryFile = null;
+		int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--batch":
+					specFile = CommandLine.value(args, ++i);
+					break;
+				case "--threads":
+					threads = Integer.parseInt(CommandLine.value(args, ++i));
+					break;
+				case "--summary":
+					summaryFile = CommandLine.value(args, ++i);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option: " + args[i]);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			specFile = null;
+		}
+		if (specFile == null) {
+			System.err.println("Usage: --batch <specs.json> [--threads N] [--summary <file>]");
+			return 2;
+		}
+
+		List<InstallSpec> specs;
+		try (Reader reader = Files.newBufferedReader(Paths.get(specFile), StandardCharsets.UTF_8)) {
+			InstallSpec[] parsed = new Gson().fromJson(reader, InstallSpec[].class);
+			specs = parsed != null ? Arrays.asList(parsed) : List.of();
+		} catch (IOException | JsonParseException e) {
+			System.err.println("Unable to read spec file " + specFile + ": " + e);
+			return 2;
+		}
+		List<String> invalid = validate(specs);
+		if (!invalid.isEmpty()) {
+			invalid.forEach(System.err::println);
+			return 2;
+		}
+
+		List<InstallResult> results = install(specs, threads);
+
+		JsonObject summary = new JsonObject();
+		long failed = results.stream().filter(result -> !result.isSuccess()).count();
+		summary.addProperty("total", results.size());
+		summary.addProperty("succeeded", results.size() - failed);
+		summary.addProperty("failed", failed);
+		summary.add("results", new Gson().toJsonTree(results));
+
+		try {
+			CommandLine.writeSummary(summary, summaryFile);
+		} catch (IOException e) {
+			System.err.println("Unable to write summary: " + e);
+			return 1;
+		}
+		return failed == 0 ? 0 : 1;
+	}
+
+	// One message per spec that lacks a required field, naming its index in the file
+	static List<String> validate(List<InstallSpec> specs) {
+		List<String> invalid = new ArrayList<>();
+		for (int i = 0; i < specs.size(); i++) {
+			InstallSpec spec = specs.get(i);
+			if (spec == null) {
+				invalid.add("Spec " + i + " is null");
+				continue;
+			}
+			List<String> missing = new ArrayList<>();
+			if (isBlank(spec.getMinecraftVersion())) {
+				missing.add("minecraftVersion");
+			}
+			if (isBlank(spec.getClientVersion())) {
+				missing.add("clientVersion");
+			}
+			if (isBlank(spec.getMinecraftPath())) {
+				missing.add("minecraftPath");
+			}
+			if (!missing.isEmpty()) {
+				invalid.add("Spec " + i + " is missing " + String.join(", ", missing));
+			}
+		}
+		return invalid;
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	public static List<InstallResult> install(List<InstallSpec> specs, int threads) {
+		Client client = new Client(new ConsoleProgressListener("[installer] "));
+		try (InstallScheduler scheduler = new InstallScheduler(client, threads)) {
+			List<InstallScheduler.Job> jobs = new ArrayList<>();
+			for (InstallSpec spec : specs) {
+				jobs.add(scheduler.submit(spec, new ConsoleProgressListener("[" + spec + "] ")));
+			}
+
+			List<InstallResult> results = new ArrayList<>();
+			for (InstallScheduler.Job job : jobs) {
+				results.add(job.getResult().join());
+			}
+			return results;
+		}
+	}
+
+}
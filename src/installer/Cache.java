@@ -0,0 +1,45 @@
+package installer;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+public final class Cache {
+	private static final Path ROOT = Paths.get(System.getProperty("morch.cache",
+			Paths.get(System.getProperty("user.home"), ".morch-installer").toString()));
+
+	private Cache() {
+	}
+
+	public static Path root() {
+		return ROOT;
+	}
+
+	public static Path resolve(String first, String... more) {
+		return ROOT.resolve(Paths.get(first, more));
+	}
+
+	// Write to a sibling temp file and move it over the target so readers never see a half-written file
+	public static void writeAtomically(Path target, byte[] data) throws IOException {
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		try {
+			Files.write(temp, data);
+			moveAtomically(temp, target);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	public static void moveAtomically(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+}
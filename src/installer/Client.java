@@ -1,304 +1,416 @@
 package installer;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.stream.JsonReader;
 
-import javax.swing.*;
-
-import java.io.FileWriter;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
-
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Install core. Everything that touches the network or the .minecraft
+ * directory lives here and reports through a {@link ProgressListener}, so the
+ * same code runs behind the Swing GUI and the headless batch installer.
+ */
 public class Client {
-	private GUI gui;
+	// Runs the steps of the install graph; downloads themselves use the downloader's own pool
+	private static final ExecutorService PIPELINE = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "morch-install");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final ProgressListener listener;
+	private final VersionIndex versionIndex = new VersionIndex();
+	private final ManifestResolver manifestResolver = new ManifestResolver();
+	private final Downloader downloader = new Downloader();
+	private final Prefetcher prefetcher = new Prefetcher(downloader.getStore());
+	private final InstallScheduler scheduler = new InstallScheduler(this);
 
 	public Client(GUI gui) {
-		this.gui = gui;
+		this(new SwingProgressListener(gui));
 	}
 
-	public void updateClientVersions() {
-		String selectedMinecraftVersion = (String) gui.minecraftVersionDropdown.getSelectedItem();
-		List<String> clientVersions = getClientVersions(selectedMinecraftVersion);
-		DefaultComboBoxModel<String> model = new DefaultComboBoxModel<>(clientVersions.toArray(new String[0]));
-		gui.clientVersionDropdown.setModel(model);
+	public Client(ProgressListener listener) {
+		this.listener = listener;
 	}
 
 	public List<String> getMinecraftVersions() {
-		List<String> minecraftVersions = new ArrayList<>();
-
 		try {
-			URL jsonUrl = new URL("https://raw.githubusercontent.com/MorchClient/resources/json/installer.json");
-
-			HttpURLConnection connection = (HttpURLConnection) jsonUrl.openConnection();
-			connection.setConnectTimeout(5000);
-
-			JsonReader jsonReader = new JsonReader(new InputStreamReader(connection.getInputStream()));
-			JsonObject json = new Gson().fromJson(jsonReader, JsonObject.class);
-			JsonObject clientJson = json.getAsJsonObject("client");
-
-			for (String minecraftVersion : clientJson.keySet()) {
-				JsonArray versions = clientJson.getAsJsonObject(minecraftVersion).getAsJsonArray("versions");
-
-				if (!versions.isJsonNull() && versions.size() > 0) {
-					minecraftVersions.add(minecraftVersion);
-				}
-			}
+			return versionIndex.getMinecraftVersions();
 		} catch (IOException e) {
-			gui.statusLabel.setText(
+			listener.status(
 					"Error: Unable to fetch Minecraft versions. Check your internet connection or try again later.");
 			e.printStackTrace();
 		}
 
-		return minecraftVersions;
+		return new ArrayList<>();
 	}
 
 	public List<String> getClientVersions(String minecraftVersion) {
-		List<String> clientVersions = new ArrayList<>();
-
 		try {
-			URL jsonUrl = new URL("https://raw.githubusercontent.com/MorchClient/resources/json/installer.json");
-
-			HttpURLConnection connection = (HttpURLConnection) jsonUrl.openConnection();
-			connection.setConnectTimeout(5000);
+			return versionIndex.getClientVersions(minecraftVersion);
+		} catch (IOException e) {
+			listener.status(
+					"Error: Unable to fetch client versions. Check your internet connection or try again later.");
+			e.printStackTrace();
+		}
 
-			JsonReader jsonReader = new JsonReader(new InputStreamReader(connection.getInputStream()));
-			JsonObject json = new Gson().fromJson(jsonReader, JsonObject.class);
-			JsonObject clientJson = json.getAsJsonObject("client");
+		return new ArrayList<>();
+	}
 
-			if (clientJson.has(minecraftVersion)) {
-				JsonArray versions = clientJson.getAsJsonObject(minecraftVersion).getAsJsonArray("versions");
+	// The first link is the client jar itself; any further links keep their own file name next to it
+	static List<Downloader.Download> planDownloads(List<String> instLinks, String selectedClientVersion,
+			String minecraftPath, String selectedMinecraftVersion) {
+		String versionName = "morch-" + selectedClientVersion + "-" + selectedMinecraftVersion;
+		Path versionDirectoryPath = Paths.get(minecraftPath, "versions", versionName);
+
+		List<Downloader.Download> downloads = new ArrayList<>();
+		Set<String> usedNames = new HashSet<>();
+		for (int i = 0; i < instLinks.size(); i++) {
+			URI uri = URI.create(instLinks.get(i));
+			String fileName;
+			if (i == 0) {
+				fileName = versionName + ".jar";
+			} else {
+				String path = uri.getPath() != null ? uri.getPath() : "";
+				fileName = path.substring(path.lastIndexOf('/') + 1);
+				if (fileName.isEmpty()) {
+					fileName = versionName + "-" + i + ".jar";
+				}
+			}
+			if (!usedNames.add(fileName)) {
+				fileName = i + "-" + fileName;
+				usedNames.add(fileName);
+			}
+			Path base = i == 0 ? findBaseJar(minecraftPath, selectedClientVersion, selectedMinecraftVersion) : null;
+			downloads.add(new Downloader.Download(uri, versionDirectoryPath.resolve(fileName), null, base));
+		}
+		return downloads;
+	}
 
-				for (int i = 0; i < versions.size(); i++) {
-					String version = versions.get(i).getAsString();
-					clientVersions.add(version);
+	/**
+	 * The installed client jar most like the one about to be downloaded, to
+	 * rebuild it from with a delta: the same version if it is already there,
+	 * otherwise the newest install for the same Minecraft version, otherwise
+	 * the newest install at all. Null if nothing is installed.
+	 */
+	static Path findBaseJar(String minecraftPath, String selectedClientVersion, String selectedMinecraftVersion) {
+		String versionName = "morch-" + selectedClientVersion + "-" + selectedMinecraftVersion;
+		Path best = null;
+		int bestRank = -1;
+		long bestModified = Long.MIN_VALUE;
+		try (DirectoryStream<Path> versions = Files.newDirectoryStream(Paths.get(minecraftPath, "versions"), "morch-*")) {
+			for (Path directory : versions) {
+				String name = directory.getFileName().toString();
+				Path jar = directory.resolve(name + ".jar");
+				if (!Files.isRegularFile(jar)) {
+					continue;
+				}
+				int rank = name.equals(versionName) ? 2 : name.endsWith("-" + selectedMinecraftVersion) ? 1 : 0;
+				long modified = Files.getLastModifiedTime(jar).toMillis();
+				if (rank > bestRank || (rank == bestRank && modified > bestModified)) {
+					best = jar;
+					bestRank = rank;
+					bestModified = modified;
 				}
 			}
 		} catch (IOException e) {
-			gui.statusLabel.setText(
-					"Error: Unable to fetch client versions. Check your internet connection or try again later.");
-			e.printStackTrace();
+			// No versions directory yet, or an unreadable one; a full download works either way
 		}
-
-		return clientVersions;
+		return best;
 	}
 
-	public void downloadAndPlaceJar(String instLink, String selectedClientVersion, String minecraftPath,
-			String selectedMinecraftVersion) {
-		try {
-			URL jarUrl = new URL(instLink);
+	// Queues the install and reports through this client's listener; the returned job can be cancelled
+	public InstallScheduler.Job installClient(String selectedClientVersion, String selectedMinecraftVersion, String minecraftPath, String javaPath, boolean addLauncherProfile, boolean prefetch) {
+		InstallSpec spec = new InstallSpec(selectedMinecraftVersion, selectedClientVersion, minecraftPath, javaPath,
+				addLauncherProfile, prefetch);
+		return scheduler.submit(spec, listener);
+	}
 
-			// Set a timeout for the URL connection (e.g., 5000 milliseconds)
-			HttpURLConnection connection = (HttpURLConnection) jarUrl.openConnection();
-			connection.setConnectTimeout(5000);
+	/**
+	 * Installs one client version into one .minecraft directory on the
+	 * calling thread. Failures are reported to the listener and in the result,
+	 * never thrown. Every install leaves a timing report in the cache.
+	 * <p>
+	 * This does not guard the target directory against concurrent installs;
+	 * go through an {@link InstallScheduler} for that.
+	 */
+	public InstallResult install(InstallSpec spec, ProgressListener listener) {
+		return install(spec, listener, () -> false);
+	}
 
-			InputStream in = connection.getInputStream();
+	// Same, but gives up before the next step once cancelled returns true
+	public InstallResult install(InstallSpec spec, ProgressListener listener, BooleanSupplier cancelled) {
+		long start = System.nanoTime();
+		InstallReport report = new InstallReport(spec);
+		InstallResult result = runInstall(spec, listener, cancelled, report, start);
+		Path reportFile = report.finish(result.isSuccess());
+		if (reportFile != null) {
+			System.out.println("Install took " + report.getTotalMillis() + " ms, report saved as: " + reportFile);
+			result.setReport(reportFile.toString());
+		}
+		return result;
+	}
 
-			// Create the .minecraft/versions folder if it doesn't exist
-			Path versionsPath = Paths.get(minecraftPath, "versions");
-			Files.createDirectories(versionsPath);
+	/**
+	 * Runs the install as a small task graph. The version JSON and the
+	 * install links are looked up at the same time, jar downloads start as
+	 * soon as the links are known and overlap the version JSON rewrite, and
+	 * the profile is written only after both have landed. When asked to,
+	 * libraries and assets are prefetched alongside once the version JSON is
+	 * known; a failed prefetch is reported but does not fail the install, as
+	 * the launcher fetches anything missing itself. The first branch to fail
+	 * stops the others at their next step or transfer, and its failure is
+	 * the one reported.
+	 */
+	private InstallResult runInstall(InstallSpec spec, ProgressListener listener, BooleanSupplier cancelled,
+			InstallReport report, long start) {
+		String manifestError = "Error: Unable to fetch or modify Mojang's version manifest. Check your internet connection or try again later.";
+		String downloadError = "Error: Unable to download and place JAR file. Check your internet connection or try again later.";
+
+		// Every transfer of the install counts towards one progress bar
+		TransferProgress progress = new TransferProgress();
+		AtomicReference<StageFailure> firstFailure = new AtomicReference<>();
+		BooleanSupplier stop = () -> cancelled.getAsBoolean() || firstFailure.get() != null;
+
+		// Resolve the selected version from Mojang's manifest, then modify client JSON
+		CompletableFuture<Path> versionJson = CompletableFuture.supplyAsync(() -> stage(stop, report,
+				"manifest-resolve", manifestError, () -> {
+					ManifestResolver.Entry entry = manifestResolver.resolve(spec.getMinecraftVersion());
+					if (entry == null) {
+						throw new StageFailure("Error: Selected Minecraft version not found in Mojang's manifest.",
+								"Minecraft version not found in Mojang's manifest", null);
+					}
+					return entry;
+				}), PIPELINE)
+				.thenApplyAsync(selectedVersionInfo -> stage(stop, report, null, manifestError,
+						() -> modifyClientJson(spec.getClientVersion(), spec.getMinecraftVersion(),
+								spec.getMinecraftPath(), selectedVersionInfo, report)), PIPELINE);
+
+		// Look up the install links in the shared installer.json index and fetch every artifact concurrently
+		CompletableFuture<Void> artifacts = CompletableFuture.supplyAsync(() -> stage(stop, report,
+				"index-lookup", manifestError, () -> versionIndex.getInstLinks(spec.getMinecraftVersion())), PIPELINE)
+				.thenAcceptAsync(instLinks -> {
+					if (instLinks.isEmpty()) {
+						return;
+					}
+					List<Downloader.Download> downloads = planDownloads(instLinks, spec.getClientVersion(),
+							spec.getMinecraftPath(), spec.getMinecraftVersion());
+					stage(stop, report, "artifact-download", downloadError, () -> {
+						downloader.downloadAll(downloads, progress, report, stop, download -> System.out
+								.println("Downloaded and placed JAR file at: " + download.getDestination()));
+						return null;
+					});
+				}, PIPELINE);
+		for (CompletableFuture<?> branch : List.of(versionJson, artifacts)) {
+			branch.whenComplete((result, error) -> {
+				if (error != null) {
+					firstFailure.compareAndSet(null, failure(error, manifestError));
+				}
+			});
+		}
 
-			// Define the destination directory for the JAR file
-			String versionName = "morch-" + selectedClientVersion + "-" + selectedMinecraftVersion;
-			Path versionDirectoryPath = Paths.get(versionsPath.toString(), versionName);
+		// The profile points at the version, so it is only written once the version is complete
+		CompletableFuture<Void> profile = CompletableFuture.allOf(versionJson, artifacts).thenRunAsync(() -> {
+			if (spec.isProfile()) {
+				stage(stop, report, "profile-write", manifestError, () -> {
+					addClientToLauncherProfile(spec.getClientVersion(), spec.getMinecraftVersion(),
+							spec.getJavaPath(), spec.getMinecraftPath());
+					return null;
+				});
+			}
+		}, PIPELINE);
+
+		// Libraries and assets for the first launch, downloaded under their own bandwidth cap
+		AtomicBoolean prefetchFailed = new AtomicBoolean();
+		CompletableFuture<Void> prefetch = versionJson.thenAcceptAsync(versionJsonObject -> {
+			if (spec.isPrefetch()) {
+				stage(stop, report, "prefetch", manifestError, () -> {
+					int fetched = prefetcher.prefetch(versionJsonObject, spec.getMinecraftPath(), progress, report,
+							stop);
+					System.out.println("Prefetched " + fetched + " libraries and assets");
+					return null;
+				});
+			}
+		}, PIPELINE).exceptionally(error -> {
+			// A failed branch or a cancel is reported through its own branch
+			if (!versionJson.isCompletedExceptionally() && !stop.getAsBoolean()) {
+				prefetchFailed.set(true);
+				error.printStackTrace();
+			}
+			return null;
+		});
 
-			// Create the version directory if it doesn't exist
-			Files.createDirectories(versionDirectoryPath);
+		// Wait for every branch to settle so nothing is still writing when we report
+		ProgressReporter reporter = ProgressReporter.start(progress, listener);
+		try {
+			for (CompletableFuture<?> task : List.of(versionJson, artifacts, profile, prefetch)) {
+				try {
+					task.join();
+				} catch (CompletionException e) {
+					firstFailure.compareAndSet(null, failure(e, manifestError));
+				}
+			}
+		} finally {
+			reporter.close();
+		}
+		StageFailure failure = firstFailure.get();
+		if (failure != null) {
+			listener.status(failure.status);
+			if (failure.getCause() != null) {
+				failure.getCause().printStackTrace();
+			}
+			return InstallResult.failure(spec, failure.error, start);
+		}
 
-			// Define the destination path for the JAR file
-			String jarFileName = versionName + ".jar";
-			Path destinationPath = Paths.get(versionDirectoryPath.toString(), jarFileName);
+		if (prefetchFailed.get()) {
+			listener.status("Installation completed, but libraries and assets could not be prefetched. The launcher will download them on first start.");
+		} else {
+			listener.status("Installation completed successfully!");
+		}
+		return InstallResult.success(spec, start);
+	}
 
-			// Copy the JAR file to the destination path
-			Files.copy(in, destinationPath, StandardCopyOption.REPLACE_EXISTING);
+	private interface Step<T> {
+		T run() throws IOException;
+	}
 
-			System.out.println("Downloaded and placed JAR file at: " + destinationPath.toString());
-			SwingUtilities.invokeLater(() -> gui.statusLabel.setText("Installation completed successfully!"));
-		} catch (IOException e) {
-			// Handle the exception and display an error message in the status label
-			SwingUtilities.invokeLater(() -> gui.statusLabel.setText(
-					"Error: Unable to download and place JAR file. Check your internet connection or try again later."));
-			e.printStackTrace();
+	// Runs one step of the graph, timed as a phase when named, and turns failures into a StageFailure
+	private static <T> T stage(BooleanSupplier cancelled, InstallReport report, String phaseName, String status,
+			Step<T> step) {
+		if (cancelled.getAsBoolean()) {
+			throw new StageFailure("Installation cancelled.", "Cancelled", null);
+		}
+		try (InstallReport.Timer phase = phaseName != null ? report.phase(phaseName) : null) {
+			T result = step.run();
+			if (phase != null) {
+				phase.succeed();
+			}
+			return result;
+		} catch (IOException | RuntimeException e) {
+			if (e instanceof StageFailure) {
+				throw (StageFailure) e;
+			}
+			if (cancelled.getAsBoolean()) {
+				throw new StageFailure("Installation cancelled.", "Cancelled", null);
+			}
+			throw new StageFailure(status, e.toString(), e);
 		}
 	}
 
-	public void installClient(String selectedClientVersion, String selectedMinecraftVersion, String minecraftPath, String javaPath, boolean addLauncherProfile) {
-		new Thread(() -> {
-			try {
-				// Fetch Mojang's version manifest
-				URL mojangJsonUrl = new URL("https://launchermeta.mojang.com/mc/game/version_manifest.json");
-				HttpURLConnection mojangConnection = (HttpURLConnection) mojangJsonUrl.openConnection();
-				mojangConnection.setConnectTimeout(5000);
-				JsonReader mojangJsonReader = new JsonReader(new InputStreamReader(mojangConnection.getInputStream()));
-				JsonObject mojangJson = new Gson().fromJson(mojangJsonReader, JsonObject.class);
-
-				// Find the version information for the selectedMinecraftVersion
-				JsonArray versions = mojangJson.getAsJsonArray("versions");
-				JsonObject selectedVersionInfo = null;
-				for (JsonElement version : versions) {
-					JsonObject versionObject = version.getAsJsonObject();
-					if (versionObject.get("id").getAsString().equals(selectedMinecraftVersion)) {
-						selectedVersionInfo = versionObject;
-						break;
-					}
-				}
+	// The StageFailure behind a failed branch
+	private static StageFailure failure(Throwable error, String status) {
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		return cause instanceof StageFailure ? (StageFailure) cause : new StageFailure(status, cause.toString(), cause);
+	}
 
-				if (selectedVersionInfo != null) {
-					// Modify client JSON
-					modifyClientJson(selectedClientVersion, selectedMinecraftVersion, minecraftPath);
-
-					// Fetch modified MorchClient's JSON
-					URL morchJsonUrl = new URL(
-							"https://raw.githubusercontent.com/MorchClient/resources/json/installer.json");
-					HttpURLConnection morchConnection = (HttpURLConnection) morchJsonUrl.openConnection();
-					morchConnection.setConnectTimeout(5000);
-					JsonReader morchJsonReader = new JsonReader(
-							new InputStreamReader(morchConnection.getInputStream()));
-					JsonObject morchJson = new Gson().fromJson(morchJsonReader, JsonObject.class);
-					JsonObject clientJson = morchJson.getAsJsonObject("client");
-
-					if (clientJson.has(selectedMinecraftVersion)) {
-						JsonArray instLinks = clientJson.getAsJsonObject(selectedMinecraftVersion)
-								.getAsJsonArray("instLink");
-
-						SwingUtilities.invokeLater(() -> gui.progressBar.setMaximum(instLinks.size()));
-
-						for (int i = 0; i < instLinks.size(); i++) {
-							String instLink = instLinks.get(i).getAsString();
-							downloadAndPlaceJar(instLink, selectedClientVersion, minecraftPath,
-									selectedMinecraftVersion);
-
-							if (i % 5 == 0) {
-								int finalI = i;
-								SwingUtilities.invokeLater(() -> gui.progressBar.setValue(finalI + 1));
-							}
-						}
-
-						SwingUtilities.invokeLater(() -> gui.progressBar.setValue(instLinks.size()));
-					}
-				} else {
-					SwingUtilities.invokeLater(() -> gui.statusLabel
-							.setText("Error: Selected Minecraft version not found in Mojang's manifest."));
-				}
-			} catch (IOException e) {
-				SwingUtilities.invokeLater(() -> gui.statusLabel.setText(
-						"Error: Unable to fetch or modify Mojang's version manifest. Check your internet connection or try again later."));
-				e.printStackTrace();
-			}
-		}).start();
-		if (addLauncherProfile) addClientToLauncherProfile(selectedClientVersion, selectedMinecraftVersion, javaPath, minecraftPath);
+	// What the user is told and what goes into the result when a step fails
+	private static class StageFailure extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private final String status;
+		private final String error;
+
+		StageFailure(String status, String error, Throwable cause) {
+			super(error, cause);
+			this.status = status;
+			this.error = error;
+		}
 	}
 
-	private void modifyClientJson(String selectedClientVersion, String selectedMinecraftVersion, String minecraftPath) {
-		try {
-			// Fetch Mojang's version manifest
-			URL mojangJsonUrl = new URL("https://launchermeta.mojang.com/mc/game/version_manifest.json");
-			HttpURLConnection mojangConnection = (HttpURLConnection) mojangJsonUrl.openConnection();
-			mojangConnection.setConnectTimeout(5000);
-			JsonReader mojangJsonReader = new JsonReader(new InputStreamReader(mojangConnection.getInputStream()));
-			JsonObject mojangJson = new Gson().fromJson(mojangJsonReader, JsonObject.class);
-
-			// Find the version information for the selectedMinecraftVersion
-			JsonArray versions = mojangJson.getAsJsonArray("versions");
-			JsonObject selectedVersionInfo = null;
-			for (JsonElement version : versions) {
-				JsonObject versionObject = version.getAsJsonObject();
-				if (versionObject.get("id").getAsString().equals(selectedMinecraftVersion)) {
-					selectedVersionInfo = versionObject;
-					break;
-				}
-			}
+	// Returns Mojang's original version JSON in the artifact store
+	private Path modifyClientJson(String selectedClientVersion, String selectedMinecraftVersion, String minecraftPath,
+			ManifestResolver.Entry selectedVersionInfo, InstallReport report) throws IOException {
+		// Fetch the URL for the selected version from the manifest
+		String versionUrl = selectedVersionInfo.getUrl();
+		Path versionJsonObject;
+		try (InstallReport.Timer phase = report.phase("version-json-fetch")) {
+			versionJsonObject = downloader.fetchObject(URI.create(versionUrl), selectedVersionInfo.getSha1(), report);
+			phase.succeed();
+		}
 
-			if (selectedVersionInfo != null) {
-				// Fetch the URL for the selected version from the manifest
-				String versionUrl = selectedVersionInfo.get("url").getAsString();
-				URL versionJsonUrl = new URL(versionUrl);
-				HttpURLConnection versionConnection = (HttpURLConnection) versionJsonUrl.openConnection();
-				versionConnection.setConnectTimeout(5000);
-				JsonReader versionJsonReader = new JsonReader(
-						new InputStreamReader(versionConnection.getInputStream()));
-				JsonObject versionJson = new Gson().fromJson(versionJsonReader, JsonObject.class);
-
-				// Modify version ID, remove downloads, and rename the JSON file
-				String morchVersion = "morch-" + selectedClientVersion + "-" + selectedMinecraftVersion;
-				versionJson.addProperty("id", morchVersion);
-				versionJson.remove("downloads");
-
-				// Create the directory if it doesn't exist
-				Path versionDirPath = Paths.get(minecraftPath, "versions", morchVersion);
-				Files.createDirectories(versionDirPath);
-
-				// Save the modified JSON to a file with the new version ID
-				String jsonFileName = morchVersion + ".json";
-				Path jsonFilePath = versionDirPath.resolve(jsonFileName);
-				Files.write(jsonFilePath, new Gson().toJson(versionJson).getBytes());
-
-				System.out.println("Modified client JSON and saved as: " + jsonFilePath.toString());
-			} else {
-				SwingUtilities.invokeLater(() -> gui.statusLabel
-						.setText("Error: Selected Minecraft version not found in Mojang's manifest."));
+		String morchVersion = "morch-" + selectedClientVersion + "-" + selectedMinecraftVersion;
+		Path jsonFilePath;
+		try (InstallReport.Timer phase = report.phase("version-json-write")) {
+			String modifiedJson;
+			try (Reader reader = Files.newBufferedReader(versionJsonObject)) {
+				modifiedJson = rewriteVersionJson(reader, morchVersion);
 			}
-		} catch (IOException e) {
-			SwingUtilities.invokeLater(() -> gui.statusLabel.setText(
-					"Error: Unable to fetch or modify Mojang's version manifest. Check your internet connection or try again later."));
-			e.printStackTrace();
+
+			// Create the directory if it doesn't exist
+			Path versionDirPath = Paths.get(minecraftPath, "versions", morchVersion);
+			Files.createDirectories(versionDirPath);
+
+			// Save the modified JSON to a file with the new version ID
+			String jsonFileName = morchVersion + ".json";
+			jsonFilePath = versionDirPath.resolve(jsonFileName);
+			Files.write(jsonFilePath, modifiedJson.getBytes());
+			phase.succeed();
 		}
+
+		System.out.println("Modified client JSON and saved as: " + jsonFilePath.toString());
+		return versionJsonObject;
+	}
+
+	// Modify version ID and remove downloads so the launcher treats it as our own version
+	static String rewriteVersionJson(Reader reader, String morchVersion) {
+		JsonObject versionJson = new Gson().fromJson(reader, JsonObject.class);
+		versionJson.addProperty("id", morchVersion);
+		versionJson.remove("downloads");
+		return new Gson().toJson(versionJson);
 	}
-	public void addClientToLauncherProfile(String selectedClientVersion, String selectedMinecraftVersion, String javaDir, String minecraftPath) {
-        try {
-        	String b64 = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAMgAAADICAYAAACtWK6eAAAgAElEQVR4nOy926/syXXf96nb79KXvXuf69w5JEXKIiPJcWJLESJYQQIjgCHDsUUBBgIjT3rxY/IcK/9CEgFBnqKHIAIFJwESI3kIAiMWHEKyEymiKFESRQ5nOHMu+9rdv1td81DVvQ/JvUc80tGZQ7nXy8z0nv5VV/1qVa3L97sWHOQgBznIQQ5ykIMc5CAHOchBDnKQgxzkIAc5yEEOcpCDHOQgBznIQQ5ykIMc5CAHOchBDnKQgxzkIAc5yEEO8sqJ+KR/wEEO8irKL/0nP/ePo/UHBTnIQW6S3/in/3kaux79Sf+QgxzkVZS6hko2BwU5yEFuEuclMaSDghzkIDdJWwkw6qAgBznITbLZTiRxUJCDHORG8QHGbn1QkIP85Zdf/TtHX/47X6i/pKXE9SMIELWhv/9Znvy1v423jroy2JRoqorJeuq2orsUBwU5yL8GEgIqgR8mQgyYqkJFGF3gg28/paorQgJBwo2B2bzGek+K4aAgB/nLL0EJ9LwlWIsxBgREozBKMlvMqbVksB4lYNbWJAGm0SQfDwpykL/8ohIMZxeklCBE9KKF0SIbw517c0JIHCuJ9x6kYZpG6rYCOCjIQf7ySyQhpUbPG/wwIawnVhq/HenXE5HExTAhgEprkpSE4IBDHuQg/xqImbWYVYOwHmEUIoJ0gWYxQxrBcjHD1IbFrMJZh9IaIQTDOB0U5CA/XPKz/+anf+EnPn/vF2dNhQ0BoxRaKXwICOBqO3C8aJmCo9WGylScfH750+8/XKC1IpLQShG8Z6yPsaNj2E4oJRm6gYSEmLj68BFX2+6gIAf54ZJ5q774qdePv5REIgXBctbgfSDJRPCJe3caaq3pBs+iqdBasV085BtihhGKEMBoTaoEwQeStZAijamYYkIRCSTef/8J3TQeFOQgP1yyOmp488FRviWc52o7sGhn1JWiGx2NUSilmJxlHAPLec2DN1bUszntvOHyYoPRiqapQArG0dJWFd3kOCKhtEZpQf/hEmvbg4Ic5IdL1lvLxdXEH713zuqoRaTEZuNIMmGUJoTI1XbgzvEMaz2bzhEWa45OJOOHFyyO5vTrnks9kWJEacXTcYtSoKUixkQg8eSsx7lDHuQgP2QiJUiVePPhEaO1mfIXIZEQImKM4P7JnNFbjNEkPFpCraA6nhGDQ2qB1gLrEpqImVekEIgpopQG54CI1ocw70F+yGS1aLh/sqRtDJN1XG0G2lYzbxqG0XP3eMFV17HpNFUlqKuKNx6eYI6PMUZyeb6mkgJTG0xVMUyOdlaz3QxokUgxULdLxsfHhHCAmhzkFZXX3lx8Kf+beubTgKzkFx6fr5FCYrRCKUm3DfR9h4+Rj84uOWpnIGGzDVjj+OCDp8hHZ9RVzWQds6YmIhACxmlEJDBKI7SEKECuOb3sWR8YhQd5VeWv/dQ7X5ZCEFNCiIQQkpQin/vMfVbLFqMF3eA4XtZUUmFjoDEVHzw5Zz5XrDvLgztz5k3DaEc++vCS1bLhcjPy4GSJUhIQCBKnl1vmrWG0geN5AwjeeXiHbz8+QE0O8oqKUoIYE6SYa4sIIMH5uqMJiZPFDAQ8errG2kDbVmy6Mxazik3nEEnwre+cU1WKBPSjwyhDSvDehxdoLVBKcb7uub9acLm1EBNPz86YtQYXzgkHRuFBXlVJEUgJIQRCCFJMCJlP/VpX9KNn8o7LzcDDkyNSEsyahmnyjJPFBkdwUJkKpQSVSmx7y+Am7BQ5XrQoJVnN5wyDx6fAuhu5e7QgJUmlFTb4g4Ic5FWVRAKkEKSUkFICcDSvefu1I1xIQOCd147QQmOjo61qhIBhdCQRMUKjtMSFgFFzrAsotWCyjuPFjH6yGKUIIeX0YFoi0SQRqE2+bQ4KcpBXUlJK2aoqypF9EVh3Ex8+3dKPEwjYdBPH84amqkBYSNCNI9vBsphVNKZCKYmUgn6w+OQZJ8/xbMAYDQms98QU2Q4Ts9oURcvEqoOCHOTVFJFLtgkgxggim11GK0IMrJYtQghOFi39ZKkqyWQ9xihOqhmv3T3mctuhlaCpNFfdwJ2jGZN3rOYw2kBTKS67gaNZQ0yRk+WMdTdQVRKlJNv+AFY8yCsqv/QT/xanFxfcPT6mH3tmzQypFBu/xZnAatEyWEtlDK/pJZP3KCF5fL7m3mrJ4Cyfev2EtqrZDAMuOFZHNd2UWLZZuZIVLFzF2Duaqia6wJ3ZPUbn+Rf/9/9LdahqcpBXVR6dXtENPTFJunHC+w2r5YJgAuNk6QaLQCKlJfhE02gm67HBcXrZMUyeszSwmNW4EOlGy5OLLePkObsYWTQ1eMHmtENK6HWm2cbQMWsqKq3g4IMc5FWVO8ctx8sZR/MZj0+fonVNUytEA17XrBYzNuPIZjty994cHyPTFFjNT7AhMDlLigJT5UTjfDDcWy14ur5CoahqTZpATYK7x0suNx0hKlaLBS54UvkdBwU5yCspZ1dbQoh88PiU5bzh9OqC5XzGcDXSHNV8dLph3lY473n/oyuESiipuNwMuSKikTgbMJUipgQJnl52LOc1m+2W+azGDR5GuNj0tLUhhMDl5hwI+BDQ6mBiHeQVldFGIBFi4mK9oW1atv1IqhPWepRUnK07aqORSeBsoDY5Nz5YS7KJRhv63iKkQCtJCInTqy211my2IwSBsCCE5PxqjTEaLQ2T9SgpUVIeFOQgr6Z85s37dMPIYtby9PySWgvadkZ7VLGJPU2t8SHSDROzxtBUNcNkqYzGh4BzEUSgrRuMklxsMtNwM/R4F1nOG3Q0nD/qWLQN236GkgIloWlazp8+Ir0KnPRf+sW/+48lzxh7MYf1/s+v/Oav//G3H33tRYzx4+82f/Mn321+jpJskhK8j8hn/h+pZQ4nAjFy/TcpgYhE4uMz35Hk+HzMX4hcfyc/K0/m+5/1ceN//3e+73NbYbcSKSWy/B3A2siX/78P/4sXsV4vS955bfGFf+Od177kfURryellT6Ul91YLvnH2iMlajqYMXa8wPDrrkVuBSx5BBivWleHJ2QAih4Kd8yzqBk8kBYFSA270ROt5rCp88DRNy3e+fYESgbG32MljjOZs3THZwDsPj7nqxlcjivWP/uP/6JdJiRRBqF3sO/HN9x997UUpyE9+pvm5f/jv3/3lGHOySQiRnbAUQUhEzJUvhLweP6WcxQ0xIUXGAuXvpByjj9mNE1J81+ciQUgJJbImpKJ0QmRs0ceNL3+AZ42nDZtHNUqQf5uSCMDH9EOnIPcXiy/+jS989pfT1COaBasqsOkmEnByZ8H5ZouoE0pLtJG0Ry0uBKQVVEYy2YAQieXMkCQoJJddjzIwTZF5uVnG4LnabKhnAu8iWkWOjcYHwVZKhOwJZsa7r9dsugkXEstZnfnun/QiSSnKCZkgpusTU/3p3/2Bx0CWcbKzJsqGh3wSR2Le8FGglCCkDJZLiVw0JuXbYpfVFUIQUsgbOQmUFPkGkRlxKkIiJYEWAi8Eqoz3p47/Azyr0opWC9pK4xLIFIkxIdULXLCXJDYEku1Zzmu+8Z1HbGqD1QseNIGqgRUNb92/w2W3ZdtZ5jON1g3nV1vur5aAYHKWaQq0reFqO/L2wyNqUwGJ9XagrgVN0DA1vH7vLpebjkSkMZp+cqSrixvH7ydHpV4BNG9KkGIqNsV3425epIRQTm8yhFoJQSpw6hgTErm/JVRRhhAjApFP9pRQMitNTLsb5vp3ioIZijEhEOXGiNff+UHGz8fExz5rComA5GL0pJRIMVEZTQzxha/ZX7RUSqGVRJqW+6s5d45mjJPH+kRwEpEUv/cnj5i1mnH0KGkIacLImg8ebdAmw0dOlnM2naNSFX0feTxcUhlF9AnQ+CmhdcN7j85RKpu3YaZwPt06/rKtSa9CmDfF/JKlkvuOiSmlP+1rzyWRmJGhZOyClHmTS7G7VRKobN6IApNLKUHMJtT+/015w6ZYnpWvg2yePaPsWqusXCIrGokfaPxnVuXWZxklEBoWJtdwSgmUFAzuh09BtoPFh4gdO2Z1LhoNsFzdpWkEKSnuntzhsuswSrKca0afD5d7d05Ydx2LuUYhCQQqLRBCszo65rLvaFSNVKCtQArBnaNjur7D+sjJsua9jza3jr8+O4VXQUEApM6bTklJCBGpX3DrxJixPUkkRMoKmBKknc9RbgitJM4HlFbZDVD5892JTjnh84/Om1vJcjsoUVwKQUwx+y8h5Nsw/WDjS5m/o5S89Vk+JDY2IpzDh4gkkVJA6xd/6/5Fi1K5SIJWikpLLobA2fkln28rLtcVKQqEtHTjhFKCYfIs2pqr0bLeOkKMjJNDKUFTVazdwGLW0I0D1nm20qGkorKKaYgY5dkOPQLoR4/8mPEn66grzSe/qgWEJvbsMYguvNgxdibb7opAkgMDMW/cogS+OOTBh+yIlxsjlg0eQ1GP4qRLmf8myOYQcncLCULxI2KIe+DdnzZ+LIGBj3uWTwnnA/3kCTHhE9gI9gUv2cuQtlLlUPJ8eyN4sKx4/e4R55seHxLn2w3eJUiScfSMU6SfPKPNPBBr83uaxoi1ER8TH55eME2eyhi63uN9YvKRrt+y7Qesi8Qk6KaIlPLW8Y3Re0TxJyq//T//atrtHyR7c+R/+dV/wtd/52v01nJnseBss+FkPufR0PH1cQu7vZb3MZD4r/7uFxiGidrkGHllNEIKuskjSeiihNpolIDOBhotGSdHUylsSPu6St3kid5TGYX3kabWIATrfqQft8gkSaIoSbH/9/wFxJ4mGoNn8can6eo5TWWYnGc5n6OU4mrTcef8g/34PkGlJDYkzq/Ob3zWcr5ASnPjXMSnPsfp5QV3jo7Y9CMnR0sqU/H+7/5LGjdQDESEFIQY+Zff2fz6r3zl8S/+Rb/jn/+rb375cw+XX1JK7s0YrSRf+/Dy1//333104/j/23/9D9NH5xecLOb0o80EJ6no7UQ3TDSVxtrA0WKGloLBOcSlunH+f/LBd/jmRxe89cZDtus1PkbaytB1Hf1mjVaSbrRoJfd7SascjPnETSypBSnEbKYkgVTZ1r53fMRHsxkIwd2jIyqt2XQdac8wi/sTVhQ65ofnPSlFmhqsC0xuZG4UKMVkHZXJ9Eu/nSAJmkpxsQ1IARsXEcDT9URjFAEIIVD5hA8Rt51otELKiFE6VwKP7CNOMUa0UqQU8T5nYqXKWdrTyzVnYqJtW0jwwZNzfBCcHM2ZLof9+DEmvI/lZL35WZvB4WK8cS7vv/chQiS2QwAB3/rwjNVyzsoYpB9xIeSIWhLk4PDLOR9D8besC8SUMFohhUDJ2yNvX/3GR/gYmCbop4mv/vFjHp4sMMZw2XXM2xopJN9+fElwcGc1Y/1hd+P8raz48c+8zh98+wmfeu2EDy4tTSU5vww4H/YXfIz5t6WUMt1WvQIKsguVyuKkppRPuPP1mrP1mkXb0g0Dm77HGMPdecsfDZucJygOtUCAEMxqRYoZIpBkoG7M3ilWlUYriQ25WJhSEiGgEQojBC7mfIOqNVIKjIBYIAopRuqMY8hNVlwABDv3ghKuhkRMoJXKplmMCCEwRrGsF7R1xTBNuV7sskZIaKrr8ZFQlfFDvPlZWksMN89l3jbUJuOTpEyo4wVGSxh3+RTxDPlIIF6ihV0bjQsTWuUxhRDIj9HP42WDszkcG5PntbtLqkqjlOA4tbS1wQZPYwzzowohxa3zH7ZbRtPSzBdcbUfmKnG2HlktG87GjpSg0gWztUs9pIRSrwTURBBTyEoiBUIKhJD4lHjz3j0+urigHwbuHh9ztV5zPnaFRZPybVJOQSEEizpPJ4TEoqpxPmIqTTc6FjNNiIlFrXLGXEoGG1i0ZQkS106CAOsjVS2JMbFsmwx8qzPxZvebE2KfRJRClfDv7mbL5pdUklldcXTviG6w3Dla4ZwjouiHnuPWXI9fEoQ2RDonbnxWpRRNbW6cy+v3joF8e2ol8CFRGcXl+YfolCmsMcb9Okvxcm4QAayHcW++ZGX5eKfp7moGpZnmG/eOuVj33DtZsh0H6tWMrnfcmbVY7yApAp6Te/k73zv/TT/yrUcXWB+4SomT5Yy37h/zx+8/wjpfLICELIUipMxWSj+5T15BUsimjSgbILPHAhLBdhiQQjCEgHWOLiUG657dx9c5g5QYbPYFbAh4H6i1YvKRKASDDYQEa59t4ErK8nn+zug8MSVqtUveQUwRFyKutyghMD4SQiTFHFkSQqCUzKd9DPsTSJegQBIQQ8C7QN9ZvA9crE/xIbKczYjwXeNDwkhZAgLhxmc5EUm3zaWzgGDbbxmmiaP5HKOzAu7WinJypxgJLzicfus7JueM6krn1mYlYufC7eNvNrk/Rz85nl5tWTQVT043SC2ZBouPgcttj3WBo7bJ+6dLN87f+cj91YKTZcs3nvY0VeLxxZbl8gjbbamMyqZWqaaS/128Gpl0pNiHPqMPpHKoCSWpjaGta9578oSttbx77x7u7CkMmXu8z1fsbpBGMbnAajFjmBwy5dO1VorOOhaVxgWNIWWTQ0mczydqXdW0WjFZC1KipaS3jpNFTT95GglRCLyHdZxKFCpHlGTW8Gy2pEjcRbVEBgQs25q1CLx275jJzvLp5j2VqRDbx/vxK5k/l0pxauWNz2orBULcOBevBW1tWM7usJjN2GzXSKXwXYuzHZH8m5MA8b2pl79AabWmrc01EqGY0uZjfsCdVcPFpufz7zxkOwxMzqK1Zl7VPL5c8/rxEbEcTLuAzOUw3jh/FzxPLzY8ueo5mdfECLVRaBEZmyrf/DLlQzEmjFLUVY5ivRQF+Vs/82//wt/62Z/6xfyKAyhBdHljP3n821xuB1aLlsk7amWotOabV9/iNJwxDZ4wg3W4Yt2PNIvI3/vUMtvPIj8jxggJ/svfeG/veKaUN5UPiZ942PDF+w0hCoTMp5d1Hlmy5BKZk30iEWLGSMkCdz5fdzkXIQXWBxZ1xaKZZRtVSkJKaAE+wVfPerTWpAQ+REK5Bez2A6KqSCnhQiSRmFzAKMlKgxISH/IN5EK+neaVuPFZcdOhlEYg8mlccFgS8N/pUKKcgLKYCFLw6QcrnDji5GTFxcUljVHcOZpxPD756X/00/HLArlL1ZBShr38ym++uOjWdrKEmG/fmBIhRHyM3F/WP/3zP/nml5WS2TLIbw6Ar3/tCU8vO04fCi7OnjI6z6wytI1hmBzfVpeMSVGRb9HtMOE22xvnP2sq7ixnyCQ4Oz3Dx0BTGS7WHTMj99A65/MaCwGDdTSVeTkK8pl33vrif/Azf/1LMWS4xrV3Fvk//tmv4ZP/vp4OF90l760vmdWGyQdSjGwmx+fuNPzYvZpUnFYhZYnzJv6nr29ysZgd3qks+LsrhZYVgogW2YQxVY4PJyBFjwKUkkR5nTUneYTIZlcCqjojey/HhCBRqYRNe7WnR0PIIEKBoqlrEgkVEyn64q9EKq1YVgopBZPLnwcpkULQNNmk6n288VkpJsYYEQKCzPWbapEVHeczZEUmEpH7iwoQ+OYYL0fOBs/b77zFt59ccnpueevBydufbd3bN63lr/zm4xf2/uvKQDGrSIK2MrtgzNsn8/ptJa9BoaYkPKU55uESPnjvAz7/9n0en29ptKaRmi4pDIFVqzlb54Thm6sjPthc3Tz/ELm8WmcfLEGjFclZTuZVLgUks4a0ldmP73x8iVVNCjScFIszusseS15/sLyxp8PqeIb+8IKYIkfzimF0hJhNDKXyyS1KEmQXZhUig6mSSKXat9wrS8ZTlXjwLiFXcFehgAUz3kk+g7sSEDNYcQe7qoziqDI0WtH7yJI8vpSCr65HiDA5j1KS0XmakpPJmyDgyikqhWDyPnOfZT6xjFJY74EMmvzzPKvSim602aRZX/Lw/gkfXVkenW/waNoaJjtydMtavkjJldPzXCCf1G1lGEebMzNJlN+sseUUby9P0c2MRVvz6HxDPVuy2VxxvGiYTQMDDcN6m82gumHTT4TCE/je+ady2z/P+Lv1f2k+SIzxGk5eQrRCSi6uxht7Opyve4yUJEFxiClhVbGHkCeRCmAwv9j0DBRkFwTON8l1dGIHY2enNDHtQ8v7iJRUxBQLBkrs0wVCCFwEO0XOOocSoEs2PRRcmTEaWV5GpXYI4Pzdtq5gchmEqASV1ghyKHdWw2g9RufcwJ/3Wd3oaCpd1gmOZg3daLncDhwtGjado1Xp1rV8oe++hE5ntWG0vpi+ASWyeWO0Qoh8m+7mH2LiXiPAV6WtmmcdIpfbkUVb0cTAk63naNEwjGOOPCFunL/4M4y/X/8XuhIft0I71G4efu8wPtvTwUWHMYqEx2hN2xpChH7IkIHlrKYf7P45uyRh2jvs8Rml2JUmLp8Xp1rsbe0Mr0/Ff7n+PNvh12MUq0OUnEvKPSXmlaJWOcttlECVSoAhZMWqVCb0+Bj3qN9+smgp8ktICS3l3vZN+wRa+R1/zmc1Jj8rxpxLeP/JZWbMNXO0lLzzcIUX5ta1fJGye5oNEa0ktVa4ECgXPNaHYl5dz7+uNOt+xIfAYrmk6ycePLhHP1q2/ZQ3cDPjzqJl0VY41d46f1kO5ucZf7f+Ly1TJErsPaVEConkE0LC3eMFn3v7IffvzFnNZ9xZ1bz+4Jj7qznd6Jk3ikpnO7KfAkJKksz28g4qHmJEpPKSuQYWhqIYUPIr5ZaJMexNsiRykjKRfX4fw/776hk8VAyRFCK1UcyaitWipq4Ny9owM5J7yyaHCWW+mcay6PO62oehj2cNvXXZ16jMPoNrtMSXm8wohVHqz/2sUKIxs7piO1hCTNRVjYmWi83Auht5525z61q+0HdPDjTUWtFNDikki6bON3aCptJsx4mUEpXWGKW42g6MLnLveM52s8kZ+Gi5ezRjsJ4pJFaN4PHFlm60/Piby1vnH+Pzj79b/5dmYuXbQhRnUJB8IPrI5Xa4safD8czzk58xCFmYY7LFCMEdU2GUQZDQpspAvkLu/8k3lsQQMSbXW80bPPH6gyXpuEFrhUSglSalSIgBnl7mzkJSEcjZ5hBiVqaYvgtp60PkrLOc2lj0LnOYvU8oJdhacqthKVFSc9Z5YozlFgs8XffM24qPLjuMzo6pUpKLPt8APkQSYznN6hufVWuBUYJutCzbmsmHklvIh9AwZV9GakE3WaSQNMpQq8SHZxsaGWgUDMPA1897VhGkSMT0rMkZ+ZH7pT+HykEIG0ApON/a3zvf2udievY2cDlMKJGRCWfdUDawZF7lqNSiqQkx0k0WAXzm7SOcD5xPkvurOU8vO/pKczRvWC0a+tFh1QwpHE1T8d6jCxLpxvnvwKDOB1bzJptZQCDSNIq1HdCNxMZA8AEfE95qhH2JxauFFLk5CTHnPlSOmLz1YHVjT4djVbOQR4VolPanHH1NeLRksj7nExLUSuIS/NJPn9B1Y/48Qq0lQkmGOyf0x8/2lGj3PSXs6f+DFhofI0pCEhKlYt68hXMuRAShkArOtoGvPPWIlDPdovgGwD4gENMuN5I33GAH1tsNKcJ8ns1EpXOm10iJizHPIabCFRE8OL5747PuLxRHM4NWknWflWnnMxidMVzD5PA+oKXKZoSbuLpwCBIXo0OVTLEQAqtrlBBsxqn4etmX+YW/8akvS5kLP08uY7iEgH/xR6e//JXt6XNRey+GEfvYFiBmpDXZ5j9ua+4sWpQUbIap4LNKniQmTq865neWONvTVAbrAk8utqy7kbcfrLh0sJrVnK17fMim5E3z11KVNUr0z8y/D55vXV0xW2guzi21yTaXVgK/WbxEsGKOrBJSQKbMi4B8937tTz66safDm/NsEMcUUeJ6E1oXeHo1MKs0WxfRAjbBoZXkqrcI0h41uxlBSbCm49S5G3tKzAsHhRSJUeZAQBLoYl6lFHLOJaW96SELwy8H0EtIOe04IamEj6+xRrNKcQVoLQkxIhU4Fzha1Dn2HiWj9czbOjvkuph9NzwrxMhos3PuQ8zcEQGQsGOgqTSTz7dNZXLY2TpHbTST82UdZbGz87Nqk5tfBkTBSiU2g6c2mtH57ORqRYyFfPac0o+eSukMkEywHT1CCGqVYSA3jf+0j7x2suSjs0f5dyTDUgYWbc1svuB0vSalxKMQaedzquB4fG6fa/4CwcmsIvrIWw9bnl6MpQjG9fq/RBOLXGAgsY8ogby1p0OKEOTODocQCyBQ5ATa5CMuJoYY8wKXSQUf6W1GaUYEjVSkj+kpsUsoKqH2mfld8YT8OyVKCHwB+1GSabtAQHomKFBiBOV0Lv8tBZebCSklTaPwpSDA5XZCScnVMHHnuCXGRGUEiEziue1ZSikWTcVgPbVRxQST165wAlGLgkzNf9udrntGoxBUZVNm0zFgdF3IQ4VzH7NDu4sOCQGV1lR/BmKWkBlq4kPCp1ydpVL55lst2hvHPzIRM1vRbkeWs4ofu3fMH31wyqwkCo/vv07t1rkxjgZR1yxn9XPNP9rE464jRZjFRFMiWKuZ4fGal1h6NHJNPRVk5G5xkN58sLyxp4McCiwCQQiFkktGXd6d6X24N5Er6k0+UJs8QR8iAoVIGf26bitObukpYXeZeCkL/5x9w5ZUwIMuxtKy6xogvvvbPh+5y8Gknd9yzdOqK4MUntHlyFkf83Xe9RZjVInVl5PWSKyP+zG+91kk6CeHkALnI0qVyE252ZQUBf6yg5f7bI4NY0EFZ9OxG6cS5WPPZJRFMRJpb6rs8ixCCLbjhP8zpEgqpVg0qiQD8z8rLdEyz+Wm8ZcJri7OCDGy7ib68ZR2vuDp5RYtBWF4wtloefe1E676iauJbAo+x/y9CMzmmnmlWI+eSgiEgqvCPntpUJMYr0GFCFlK2ueQ63eebG7s6fBmC40pySuloCBbrQ9c9D5DF4pDqaVwhkgAACAASURBVIVAacXW5gyzdQEfI0ZmmzbUltNbekrMC/CQRNmcYR8ezJZLQimFSKncMOwddLguDbQ/5cVuQ4t9MYrKKPopR9RmlaZzAZUEPkaqSmdHPgTqtmWaPLHw3m961uQ9o8sRLVtyGKpQhacSqclx/rg/jfvRIURuA+C8LxteYp0nxkRdZaRzJKNffUhs+yn7NFrhvM+RHSGIfwYNmVxgsBEfMrYsxESlFEpkAtVN419tB+6t5rxx94hvnY8EOzB2230C8NNv3OHR2nOxHbnaDrx+d8kfTO755m8jZ+OEqw1aCQYi4zqg9fX6vxQFKZ2zipJEQslQC51L29zU00Ebuf9OCIXUsqsRlbKj50Kk1prRBUwJiTofOZpVTC4UsF/mY2xv6SkhhCSRFWvyuZRP3CUei/m1Hz/m7LwoDK1U6lbtrkZRoma7A2AHyy9TQascGIghorTMXI6ijKbSDDaf2Nl0uvlZtdYsW0OIkaYy+BiJMdLWhuYZ3rwvG1kKwbzJTWRCiAXmkW+dWW2KOZUK8jnszRy9+06MOQlZ3sOfhfuuZDkMdAm0qGwyGyVZzuobxz9etIQIf/h04Fh7rBS0jcl4uLbi6++fsTo+yrCdeU0/OZZt9VzznzeGE13RWY+y+aA5nhkSif6Z9f9E5b/7+59LSsji+hXTIkb+pJf0wpBSZHJhn9VOCdpCftqOtuybvDH+9t/7d3hyvubeakE3jsybBiUVy7ff5VM/+uMZd6PzQkilMabmK//jf8/j8zUPTnJPiXld01Y1v/HPf5f+cvi+8V+f1/zVe7O9HxVTjr27kODdH72xp8X6g28xH3tqLTMYURW0sAv8Xx+tqZTC+lwweXcb/drvbKiqiuA9vsD3hRS8e9Lw7t1211om02d9vu0+e9/sn5VSwha2nJKSpnq+tTRKUZlsDjkfc8G2cmA1RmO0ohtsPiBEjjr9N//sGzfupx95OP/yO/fbLzkbsDFlMhpwdzXnR959WCKGgpASrVZEEtPp5rnHryv9wub/jdM1gwufPNx95xDmXITcg+a0lkQX9ziqxlSYkgH1hQOupMQouecSf/R0zXYcMrZmdHzktqwWM9o3wCeLUIEQwTsLUvP48TkfPl3f2FNCimt817PjSwkXvUOWhQ8pIcZsBq1v6WkhPcTJ0bsMexEi7htU7sKnQmTWnVIl1KiHkkPJOLa2MWitUZqMRNiZgOzCvPG7niWlYFnV5eSPN87l49Zy7zOSw56NqdAqO7y7TSSkYG50RiOn200vBVxucrRKAL31hVIM55sJhKAut9UmOmojWZT+HM8zftpXrvzzz7+3Gev2iSuIFAJPQgu5h3RkyYSVzTBlQkupDuILHNwWc2jnlwghuLNqWfmW40XL6fqKFFqaVnNyNEcAbXPEZB1RmuKQG1bL9saeEpVRN44vlOSorZhpycYFdEqYKp90+paeFjo16DTmTK71iJQwplA8S8VF5wOV0YUjnTd9CAHnHJWp8DEgokCgipKxRw2IgpK96Vk7U7F6zrXcsQ13YWAbQkYMFVjLZpjQMpPFAuFjAY5SFeqwSMzqCqMEk4vUleJ4Zlg0VfGtMkvSx0hy7rnHV0q+sPnXRlK9CpTbWGz4KHJRggyWy1TSkESukFfI9LGEHjOiVSKFJMSQHUgpOLvs8T7y/uNcTvJqM3K0aLm7HThOkmkac22pguqUwrLuxht7Smz7iZDi940vhKK3ns2YMFIwpURyGTPV39LTIlxcsQqOkBxGluibC3tIhNIyhx2LvY8AZx3aaLTWhBio64YQPFKqUo4mXVcRSnntnn2WdZ5ZnW1yn9KNc/m4tbQun/K10cSYSv+MSBQZwlNpvQ93C6CqzK3v2IWctHUxw2QywUkyToF+CmyGDi0VISXG0REFHJX+HM8z/uj8C5v/5PJN9YkrCAUsuIOMpyRIMSCERCKpTDZ1fIhYn0lGO/SlEoLRZvKNd5FpDKQSJTnf9Myqim03EqIgxLy5YojUzRwhEpOtsDbc2FOCQhP93vEnLfE+R0q2k0dLgRTZt7itp0UVEzFkDn03OYySiJRwMZ+Gmd4psTExFeqvLC/N6Kw41k447wlBl/pIYm9KxAKw1FLvnyXIiTHnA7PG3DiXj1vLSqvcH6M4t5PzTM7TVib3ztAgkmQsFFrnb3dnpYC61ky9Yxp9KQ6dAynOZV/uashld4zIVfSVks89vtHqhc0/hHxwf+IKkoTIWKAYEbsWA0KgpcROObfhfMQoSd1mPsSu3GY/ueIX5P//M2/fpRsmlrOG800HIrJoWh6uFoTgS0y8YrKWlDwhRd54cHRjT4l41fPB1fB947eV5Hie7eHRBUxBw2ujcLf1tBga3NljlBRYb5ApczqUVvxBf5VD0z5+VxUNVcr+pHL1SymZt7M9MnZXYyKG3d/Z29/WZ3+k0oqmyhEv659vLWWJ4oRy6ishWbZ1ZjeWqNl2mKiUKvzy202sulL0BXjqpkBKkX5y3F3NWS0NTSXxocKH7Je1lSRc9s89/ouc/7LV+JeVSX9t1fzNN46an2sqncNvJVLofeRfPc0caSULfKNUBvlwM+CFLPHsHHEYreON1ZIfeXBMiIkHD04YxokYIlLAqRf4pLBJ46sZ0mieTJ7q7CmfOpmTQoTkCMEhpKbSmq0whDFQVQ2xirgIQ5Q83QyklE90rfINMTlPcJJ1N6FEdiq1lgw2ogS8vv19go97hetkjvPP5jMkGqEyY82YChsidppyoqwkE3eUVCEEnz2OaKP3+QcbAqLUazrdDM+6anleQmCnEVKO5ljnr8lfKrGaV7lMp9akGHM+QGm0zC2RT5YNVxcZRClE3nBaZcZijBGj8zN3fkAsxddCLCftx1SXf820fHrRgBR4UxKPKXI1RH7vG4+xLtHUismGPZJhqRKLtiKFSIgwaw39ZAkh56v6wXG8bOh6S11JEtlESklQKUk/OppGo6SgbWvmswYvQeuaSmeOTRQSP7rss2iFDxEfsuHa2zyfl0O5vbf4uZ/90Ye/DJkUpAqwSCvJP//WtA+v7bLSAsHV2mKt3SMxd5XXjWr4qR85JvkERNp5XWi2kc9+/l3Grs/cieLMSa0x7RHGzIkp7p05pMZZyWc+9ynsmJNiO5PH1BWPf/9bXPYTLgScz5slCBBa4YAgBJOHFBLKKKKAhzpho0enQBCgEIhGstGaTlc5YWgdtVRIZXBSM28qtJRMLhc7ywoBP/PZY4zKuYEQIpXOvbz/8FHHH3zY79uUsCdJJk7XYl8Q4VnK8aJOPLrKUJHR5SqTCIku0BwXIk+7EesCKQaU1lQlL6ELHVYVQllM6TosW/4peAZfd4O8UbX82OI4h8Z3wEsSH0497z19kpmRvvqu8YcQebIZqZTYk59SyRkFHwHB+WgZJ7+/PZXIYEi9KyMroakNr2nNOOU8jAuBWmcl1QkWlS6MzLz+Wub1Xy1yYOelKIiPkX6yuYSP9WhZGrWPdl+1fO9sFmjFrkQNzybiiq+ipcIJl8N6pbhaCIK6hko2LE+O2Vxt8t+04OT1BySpMHqG99mWV0qzGS8wRrCczYkiFzCeRotSAlUp+ikXiPYxIL2gNprNkCuaZJ5FLoQmhSSRqCVUlWbe1nQlrq4k1MuKlBT3VqsMI4me0XlOjlp+/+sT86Yq0Oxd6dIslYpMBcpuvS+K5ItmXFeWRIBI4hm0wnUbBRLUtSKEjD44mlVs+nwoLWeGi43F6HzTLWcVmz5hdIbcVFoyr3IEyYVSWV5kZW4KrCc73R9/gyixqxGQ6+LuipkYJUmFh/694+vKMLrAaANtY/ZOdd3UXHVTRk9IidY5OXyybJicp1GKYXQcLTKsXaSIMZq21txdGCYXsSGhpQDvWV/1N77LHXrhpSiIljJnMEtYV5QCBUZLUnK74rp7+Ma+1nN52bs3vvs8xFiu4kKPJGO1nJfEkPjOB6e5AU5IVLOGph+p51XJKxgSgRgzv2FC0Y2RcRwxOgcJTFMhU4YmZFZfPqIqrYp9nqNtux4SO0qwS9lh3qwHdNFtYxTD4FHzBe8/uUJJGCfLarnkcjuxnNUIBPPG7OnAu+TWDie16zpltN6XxtyRivehrMJ43LEBd2omRK6KPjNi/+LrSuN8JqAFH1guGqxzGYOld3mQrHQXvS23yI6hmVmN3ZQTdz6kwtC73QeJie/utVKQCoONt46/GRytUUwpopWBTJxkvatRVilCDLS1JsQcEu56x93VrDjhJXNfCGBGwOnViJACH2BeSURMHM3aG99lusqtJV4emhdwJaRmSs8LIxXg9i9ytxF2L5t9ueW0/3tKKReLLhTAXUYUkWgrAUZxfHzM0HUIFHVdYNox4qJDa41RVYaXEJlVAoTmaFHRDwO1qYG4V8JQCP9G54IKUmbfY4cKlfI6etOoHLJZ1hWTc7mPnpJ4Jahrwb3VXbbdhjjTCCnpxykDMWU+AEzBDqVixuzWzUiJ0rJUDJR7rXgGEnZdxbvcwtfrntBaM5spNoNj0zkSgaN5w3prMeXgsjaSCFRKMEyRxUyBTNRVhndISSF55ahUYzQ2RIxOOyvvY959LoohpCSkrGChtJu4bfy6MiglkC7QDY7K5BZDRmuMypZIKpD/plJcXo3Udc5veZ/wwWNazTAEpMpwo/lM000BpRJtYxgHe+u73J0SL8fE8hHnA7XRdKMtPOFcHX3fO6O82L2d+gynXOxshl2hOJELy8WY+SDBB5RRbLYTSSjoOqZhQmvBtpO8tVKE4DCmIaZAiBk2rk3D6eYcUxuGrkcK6NMWoXIyzhfkZz9Z2nISppCLTBujsvnjoTGKmHKF9SQEuIh1ES2zrZyqxPl6xHQO6x3Oe7Qcqes648lKhZXBemotSeQ8RF3s4946Wkwpqhz3KNzd9tv5I4ndWj7T8EcItMyAwdpIFLAZQs5N1JrJemLMKOBKa+zkkCojivNzc7ZZCEpBZ4mNESnSXpF3N96tEjOCO6XSSauY1Kac8DeNb1R+90ZnxZhsoK4NTaXpxwmjMlK7dyEzOo1Cq9xPRZApBcPkUUZhbWSYHNblRkMhJKwN1CRUYaB+77vcreVLAivKfdmVo1nNYLM9rPYM+XitJDt67h5I8Uznp/yrM8Eg+tyApfTnCM7jA4zdmmY2IySIoydpw+XVJcIkEA4pKoQwhGDxvsN5z7DtEEpTNTVj79GVvC6OnRIni5ZhcoSQK7gbk9GzR23NaP2+2JtPYCeXuRZA9JEkFdEFbJjoiq0upGCwCWQ2A3zIh0co0SMlue5PIQSLNucMMvz/+1a3wIivi1HkDPv1WkopUCKvcTf4TDeIfu/ISwG1yaWFfIzMa0UIlFzBdZURUVox5L4kaZ9tD4HvUtkbNsD17yIVZYulyMbN4+vSMGfeGC7WA8YYpEyE4NBK4DwgSw5Nse9zGULO0G+HbLIdz2t8CGzGfDuFQv0OIZLKzXLTu9zd5C8UrPif/od/Je1MHh+uI0YPTOSNJtu0SaSCrMzp/X/wnxmE1kQ35R4YzoNU/A//BL76+9mZf7anhDCS2DZYH3ObgpiRvSEl/r1/94vc1FNC3z1mdfdk30y+mtUoIdl0I4+/9oc8ubji7tGCzTBxZzmnNoYv/69f4Q++8Ziq2NeNUcUd0lR6dr1wOyg6iR99UHHT/Hex9qbKsfsdCSrEmOu/qh0HJO074eq9ufWDP+tfvfcUHxNGCCYXqCqJ1pptP9HWBoVgDCH3RxX54KpNhnaYUmO4UnJfNbIvN5oPmb+RKcCG2jT7o0uo6/4o55vz5xo/JIEWiclGjpc128GhJUQEP8o9Qoxsp4mT+ZyzzYa7iwWvvbHkrbdWiCRBRqRReOvLIatQCOK+zR0QA7/13vv88dPz53qXu0TsC71Bdj0VdsW3rvtA5GiO8x6ZBFFEZDlzUvAZ9u4jMTpU0+QyDMnf2FNidInHXU9lCtMvJqyNLFp9a0+J16JmcoKqqTPU+fElIgraRcPvf/MxQsIwZnrvN98/52Q5Y917Rpdj8CkltmOuTdXWkqa+5kWIKPbRotvmHwqXZHK5CmBl9N7mjeVWiKWo3vf2p3ieZ8mCxRpCoGlMNiNMNhsml0lEWkvG0aG1QmvBVZ9PZFugFVc+0RiZb+CUckWQGLnoLG2lWDSlPcPOKY+iFOiLzz3+0Vxxtckn/bq3VEYzDBPzWcVbdx/w5OICpRR3lktmdc1V1xUgq2KcJnSSxALWTDGhjSI4T3SBJBXaKCKSbnr+dyn+Qii3okDJQ9ifbJRwXIh+T8iPpf+eECLfjyJTR/dIxVKe9KaeEkrAvJa5ymAMiCBYLLOpdVtPCWME88UMo3MjHV1XqEqXnhI1rdGElPtx3D2eYyqVbVwp0TIrYWNyfFyKazKN+B7K7W3zFyUCNVi3L0xGiZggi4O4L1C3g9Gn536WdZHVombdTSXiljkcSUhEChiTI3NSZJtey1whxZRbgwjzOlOPldj5gxmG0VYaJa9b5e2K7+3Bkjz/+M5ns2xRYCezWhJCxnR95/FjNtby9r179MPAZhxZLRYs23Z/8wohr2E5Su8PG2Xyto4pRzdNiT4+z7vcZRdeqILseirsmltqpQqFkv0PpoQu9+VA/URMgRh8+WEmk6mQN/aU0LXhblvhY2KpTLEZMyDttp4SZm5Y3Z3jfeLoqCF4D8rQ9QNvPMj1lJwNKC0IPqNzq0oyb3L5oKZEcmqt9hSaHeU2S47Q3Db/XTHklHIkr6n0fpPt4A77Agz7kPbzPysBWmmUcmwHy9FM0w8RoRTLWZWxYzHhfWDeakJIzJvM5qtL1ZhUSr/v/AvnI7M6t5HYbawdtZhnomi7mmPPM77zuQ6XMXl9RxuoNbiQsDHy9r17vHd6ynFdc2e55OLyktX9hmXUuW2GLHUOpEBKRfChkNsksvDpldYY/fzvcke5fqEKkkqxLlWJfVXADCSLoHIFclFwPhmjX9oGaI1UKrtwMZB8JAVxY08J6wJBZLPr0ll8SLRGo9TtPSXuzeb0G4uPkctpQqQC7Uiw2ZSeGuNAN1qOZw1GaZxL5QUmRp97kuxYcLtEpuA6sZmrMcob579zcGeNyXD7kuW1ziOFzFnqguYlJXzJGTzvs6pK44PHTZ75vGayMZc/MoIkQEsI5eSetYpxsmVL5ChXTLmU6nX3p4SPiXHIAMvRBipznV+h1CHPipWee/wYPcbojI3zMfuiPpPGlBB040irNS4l+mFgAPquR6R5UQyFUvmW8j7sa69pJdHG4L3HO1eiqM/7LgFecBRr3lbPMLkKn1yIAiEOpZJ6JCSQCZSWmOWCJARx7CFl4o+sNE1raOtdlZHrnhJto7lKidXCMA8aoySTjxglbu0p8fBkiaokR4s5dmqpZLartdZ8YDKV886qpTGGy26LUorjeU1MiUWTa2btQmm6YKMom2LHE8ot0G6ef2P09Yba1RBO+Vbcwdut8+Xkit/Vn+J5nlUsUUzBYvmYmM8qlBSMU25rPI4uw+ld2PPh20oT07VPt0uWTT5w3Fa40ppBCJFrje1CyjERdpGw4mc+z/hto9n2FqM1wUd8CFgfmLcV0iuWbYvRmg/OzmiPjnjrzh0qU/wDBNE7fMyN5IzRua5YyOBGO9l9k9W6cG+e513uW4O/SAW53A6F2khhCWZQmzelpD2SJPPp4IMn+ciZ/Pl8Lc4UIobc8KZu+Z3H/5Tf+uNv5jpSu9qqziOUonfPcCFEbnwphWDqMonmt+M3Mmw55J4UX/jiJXdeX9FojU8BrTUiCiKR//bXfqsUgculUG1xJu+1kk/fPco9O3xmPMYEd2rFp49BoPb4o10U59Et83/vrOfpxhJCjuuHUidYK8mPv32UYQ+FrJMAGeO+P8X3PmsqwDqKyZoz2BlD9u7dI4wUuKNc0MKXur5n3YSVeSMoLVkWf8KFtM9aq33G/pqRZ30kRVeK6uVQ7bof9pnrvJuuwZLLllyYTcBoI3Wda91u+4l5Y/Aul2KqdUYqiyj5K6+f7KEmu3WRUvDX77UYkYgofuyde2gpqf9/6t4s1rcsv+/6rGkP////jHesrq4eYsduuxOMndg4UUCCx4AQJLIjhCIheOQF5REknPDAEyISb/CAIBIIORJCIgp5SSCOkliEDHaj2O1uVw9V1V13Ovec8x/2sCYefmvv/7n3/k+5b3Gcqt7q1u0+VXevs9bea6/f8B2cJRtoVUdlNKF4vaicGNOA/so7XG53nK0W9N5TW0tlLOmHT6ndQqyyS84UfJLzwZYcpDyDHOU5f/mLS3bjHTMKF3Ul5bvy8BtnyWQqE8k5EFLAKk2a7RAym+prRL9FmZqEhxxgXPD9Fz0fXuxuMOamZshY4vTSMCxYJHKmCgmUUC8r4NhZssvsrjaMRLFFiIqjRSNHss784OP1DHXZJ9uZL3/1nMcnTakwUR5q5tTBYzMWzsrkqSHd7evd4fl/+HLko5f9TLOdXixy5k989bSQddJBf4rX75XKi6+ktstRU835nFS69Cyd0zgLKK76F/Q+MYZJUUR+hVxMR0WUW83kIUr1KqbMiITCuYBJe5/ohnhwLpXOxAl7pRX9EMQEKCYuNwOLWqDnwvcwnC0tD45EWTG2r/qDHC1ETaUxgtSVECgwhkS3G+hLYUIbM9vJvdxsCTkw7LaveM1gDG1V720tUFBzwx9msgHU8l8yvY/s/B1vkJjTQU+LMUe0O+zPsWhatnGkqVd03RplanKe6tSz3PqNJErNsJOp8iBTUreOf7+xPHp4zMmqZfCBq03Hql1QV+YVAbi5ipGlUnPI02I3jJijw54at40/hFB+5wkrtW+D3vS0+MPyB9Eqs6wtjRW066RLpVAMMVIbEc0IUc3aWiKcJ0rofYiEKOXfEDP9mA7ORVv5kGx2I6erRkrUqbgNj/ENrxeR+EkH/TnOHyzIydLUjvVOZEkrq6EwQitn6UOEmHBWXG6bW7xmTlYNL57Lx/YVWrfa51KUUHWyyDg7rjmKd1zFut3TQpNSPOjPIUh1RQwe5ypiSOQcUCrtwYrqBlhRT+rt+ZXNMmnXHhp/13teXg1863sXnB63qJxZrz1Z53lrcPNRl1LNQU8JZ8ipCIu97k9yy/hTeKLm4L08n9c8Lf6w/EFigtEn1l2graQa5sN0AjPr1crjkLmb4vx6sRlZ1lLpiinT+zwntq/PZegDR2cNqclsh0DjpFQ8Bg56vVCanof8Oa76QIyZ3WUnMkdBdJAnvat+M1JZjc6Qh0jMme4Wr5nrbV/gN/vNoQoI9vV3afqHV1svPKM73SC3eFqYcgQf8ueIUb68OUPwAVtVOFu98ovf/COn/MqDuTn6beM7q9Em8+6jY4zJaCftF8ETlbibG1+Sgm/igKeEZu9z8oY/yW3z13sdrQktwwS8/BfgDyKNRGgrLQ3JSausLGTtdIH93PweSU62atwMD1FqgpQcnktV/t2unzg/iq6PGKMPer1sOz8LJbzuz6Gz6ImdLirIQpqzsyVB5qhxWCWFAatLFeoWrxk945TU/FxfEQGcQOPs34dUaJp32wcpEyDL1/DIGpZ1RUwe5dS8Y1Nhfon0i1g+G6MJQdN3PYvVSXn5ph1+AxczQeKnn+U92ve28VdtzYOzI9pSGr1ad7StZdk08z2nUC3NsbWaPSUutz2ni4ZVU6NUFE8NCgMySbJsS6Xt0Pgp7V5rQOU9X6OA9roxFACflZcmhYP3GrwYd54sGp5fb1k1NVWhld68V077Kpkzkhg7q4WAVawHrFZzf2MqaiiFcNvLxtcKel+qVEqeUTdLc746l8ZJnmaNNCC7QU7cxpnZ6yWXEG03RE4aBxma2nK56eT3dY6UhQGZlQTPm85TaWnC1tYylI/O4AWyrhQ4V7E+WXHvZMXVdst6a6kqRV1VfLt9yVO9nQDgxVBJcGUUsZDJp1H80uHBcY1Sd1zFmmJ2awzL2hWzErAm8zznIukIIFWMNAY++t3fICXpXyhlgcyzGEhjX/LwvYnNK6fKDULQ1Lh6sR2EnlsUEDvfEWOkujwiL6+LCIJ4HG43kd1uy8//0WoOA+dyX8589ZHifJVRKvDOg4oxBEKInC5POD35opSji6buZGP2w3/wDWAPnX6x2UqYsgt0Qc2yNJNKZMqZJ9dDobSKdFCMPVrBo5Pm4FqmEqK+jT8IOrNcFQCfhqbSc6PRh0g3BPFUCRP0ex+r6+Kia41iSJHToxWPziupBDI58WZG7zlbIRW1x7KRrRWi0vWL55ilJMDDEPnCUqi+q6bi0UJou4/uH4tZK9KsXPeB0QeaWprCqTiUbbRi0BqtDaZ1uAJY3ebE+havmavdlhgFmiNd/Rth1VTdm6wuyMQAz6/XxLvupDurZ5qosM4sKSd6pXmaFfiblFtRrLj6xv+BSsKPmz0MyaT15lX66D42m5G9ExR+qll/8wcXoPUbNM3m3gnnj08wLrPtBpraSWKf4T/6s0cHx5evZ5jdV6cQrzl+h9Mv/7kZ1KYmmHfO/OP/6e+V/3mDJpwzAxWhWuFzxkfhiWilMFbzj95/+QZNNpP5d/7EFw6upVZ6LnvPa1maY7mQ0wYfGccw91hWxw4fIu89XLBei1jF6DMrY/jhR77I8EivIMcIpfKEFlqu9wGj5F5ffnTG17/ymMoJbKeuKrTSRRTBcb3bsGxqdsPIoqqp64bxo8QyDWUt989Ra4t1wsU3GoLRWKWIqDlSCN4LYluJhfe2rtisGionxkrzs9RgkCLCEEZ2Q2BZO8Cy2W14fn35BuXYGDVX/V6hECtYDvIxudMcpBs8gw/0oxeVkCjVj0mypRuEIO9LJWXw8oCln5CLt85Nyu105xLzz7nCmxQdhaKtBQohHV9TJPwlfBpDwBnLalETY2Tbic/dbeNPpjSzOc40zlQzL4y7PdPxRpI3Z0SqYM8S4zgyjCMhRGISn6MsiQAAIABJREFUSMTo/aul0vKnQn2qtewGL4Y3Ici/n1LRqM0cVVYYlq1U4JarIhidBTncj6HAVkTJ8La1hMToPdZY6rompcS2sDGvNmuWTQ1Kc7xY0I0jXb+TggLMLsd7UIdwYKzRhAy2wP01eY/gtvIN9zGLAjzp1mf5cr1l2TictZwsGrres+2lN5WyNIfbWuYIQikeQpR5FeEQH/O8Bo264xxkVWiLzSxLk0UQLacZK2RCnCm30nyTBF2j55UzxuwTptcotzPPblIWnAhVCjZDpHWGMScWlTADc4a2rnhwcsxmN2CdYhgjZ0dLsipH94HxJzbhTMEs+cWewXiTzqdmQ8iZslJKwEoJ5LtSQvmNOpbSaynx3qii3ZzLp1nLupLSbe0MKZnZ4zANIrzYddKIPF9KWBlLEj9RXo0RTj3cvpZNXXPv9IxN1wt9eAycHh0RU+TB+TkxJtbbLaq2VE7UROL10/mEnAoAAjDUNE74GiBC4HXlSGRaJ+Fo5yNWyfo6Z0jW3vosH52fyPhdT+UMtXOsFo0gLUqeWZc8yQfp+SyrvWTQJKItzeeMtncMNbmNJmpKifIQ5Tanwkk3r/Y2KHd6nXI7D7B/Nef/fStN02naVnH//Izr7ZbV0mLQRCI55oPj54JuVXqPXp3AlvMnaN61MztJfqciRKHLQ0kpkVWaK0rWWlKMVK6C0O1psjfm9WnWMhRDHDIzfyPGhG00Q/CcntfstoHBJ7zJBPX2lNfKKpa30IcXVQXKcnZ0zvXmGrdosBrWMaBLw1cQwqLqbxS0JqMrRyonnnBjgjQzD9CXo1VUtzzLyoqF3OnxCZe7LY2p0QaqyrBYVG9Qjre7kbYRnn+acW4FNd2ou1dWlJj0TZroWJptBym33MC9FJ8LY80+MX+NcnszFsk3WXRK3UrTHMbIxeXA9UYStX7wGKNoqgqqW8afOAE536im7YUkpqLBxIHQBR8k/46ADdP0Z0pEJd3jfhgK+UmAfXMP58Y4SqlPtZY36bu73tNUgljtd4FRl95PTOxiInaJla3emvI6+MTzW+jDz652LNuW9XZd4vo1RhsWzqH9RKveq9ikBJd9xNnMUOz0Uh6wxuDTYfqyOs63Pstr37FaNGz7jtEHNtoLYa4osbxOOUYrdkOc4f4z2lxpuk0QqMxdbpA9TRRWbVW8K/JszjhRbpmchHJ+5eWYgHIxxFfLueX+czow/7PyES9VLGuUQKkbae5ZZ9E604+efhTrtXGUew99YhzTJ49fuuWp7MQ0nTbTxtU3Tp14Q9dLvVp500Ve1HvParEowsmBVI52bnwEpoT906zlTN+1hkXjSjydaSspr15cDzirOa4tpwtHyrG8EHvK65gSlVOfuJbjOHC52TJ6WadulBc8xMST588ZRzkdt13Ah3IalrlMm2OCnKQsfRPxKIQxKnzKhEzpuAt8ZQyJIVGkgA4/y5AyP3j+kmEIVM6x3UnPJeeMUfIx2/Z7yrEgOwSUGeQhEyLFZtux68LdUm7//L/xODe1ofeRrovCNYiZn333PXKoeHx2xNWYyWPP9Ib/4k9/yKzTofbx9n/zN0f+728X9W0fpHxorbiXWoPRhm7oi1iABEa/8Tf+EtvLa5pFg/eRpqlRxrBe7zCkg5Tbn1/9Lwcpvy/af5ed+xohRVKKwhOvF/zG3/mn/Jf/xX+/36CTdNcrsAvm+eV9IrX/Z+q1Du6Nf5/8aoL/+r1+6vGKr71z9AfSd3VxWdJa8cHLDU+ud29QTseYGUd/kPIaQ6KqDBbRIF4tKsYgInpGQQyZ5bJmuxtoGkM/JlFv9LJBfZIeklGKv/Ar/z6/8HP/8hwFKKNJIaHbgVg9IYxe1FNypqkqcZ1qq4PP8sPf+h4ff+vD2aj1aLnEGMPVestf+R//9htreSOzuwFwlbU8bmu+cO9o/3cO0KfvNMSqrcGhWbSG52EADU0rx+UXHjzgw4+f8PB0ybN+5N79+7x4/lyUKKIADLMqvYLSdQeh6aaUBHRWeOkh7EEyU2iUUXz/O0/IKdL2mb7rGbqR1aJBVZZ+uztIuc3tYcrv6vgM1LHwCrwHFUnJMY4bOSHSXrhtKqpNIVIqX8kJhjK/4HMH/kYh7gbcei8Cd/u9przmD6LvhiiNQoDdbZTTyuBDPkh5rbSmj5mxELm2u5G2tdTOcr0ZMVrkWNGKrg8cLSuudr4ALMs4XZBcqJROQxDVw0muqdsNPP34GVVdEYv4hu8ji2UtvZ0Dz/LFeseHTy9o2xYyfPj0ghCVWFzcWEteeS7lBZ2cuuSpSZ/HfDJ9+k43iA+JbR9QBupKs94GltEwVpF+t+b8/gOur1+ybCq6zTVfuH9Mzs8E4n2jrKq1oGSrytDtuhm3P2lSOSduQa40qSiU1eWqIYckXGSvaU6WKCt/z9xCuUW7g5TfnANj2JFSK4zHlIhxEDu0/BpNs5Se9xHgXhFlKv+mV/oc03Oaj58ZzKjyJ98rk6l+FPpugZJIc1QfpJxOwMBDlFefobKwC5mj2qEKeWrwsr6LyhCzqDOudx5rDNaUsnlZn7oYDgnerrgU64laoDFKs1gtqUv33yhYtDVZgWvswWdZWcXRckVbV3TDQOUqzo5q5PuxX0sZdA++eqXymKdKI38gffpON0gXIl84a9jlxIuLgffutXx82dP7yGY34K937AbPO/eOqZ3hB8+v+dqX9oaeyqgCYZbNst3u5NdOUNuKEAJGG8ZxmCtFZmaFwfFJC0AYIserE4beU68arq+2HJ8cptzeRvnNWRF8hDxSVRXdOJQFlG4z5cS7CXDM+WbJdnJ7UnMI9iokcr8pcnoVuv9J9wL1I9F3VQEepiywkkOU0z4k+iEcpLxmFEZptC5WARqMUiLhqjM+KVKKpWKm6PvAoi48lbQvOGi93+A57wsaSkNlHOcnS2LMnBhNCAG0Yxh66uI3+PqzXH//Oe/cP2bbjZwfn+K9J2HYdbv9Kf3GWrK395vxr0U+ai687LszN+nTd7pBqsbwcuMxSnF/VXGx82AVdaNpK8uXH5/xfOM5bTQfPLvi3oOH5PhkJuhMRospRnIhSjlX4b0ktEYbRu/RWuOsI8TJCEcRfGC3EcjKMI5cXAjhaBgCUetbKbe3UX5jaeJpYxj9QFUvBDem7StfoJuh0Hyy3OhjipbVTXjMlIjvOfpw416F83HrvfKPRt+dQo2Qknj8HaCcaqVupbxWTqONKNIQM7sxUdcWazUxBkII1EYg506LFYQ2soGlSSkSQrrgm5i1CMpcYsanSO8HEpmXnegFV9aStSbGw88yZMX1VhquL6+fE2LiaLEoqvNvrmW+EXIxn9xlLdMkjnc7ffpON0iD4ppI6sVKazcEzpYVpqgUfuM7z3h81jJ4R+0sSyMoOJUEgRp8lAAcRV1XNI30C6baf8qJpq7lhMmZlOSBpEKfPT5u6PqB84cP2V1v0TmCszSuYr3ZHaTcutXRQcpvpnAudpcYU+NDQikBWk7H9Nwvmb9I6hUAH4X/chOomHN+JXyCfYMxz32U2+9VO8uidhI/fwJ9d/KRF5cmTdq9STmtrCkQ+zcpr42zdONIU1d03SAc8EK53YRMU4vBaE6ZqBJ17cS30Shq5zCTZUOR+pnmmlKxsstQLwxjUhytFrjasVpU+FEsGpRSB5/lo3snXH3vCY/vnzCMi1JtC1SumqMnWa+0b9rO6//qWs7/7BPo03e6Qf7cr/5Zuk2HrR0pBFxVkYDh4y3+YsuXH58zZo3Nkfunxzx9uebl+6CVK81y0XDNOfPnH2751S9aGEfxiAjiTvqDoeb/uTpBK4hZwq4p1/X5BGUjmzVkfUxSGqUsm2HHZt3RbQfpRFtLjlIA+MlHa5QVkGQeuzkm/cHv/00uNovZmosSIrz49ku2uSrVNT8vPCWPmhyhYkqzwoZSCmcl5xlLeDQdC9ZajJbybEp7s8mfeiD4psoakUAtX7mU/Uziep1yO4Y003eFRw4qJkK0t1BOM01liDHRFM5HbSU/2XQj1ihUEkbh0cox+sDVthOH2a0k83mI1I1h23vqxbGEeBnp0hdKw1/7X//Wf83f/Hu/+crLEiEysumuXv1xjBhj+On3Hv/69LPpZAghsV2vuX65JoSEMZLf9cX8JhcruvK3xNs+FftGpebNQBHzDCHQjxu6IbJoLV0fqSyEBN/8WOgHd7pBjk/u0Ta9vCQoNAplDR8++YAXV1vEgdywbFvCuifESH+lZjTsVMHSCn7pseXdVSCjyTHjmiXRKL75subFN6sZXKZVNdM0zx7dxw8btG2IoUdlT1YtH373+wy9L0mrwdaaFKRzayoHxoiAXV2hm1aE696/xD97NkPD03Rsdx4vzh8kuxdUVkpAfaOYM6O0oaoX4okYpL+gsiJphbWmWM5phnEkKU1UCm3V7Eme0jUZqe3vdcSgdmaWTXqdcjuUMCsWdPBEuX05KHyOb1BOB9/Te2EHWr3365tisF2QymQCNtsRV8lm32wGEUmIstk2O+FeLJp6RhnMIE4y/+hb3/vNj682f/1t3iUz6vmjpKffmcxut2O76w5SfmH/Lk35mtJ5fxLfoG/LeiaeX6xFHRJHiJn1dqRtK/qo6MMd20A/eLgi+wXt0YKrF1dobWhah/vKA+x6x/Fqxbbr6Pqe5alYn23XHxDLyZFuiANEBEbue0mOQwi41YL+ek2I7iBNc6LvVlXLkAHVkBIsVzUnbUPT1nT9SPaeqhHpmBiENRY2HbquBUVsDAQvOKdc5GRm5W81f+WHcaSyjpjE6EcgJAkfpIM7hk74DTGJsnkMxALp1koz+hHnxPti9B5nLCEOMpczc5DyWhXI/NtQbiVpV29QTq3WNJU+SLkdfETnTNd7lm01hyTWaJHMKUQlXRn6UZqZWom8zxRKTp6Tn+a6CS2SDjzlXmqfX7zSL1I3QtZX6dNqTjzepG+7WgQsRh85WVZsiu30rDP2qXfDgevlRUcIke33nnFyuiIMHapy/PCD57xcD3zrg+ecHokW6tX2mhADj2/s7AlWrrVBxUSqHbUxDF2xHOsGlK1vpWkaY8Wzr2CeUsqonOi7Dt9puh9e0TQWnTLpeiCkxE99CZSrsCsI6w2m+EUoZQp6tMDpUZN1ppSNjZwiYxBkq1ISHlTOoXSBiBtxVaUUIaytGBnlZzrNSFVX/pxQsiCkokOU124Mb025FWh/eoNyGjOEkA9SbmNpKIr+VBHBVoq+CBm4yhGjIGGnV3mqvMnHW+8xZrd769x+TbndjUaGulHhO0T5vVn5e6W6eAMidJO+7VNGj4HV6QLrfQEtCh8lzyDWO7x0jlQGzu8dQQ7YyuCUHOtGJd59cIY1udTLQZHkSLz5u09VhAzWR3zwWOewbYP3HlVwWodomuM4FMejWCigLcZI8uhU4uR0gdWgnahnaGE7kUcv4UfbgpKQLheG4L6HIZyRhOQJIQSUVjhjiy6unHxTLmGtkdPjxqk4jlKBs1Y62dZa8biYKLc373UL5XV6wd+WcnuIcjpdhyi31hpM+fAMg7jRpigbsKqtqN0H6Ys0leXyup/pqlOpbkJFfJprCotu5hT7JuBhyu/t9Ok9auHmH1opqtoRYqLrxVSptprRFxjUXSfp9x6ckLRBq8z1xVowPVWFe+8RZj3S1hWbnTR4FrVl0dzj8uoDCpkPlcGnKC5OCgaVqauKzcUlR6cn6HunqI9lrodommSxdDZaEbNhs9mwaJcsFw16WWOdodsNqBAl3q9P5FvjHKnbCrOsrVFNQ0672dNCZUWKcW5IohSVq1hvN1TWUVnRr0o+Ff1hCb+sMbRtgx+Fe71oG67Wa9q6xtX1fE9jNGGMKMAZyRuWtT1IeW2dLVihH51ymzbDHjd2g3JqjXwoDlJutWb0AniUsFHeyNNFxctNx6I2qAzrPhCVwhRLtqlUqgveSptPF2JN9djMBGzc5xy30Zen5uvr9On556/Rt9vKkfMIBZSpFOz6+Mpc7nSDfPitj+m2W46PT+h7EXHL2vD9b3+fj7/zg/I1mLBDYrrylfNTQgosqhqfEqvCxXh51JL1QGUdvPeYbowkH/k4BJ5cD4TU0VaOy26caarPPnpGjJ61ioCEHLuLC8bR0m8vyaV7q50l+8x6u+XJ9wMpXUrFLQFhjdKK6tJz3InIXEKqMVorTrrAY2NI0fOl++dsul4YalrxYaGeaq1pmpq++DJOeULX9yzaFu/9/KU/XypSGli2ugDmepEd1cV2wJgiBxSx2szNtreh3A5BROtep5wKtuoWyi1SFaudYdMHrDXkkFnvBiorYgx1pVEZmlrT+4SP49yIiykLXD5L6Pm214v19q8Lv/jGDxPUhp89aqqvw76Em0qONY0veWKeq1w34ToZ+dBkMmZCCCtRoB9zxjnxU6dswLsVbXiy4+WTJ4zNJbth5HS1wjrHk/c/pNvusEZzvev3cAjgF/7UL/Lh0wsWRw3ddmR5smTZNDz3nm88v+R02XC57nl4doQxmt968hH/6P3fkgm83mN4ucBOuYeWjqiOieqowtmMIeF9xC0qnNJses9//t+t2Y6CTfIlEbZa85/8AvyZr9aoEBnWG7Q1pMqyM5Z/9fyEj9dr3NDhKluqRpanMWGsxXvPOI6izl6UMawVCZ/tbldIVCIT9KjuBNhntMTEGlJW/EtffBetxZV18FHKvFMuU0CJ81qWipGzBmsM3eAF1KlNsXbouNgNNNayHQsgsUBadOk/LVvH1kc0mZA1F+tYQt6IwoCXPGbZZCodxI6jdkBkDJIvXW/W81zGkDBWYYxlHMe3fpd+74OPf/XQz3/q8fmvffnd86/PwMcbMlAvLi9ujJ8xVshvTmV8lsblGBOt2/dlQJqcxihM0eqa3+e7Biv+7ne+J6VXI8jQF1dPaSqLUpq+dH1nFfMC8/7n7/+Q1aJivfWorPjuRxdUleQZu97jjIQv3/vBS6xVXG+GooGV9ojNEnLqYtyZi/jz9PXZXu+47q9pF7WY1e/WxJCwteVyN+LK5gBYd0IDHraRtEuMu17iWKXQ3QjK0dQ1J+PIo3v3GIaBZ5eX1M7R9WucjYzBz/nL5KQUir5tigltkGaBAmOBJJTXZVuLBpZVrLuB2gmHWoFs0ETx8k4H13LsI00lQnWpABkpvuIxZYYoppdd7+U0XFgu1yPWata7kUXt2HYDbSP5yxSHZzXD+1hUGh+QjnqSuXgfOV7V+BDnubRNhQ8Rp3NhiL79KXLwKpbPUyVxzjl4dS1vjt+VnEKX5GPTS6FDK4qqi2YoIeT1GLBGsWj/EPxBnKtJY+BqvWPb7xjGTFXVaGNYNZV48DkBBk719kXTMAyBfhgZoyd6qFyFMYrKZDa7kc4PjEPiZNVKqe8gWHAPb568R3IsogpR+hLdEPHjiB8Di9UCleW0EE/QVFDERXtp1VKdrfbIKWuwiwZzEXm5XrP1nu1ux2YrucvDszOW6156FOM+V3HOEUPAOkff9ygL2piiopHYdVvOT1pSylROgZLK16qtxZa4SAwpJTAMH4Xgc2gtoSSptZyizurShJTcQyuhnCoFXR9m+Z6msYw+UjnFEOx0G7mmGL6s+eV24Kg1NI0hRNG3utwMGK256oZ5LnJ6ls75HV97jFcJn0pvY9eFg+NPInghZkKWxmdlSi5pZH1yFuRyY80MruSuQ6x37h0DmU038PjeAh8yR4uW33r5nN3gpfwZEsaUagvw7sOj8sA8WSWcsphi+O7MstBMVwyj52S14MmL6xksyA2wYFk5UjGMnAxoANplzeLsmIgiB4/KGW0dm21XAHZqTnJn5b+Y6J9diDJZIUONL6/pfEXlVqzalu88e8ZPPnpEiJFvfvABIUgCnEqsr42m6zqMNvjQoZQmxIBF4BGgcAszywft+kDlJDxJOdMNfs5flFJs+gFTWI+H1nLqYfhS4RN3LvlaHi0rNn2gGwI+CL+jH+JcVs8psOsDtaHYwd2gOue9f3vlHG0lTl+kzC6N1E7g8M7t57LtRlatpRvveIOUqmeeTrY98vPW8Ret9DqksWxm6dVJiC+VD+siT1K0+7L13Sbpz64kMe57tl3HonFUriVmRe8Dy7pivNE19yHy0dM1ZNj2PZtuZLWoaFxVvgCKXTcScqAfAieLjs3Gv1Gqm2rcaWL1JVExn1DCu+3Adr1l7AdpQoZEXVlM5dgN8hX1STgU1iis0vRbjz/OVMuWcRyoqAiNRXlPX7gYjVI8u7oS0bSqoltfS3nUWEII2CJO0A8DKBE8SCkRsjD0vBcrspQSOUbqtmUYAgnFZjdITmFFxNkVyH83CLzl0FoOReiOQpaafA4hEwvq1imNTNmgdUYlacJOAM6h9ySKftnsmKtnOE3tLD4FyJlFZdn6iMlKlOSLnUKOkdPjBbvOc/fnR7nU5GMyUWXVK2t5c/zBCyYsxERiEvA2s5tyLDVjnwSqY7RmUckH+E43SFsZtl3Po/Mztl1DzpGYRPX9qK3lpapcoY8m2rrwOpzhrFrw+N4Jl5utSK5Ulqttx/nxQgQHliJBY62+ST2U3V8QrspMMALmigxZSp96TCxXrfQotGIcA87peZPV1rBwiiFEgWIvW9p7FXkYqY4WqJBQ2x6aFY1zLJuGGCNXfc+7Z2fklGi2gzQHY8Q5J79fSrRNU/KRQF1VxCiyP3VVYZTkC64SjkfKEgYtG/lIxJRm+EmMkWVdiQHRgbVsJt58wS1R5tbWjstdj7GGrg+gFSEIfsmHAgY1YrkQYqRtHErvka571HEujUHph4wpCsraaow1mJIbuEqMO1PhmkB/h2/Z3p9kQlxQ1BBvG38YBVZU2WI1Z6YqqhKv9wKGlRC2uNzqfYn5M73+t7/67+UnF9c8PDui8yPLuqatas5/+o/x4N0vCceBiLMWYx1WW4ZhlK+eSmirISvadsnXfv4/pKoEZRqK69AkEN3UNVoLQvRms+nv/42/xHa9Y7lsGIKnrmpcVfFrv/Y/80//2Xfll5wBbpnHJw2/9BPimLvpxxLtyQvkjCkaUiIr42NEK3j/6Y73n3V7HqhWIswG/Js//5iqlHFDjLPv+G33erLuebre0XeB1apmsxlYrRybLrBorBCaishCu7ASPsVIBNrS77DazKGJdOhLM7NgsnLOXO88i8aRQ2Q7BE6PG3aDZ/SJpjJvNf4/+87LX73q4lthsW67zhfNr91bNX/50FpOp0p5aHMotmrh/Njhx8iYMk6E89n2md1Quq9qH1aR4Wvv3b/7KtanuX7w7Joxep5fbumGwIvcsVrUVO+tORrWJEa0atisn7BcPRS9VFuRcocxlr7fCnRl/UJ6FoUKq7WmbVzhsQdiiigtX+KqcnOS/OL5NTEGRi/OV+s0UFdulqSchBMokBNr9l9Uo0WKxhbS1rS4FDxP4yqxA7ND2WATtZP5/lP5VoCIVvKmT7jXevRsn4wl+U5glADsGnkBRAxOfBa7PrBsNWOUZlqXY5ETkq8mJbRUlFQrScXNGYVVsOk8rnh9XK4H6krTVIbt7u3Gv/PrlrVkogzkabPINjIKLtc9tSu9sVEkXZ1VMKo9mmPeYHmG13zmG+T0qOV0ecYYI4MfyUnhKkPjHMO4Q2uLcXmWi8kpoKylrhZkVeGswpiKYXghlNwY8d5TuUpccJNM2BhL1/cF9sEMRz86XbJ0jt3ohXOgLRiJx28Qx+dFn0KyMcS5izvZpE29nX701M4yxniDyFO42OyVUKb6dEoZHyKVs5KAf8K9Rh+pakepLbBqLdteVBE3ceR0VfNy3dM2liqKPXNTSWWmcYY+hIInk/vrqGisJuRMiMIRSTkzkGkVbDvPqhX0dCgEo7cd/67LvLevpZroRDdIavJhk6JVZlFXOKMYfCo9j/RKRVSj9kzRuxav/jTX9bbnct2RYsY6jR8jrjI8THB68phh2KJNS12X/AMrfiJJQiyFxo89SgX86LHOYq0lpkhdN8QYSrKZCldjL89TVzWbdcc67eS01khX3mh2u2EmMO2vSRRBxI4nroh4MIr6ihCUZJy2Ft1ZOWEK5XMPH0JNerBWi2piyTcm0tOhe6FEvxYt4hWu1PNHHwk+oZdaut+dZ1EbRp/meLr3sfR8IrZQCxRw5cUSOk02d1pEC2orjc6Ys7jKovCJtx7/rq/b1vINsGI5FWLKtLU0YgWrl6Ra6Pf+ByWLnf92zp+TE2QcBT/VjSN5zDTWsduN+LFjs33OdnPBanXOGEbGccPx0QNiFCkea4QbUTXHhLgrkp570tI4DvggibGABEXkwXuphIUQCKWKJeSnTGUdYQilfq/eeAAULVtV/MP7UfSdgk9UVvobtlCHJx1d8TB8E5Ga0mSbIF7lY9HYTTnfei8BOYo4d2UMvc/U1tL1AVeqSH0fWC1rUhSnXuum8AP6IF35yeKtfGPpi8+jVhAjs7g2I0SfGFOmra30iHR+q/Hv9Eq3r6VMcm9MxA1QZl1bhp1n6AM+Zo4WFettV46kyV+ksB5nVZ3PQQ7yhYfCCwkx4n0CFWnrhnun94kx8fDhT3F1/TGL9h7X6yeAI/gdmYSxhhCgHy5FZMCYggTOcx6ybBdiZp8y1omyoTVi0xVi5P6jE7RRDIOIKOfgsU3N8fFiPnaFiCNfmskly2gh9Tsrm9QWe+tcyogpZ4zSHLU1Kffzvd4A2E1I5JBeUdG47V5dTIwhsWgsKmfGITHkjHFGLMqAujJ7w8/aUpfqTWU0vgjQOSOaVUO8oSxYTlerRUZpCCXxHoTBGHJm1Yol2tuMf7eXvnUtJyGTWQWzwMTb2rEr/iR+iOSc2A0ebcyE3pyKonv40tQfvuPf/q2v/+qv/f2/TIJU/Db6PmAt/Kf/2U//ys//wh/5+mbzgntnX6TrXvLlL/4Mm80zMlMVKwhHHI0m8RMnCevs3DMYY0TlTGMXrJqGFDNNe5876phxAAAgAElEQVSUIuPgqZzlyQ8vSCFQ1bWEEmiU6vmTv/TH+amf/VnICaUMqmg5bZ495fLb35ScwZoC/ZBN9P7HV6zaSijCCRateBqGHFktRCWEktxPQg+DEVDi+VFL74O44KbM8/UVJ4uiNZUzJ4ua9eDxWaAQqXh2LGuHNYreiwfgMApIbxgjrhLtq+dXHW0t8jwTpyBlT0ZRGXGzbSrL4OP8EVhUFlTGFGXJxaIipciuG24dH0QatW0sY0gsa1fi/DvKPyTB/r/Y9H/51Z8mDjM3JBRb1PlX7q3c172PBBSVsxglCjVHjcZHpDI3RlwJNbf9jsrdMeX201y/+dsf/pVDP//h0xdf/2P+va9b13K5fo7VmReXz4v5/BFKDwWUaApeqOZP/8TJ7KkRY6KyDSkn7i1POF2sSKGAGMtJQ4q0i4axn4x3hCXn6oo/86/9HIujJRlNiCNWZ9AN3/onv81vfP/3C4tPOtFT2fTp1Y6n6/4Nf5IQErXVczfX6JJgqoxXhm2KDDsJrWxRRVznketuZFEbrjee59cdJPA9+CAcm36cfC3kixdDZoyihj71QkYjmrcxRtqq+GOoXMI3VRiVubz0UtExxjCOoXitiBWcH8M8F2P04fETjCFjk1gy5GKdLYypu9kkfQh/tw/h777N37k/mK9vLV+vrOghazJd0jSuyMzmRO30rGpTWcuu27Ib7lgX6y6vqqqoqgajDTHawlXQhBSonSUagUgMQ4dWml0nmluVSQwF/j2GIGIGMUpZV/kiYFaIOFrhnOJosSQpCRGGfsQYxcnpEcpUb4zfDx3Xu55FXbHpBsFLFfj0onVFO1aabamolQstVxh6lBhXuvaGpOF8VVM5RUpis+yM4vku0ypN5yMDwmevG8OwC6Xs++a9vIo0xtD1nuNVQz8GVE4sFxW7PhBT4nhRsd6JxM7RwvFyPc4+5UeLivUu46zCVm8/lzFGVo2ZK3ATFMZ8GkbhHV5VZebK5dvO/3O7QYxxeD+Aa0E5yCMxJ5QudssZQgCtnYgsZM9R8dTQhRxEzjgrIVcoEjQztqiUOROGbZ/oiwlMzgrXVByFTE5vjl9ZzXGh5c7jlVxi3XlaZxhywhoHZtK/Ei7CdohFMzcXU1BRY/c+cr2L5IyoqluFKenz0AdW1rKoi2eJ03S33Gu789w7XRBKnlJZ6fUMPpdTRcKnurL4ID6BMcTZHySTBYafP91cDIL0DSmyb00oPgUd5E6vbowcOfOp5v+53SAimSMiCCIqZ1AFjJijVKDqxhG8cKZ1KZlSyn+veGpoXoHAK81sRLOoFCjL8api13XUTsxigg/Ypnlj/JxF0ge19yKcrts8NYyVRlzjrEAb7MT8BmMNVsGitWwH8SwPOc/+FI8fLri6Ghl8ZFDiY2LN4XvVtUOhCCETYsC1lq6L1G1F4/Qb/hjXm/Gt/UE+aS5CP1fUyoimb/lwfMYHiPD0D/iD/Cjz/9xukJQiMXqMMyINmk0pr1q8FyGzXByqVNS4qr3VU8OHhK71HsI9dVut5Wo94mpHt92hFeyyqJqs7nF4fG2JUfBjQwjkIA24NH39D3hqxETB+EhnfoKTGK3ZdJ7Gaa59JETYFZOayZ/i4nIgp0Tnk9RvvIRhh+4lXX7Ruzpa1HRDwDiD0Rz0x6hryzCGt/IH+aS5pCQd+r5UyvZyqZ/tZcxhf5AfZf6f2w2y3lyw2T4TLEE2RSUjTt8qUvZo5dDakpIn+P6Gp4Zi1Yogc75xquy74Zoc5UviQ6DbbFHGUjU1/S5gK83l9QXa8cb4w7DGOQH5Hbc1/RhmgJs1im4ILBvHy+sO5xxaZ2mWKSmTTvF5jAIoDzHxrA80hRM9hoRRhpOF42IzEn3mwWmN0QmV4bITz4xD9zIloa6r4mhL5mRZM4aIEcl4tt3eH2N6eW/6g4SUWNbmU80lFxiHKYhYoQmrO6xhfbrLKD71/D/77X3L9R//8uNf/6V3j35lAhSogmAd6vu8OP0ZJoEPpfZgwX/7L/7MW/uDLBrHdrNj2db0IdK2NdY5NpuOMAy0TcU4eNqjBUprLj++4OP3vztzwnsfOV7UxJT5jb/1T+YcR1h/UvH58OWWD15cH/TUeHz2QEKU12Qwf/fDi1cfzo/gNfLwRCRenRJdq6qS5uiTl56U9L7zXO7VOMVxm9/KH6Rq4QvvLMAorq6EC5KzILm/993dwfF/67uXdwZWvMvrfFX9ytcet79+aP4ni0owW5/1L3nbZZQIH/sonV+yKDVSGlkxxhkWMHFCPo0/yIunlygF1+sRpeDjj16yaCqiAj966rbG+4h/ckVbVWw3W373u09pm4qX1z0+RH53PXD/bDl7SkxCdiJJpFjUZjaNfN1TQxfTllxUCid2nL4hij0JDszoxVu8RiY7uC5GmsYxjpHalfAnv+mPUVnpqL+NP4gzmlpLVnF+JCSsxZHFD+n28T/rJOSWq6q41R/l5Xa8e4/Cu7xSFiKLKaIEk4SLMMAmmMReIQ/Fp/IHaXVDpXRJKjP2qJUYVCuBnNeOHDrao4WUhUfN0aJlWTtCTqic+eKjE1E+KZ4Seq6YydsrFmaHPTX2Xf8SpOQbmlI35Gx+FK+R0SdOVzXX24HKGglvYpR7h1eF0yh87IV7O38QazTXnceHxGolDUG1FkLXbePfZR/kLq9xvN0fpSqEu8/tBuGGGncqVgjCNdeztlEujktSnNKfyh/k+GQJwDLeEBcziqEbqU9aohfBuWHXUx8tiH3HFx8f0w9iMTeGQAwKZfLsKZGSCONZIw60Shkaaw56arTVHhoxHQWqcMzf3msErLEY49l0I8cLy65L5QXd47Em3JEYEo1v5Q/iU6apNO88bvn9H2x4sKwYY2LThU8Y//N6mdmQ6fX5L5riaPZZ/4q3XbnwFCYrAF04ALGoJirFDNtOZbN8Gn+Q3WYEFF3XEUOkrRzaWhKQ4sgYAhcvrjDaUHeBcYxcX4uC48X1htFHVnUlOLAJ41SJmslkrjmpMh7y1CiH4V5oIss8Z+ejPUX6D/QaqSrpFPshsFzWDGMizHj7G7lLCdE0b+8Psqw02xBJzwfutxVeZbYhcnZacfk8HB7/c3oZw63zF5Dl5/kE0cV8pTgw5UL6mpXNC6lo6n1opT6VP8gweIzTNIuKRVvTb7dgDc5Y1psd989P2aw7Fk4TtaIyiY/ejzw6P8bHhtpYOj9SWTt7Skz8EEqlZ9mIGuIhT409MYs52VYT5fMGGO9H8RopHChcZRl9IKTMclHRX8eiOfvqvZzV5Bzfyh/ElHD2KgSWUbPzkZPWQcy3jn+3lNu7u6oS4h6af2210K8/61/ytusnz9tfPm/Nezd/FoHV0eqX33n04C91Q2DZOoFZW0XI8Bf/wi9ytdlyvGjpxpHaiQp8VuKn3VhLyKKWqJIikWaH1ONFw1joqLW1jDGw2fWlUuVp65oYxUDn6mrNMARBrSLVZ2s1v/0PfoemcjOsQRCyifWQebIZRXFF7zVrU8pcrP0rhJ3yH3IWXaycksTHrWPwkdOTJffOj7i87njn/oofPt/w4GxBPwaOFvLv+5i43oycn7QsG8c333/KejtSFSCk0fsTSKvE6KNU83rR5EoZlo2jGwNtZelGUY5XgFvAuw9bnq4HrEb++RAJObN9ISJyzuytFCpneHbd/8PdGD+sjCEiHXet4GLj/+EHF91f/YxeMdqWL7am+lNTDWHKkgzwpfvNr38uwIq3Xd++6H4T+M3Xf/7gZOR6LZ4OTSOeDuMgng4ffPBltkPPhbOEIJwKawxD8CLgpjI5Ko4WjQhG60wMmZAD6yvLtgusmgprDWMIdOPAhbN0XeBkJflNylmcd5G8aNeLPpWPiUVdFdCeJLONs0JUSgFnxXZM65taNYnrp9vXzCcBMveWmZA8dTHQCd7TVJqHZw1RJR7eW/LgfEFVW662A19655irzUCzqBl8ZLlcyM/PVlj3HJR4jYj0jXzqlVZsNiPKKIYgzLrNTtZy0wV8Svjoi2CdKC0ua8PLzvPe4yUvXgxc7jyVUTw8qvl/P1pLKBknfBYT5OVPmaLeH5NoUQF0VQT4zDZI1/Fhx3iw/PwTDxr8XfuD/Iu6bvN0ePfxEePYcu/4iOfX1+x2gXunC4wxrLcdJ6uWwQeuNh2rdkFdiTNS44QfMviRvo8cLWtQsNkN3DtecbXb0veR06MWrTWXmx2ny5aQE10nItVN7fj+N74DCQYfMEYaT42zQnRSCvTMLinVpNs9LVylD/pzOCcGRJUVs9Pz4xofE+fHLWNInCxrPny65itfOOJkWbHuPceLirEfaaxU6yZdKHLG37KWlT3sT9I6w6qyPH/RMU5kpNayGSJtbTB6csLKxJhncyMf8xvjb4bPaf0XcJVBf57LvLddMUb8LZ4OT1/s8D7y27/3Me89OqMfRvohSlilDN/63gWnxy0qZ9ZrT9ZiORBj4mrTcX6yYBwD662fAZHvf/iSh+dHDP3IeutLkUvz0cdPqWsRlk4loc4p45xo8A5e9H5zoefmFG/I8u8Vx29Wq/aOSYp+jAf9ObadR7uKx2dH+BiLRJC8aM9e7vjC/RXv3F9ytRk4WjhcAS6OPrHuAm0llRsfMjHnW9fyNn+SYBP1IEoyKsODI9mggVxsA2CMAu9PKZeKmOzv18cX/snn85rX/7P+Rd7+Mrd6OkDCWvjqF84J2UsVxoCzCm0y7z46xpiMdqCNSHEqlXBO8eBsiU9iJZYJaJ1xDh6drwjJgy6VHZ1BRe6dLkQMQQsnQmtRU5mqV5XROCsyO1PMP70oNxPmVzwt5ivf6s/hrOHh2ZKr7cD1ZpTurzH8zndf8OBsSc7w5GKLNZpuCHzv4zVIzYO2Kj2k8v+N/gR/jFv8SdraMOSIbhSuVmyHwHoUdXiKs3LjNGkSli7zOTT+5/ma1v/H7gRpKzNXe173dHj34QkxCsfj2cs1zolczqppWHcDbbFOvlp3tK1l2TR0feDeyYqr7Zb11lJVirqqqK3kJMfLmpfbDX3vOVo2tFXFxXXHg9MVu3FgtxtRJnPUtnznn35XNkNGkmZrWNYVV/04NzZzwYxnpHQ9nSQZ8SGZwqxVWx305zg/kdzi0VnLdgh0vWhVPThbzJx7Zw11ZXh6sePB2QK/66itEd5DKWM6o2kqy/Or7uBa3uZPYtFUleKotfTbwMsc0TGz7TyNNdROeCE+FBS0Fu5+KOHWzfFb9/kNsab1/7HbIDEKfD3FTO2kzKi1IGn/z9/8DruhZ1E3+KJeqNB85YtnLBamCDoYgU5sIrvdlpASP3xxyXG7AA3rTWR0noux4+Jqy8JV9CEwjIFl41k2jt57nj5Zi9trPxJD5uFZZDOCGkMRlLa82Ir4w+poQXumscW2zVnpmYQU0a0pbL9qVksJKXL54jkxJdrKSeLcOIxwvHj4cIVCc1o7VosFdSVI2jgkdjvPF86Oefpyh0qKd8+O+cFHF+x8wEZd+O3SdU/J37qWPgoV2BmNUsUXMcMqGxqvuXoWaJzmvqkxVgwveytQk1obVgsRK7dasxm85GtjYMLWhZBm8ezP4zUW8Ywfuw0yCkOS3eA5OW5gFFekwSf+97/9O7ON2/xlzol/61//Gf7kz30BZyWGPzmqqbRIZzau4sOnFyyXhuvtyMNz8Sf51u99zHd//4KvfuVLdNdbame5Wu/YGMW2G1k0Fdd5wZePHBe7ju+8fM4Pr0OBgsTiByh5yS//9D2+8tXTG+O3b4x/etTQj5HjhciU/rf/w99hDKl0eo0k5Upxfrrij37l4cF7/fN/8jEtFUNq+Pkvn/D05YZuHchBwjxnFGPZDGI4k29dy4cnqxnWcnMu543h0bJ60+ulgi+9t/cnEdi9Qmn4nY8uuNiFN/xJ4h+ecu//72vXeYz9HFNub7uqqpRR38LT4uJqyw+fX3O2WoCCj59dM46Rtq1Yb18c9Ce57DJ/4qe/yLc/fMqiqbjoIuetJeXE0ekZjDtcd8XHLxVe1dw/suJPkiaVDDWLI19cb6mf6z9w/BgTFy8vqGvLy91QrMxEfvS6C1iteH654fiWudimhTAydls+eKYYs+GsdWgtYMnX/TGa4htycC1vmUtM6Vavl7f1J2krB3Sf5et067VsDH34MTxBui7C8dt5WqAUtRVe9hA8l+uOR2fH5Kxu9SdpdCDGxOr0nC8eW653PRfXHefHLd3QUx2fYc0Vbe3kZUlp9pSYgIo5FbIBP9r4l5sdtXVUVYVRItg2hkTIiRgpyf7t96pVxN17hHrxBICTVcPlpsda4c2/7o+x7UXO5+Ba3jIX8wleL9ND+FH9ST4HXKpbr80QxW3ss/5F3vYyxry1p8XRsua9x8fFRSrypcfHWGUZk6et6oP+JN/dDDx9uSED33je8ej8iMfnKz66HCCMrNQVm24sfukBVTVQAJazkWWp1Pyo43/h4RKDIalEWwnA0MdMqzUpiUr9yer2e/3w/UsemJesu4HGWa63A8ktICdWjXnDH6MPqXzND63l4bmQudXr5W39Sa6efz4hKMx2dj+GG6Qqmldv42mx3gz84NmGXS8i0uvtwMmyoakqUONBf5L1VkThHpwu8XZJP265uN7x4HTJs8vI0aKhtpbLUXG1vuaLD9wMMJxEIXIxoVxvf7Txu9HT1o5FVbObxNrK6WS0wnjN1SfMJeeMT4n3Hpzw0Qa265c8Pjf4AN2Y3vDHqKz+hLU8PJchBHqv7sSf5POcg5iCHv+x2yAT+eZtPC2cNcQknXClFGerlt0wUlUi93LIn+RoUZOGxHdf9CxNJBvNg9MVPkaWTcXzqx3RtpzVkVjUTW56SqSJnFRCjR9l/Ptas+l6qkp0p3xMtM4Qs4QsGRGXvu1ebWVJGb530fHOccVlqObf6ZA/hi0WzYfX8vBcams5at2d+JMY9flthrS1pRvGH78N8mC14j/4038crSxZS6AcfSSnxLeef3zQU+NnvnLG8aridCUgxso5HtsjhhAwSvPk4pr7p+JP8uV3zmirmvW9jueXG/7I2RHboeeobcvXUBVISqBppMP8R+r7pJT52s895unFNfdPV2z7nmUjul69H1lv+z9w/CEE7p2ekbOILEz+HP0Nf46//4+/zT/+xncO+nP86//KH2V9FVg1lt97GllUhrDpiESsUdROv+IP4mNm2VjW25Hjo5rN1gvHJaaZ2y/5XCoGPhm3qNhUlkUlsP3KqNk99pvfvpKwdsLgF4h+SJGsFE4rVGPm8Wv32ZZ5H5+sfuUXf/LRr88E5kKpyBl8WIsb8Wf6G37KSxmNH4XXoa1FW0NOgh865KnR9Z686dl2IwqN1tK7aBpRtTjkT+JjYtuPPH25oR8CL172rJoapRXrrpMqzCjJaoobVoualDObviNnRdd7fug3nK4WZDKb/g8evx8jpMyirT6VP8fF9cAQM6l4ou+6QOMMgxcs1ev+IEYrrjYSqu36gLGa6+1I27oZ3pJiRGtpImqj2A0BlTPbPuC0khpUlvUWfYBEjsygTKUFCXBo/PBZC2aZEpIXAx6lpeejyOzGiI/px2+DmNJsU0rPUjPG2Fdoqq97ajineXR2xOlqwbrvWW967t1fElJiGOJBfxKAZee4f/r/lXdmPZYcZ3p+YsnI5SxV1dXsblEUR6ORZ7swBjAMCBjY0AC+87X/j3+Pr23f+caA7zzwbNJ4RhLFtZvN2s6WW6y+iDxZh2S1NE1xyKE7AaJQp7oq6rAyMiK+733fZ8nVbotCzUHMWkserxt67zDtyPm6wU1/7HNfc7asud5tSaGmqvP3LOrit46/O/SYQmehnJavzedYNgVPiwKXAtbl/oWU0BhFX6gv8UFizPZkU0hGG7hYlVMwNzMfQ0o5m7IQmQN4sSpZlJrWekYbWdZqiv85ObNM8hSSwGhJSl8eX33LZvV59IkHcqTnJnLKifkuHtIBYsjdwjAluKeUkDonxD/E1LAucLcfeHG9Z1EbnPd89GKLUAkl1YN8kjihDq42LatFyf5wYNGU07ZN8ItdT13mMTd7i9K58uF95KOXd6wWJdv9wHpZ44JDCvVbx5cKwn5EaoHzr8/naHvPoXOkJO4FjlKwHzw2xC/xQXyIBB8wTYaL9jYgRSSEez5GfvBMyTJk8Myud9wdRgqdS7ij84R02oNKs2FMyLz9emh8+22vIMzOs6mXM70Hkd/nd7KTHkKY6vMZs6x0VtNG71BTTf6LTI2LkLDWo6TiZuqKyyRwU+rGQ3ySjFvLMUHX2wOl1uwPA0LmdBUhJdfbQ37iC0XfB2LBjCy43Xc0xnBoB6SWiPTbx5dKUEjF2OfS6OvyOXzIh+rBe2KCapqwOUj6YT5IYQqsc9gxUjUaoxSdDTMfIz+A4j2gJia8TygB2y4rlqW4X904JrDM1pbcd3lo/Pgtz49wjFkT955/jnDQ8C/dcvsbriQFTPjiNLn2lJ5YgQ8wNdbLiqdvranKHELd9iNNVVCZkn60D/JJCiW522cPyb7v8C6yWlQYrbnbH88pK5wNSAVNmSUibT+yaipu9y2IyLKqqYqCbdv/1vGt9QiZWFQ1q7p4bT7H47VBqRzBGkIurdZGYvuST539Eh/EaMn1bkAVGlNIUozsR09VFfMNHqdsgBgSiMSqKVitCgoleJTSFNMpqbTkb27HOadMMqU8CkFjFELIL40//DPQp173Olq5j2XsY295Veuc4vJt/4Kve3162//sv/31r/8zk2Q6RiB6QPLpboPRem5qSSmx3vPnl5c/Xb6rf7obBUYb1NmC295CFyl0QRgCxlREE3ER+igJ1iG14coJIiXFquJFbzEekioYRjCmJtaJbgjsRibrr8ImjTcNstB8NnqkD0iheWj83dUdznmWZUWcEAaIln/zZz/k0A88Xq/Ytj1NVSFE4m//8TmfbUYOfd6mhCinEOnA//zrT+dgFkHuRQjAKFAUdFP/AQFDn2NuFlWDUoKqqHAxYVREKoEPIyHlbZ6LWeCYYuLDl5bwMq8kecW+X43UFG5tJlrWEXWzH0as9wxT+V1LST862vHbXUICAet6nE9UpWLoA1rmLeXNPm8hv3sT5HD4+X//m8ODTJFXXX/6E8G7P/rBT/XUwFKFRiawk17IDmNmhk9ItKI0jKPDWzslgQeKQoMQhJwfncOtlcSlRCFlboSVhqHt8llkuhGk1gyDzRSqB8Z/vz2waTtUAd7FrIOSij/+8Tvc7g/UpebCLSmLgkIr3nu+o+23+Zwh0kxDTgiGu27O0Dq17759uWLdVMR4Ijycbb5HT0r2uxx98btuw3iMDp187HK6wY+fHz8eWSeCDOPR0yqmpwjSY/lESkEMeUyjJd++2j2w3R9wIeKCwbpAigGlNWZ6yH7nJshXuYyRNLVmuci2VJkCISRWhWIY3YN8kKoqsYNkdbbgsB/QEpQSoBTtoePibEXnIheFzPi2QuJTxMiK1cUZ++0ekTJPcLleMbTDg+O/LyM/eLqmLAwxRg7dkL32MXJOxTtvPWLTHji0lkWjszdeCHKQELNLUaRjbFCaK3rH9Jdj+Nw9rPL4WrqfLHNO7RGTkG/ihcnVQBcShcrVw9GF1+KDJHIe8sJo/ATXUf8SqliK3J/5LvJBvs7L+0hIiqvbLt9YLlA2FcE6tH6YDxInL8lnV/t8I8VEUZWk5JC65HY7EGKgSwlTlvTOowtNDIlPPr5GKUEKCdNUhH5EyYfHN8rQdZGX/SabnaQixMk7khQ/e+9TmlozDB4lC7rR3acschKtKO597Rx9718AU4o5L+JYkp2Xj7nMeWwOppQn3V1np1VkMnwRX5sPkiZI3mHwM6aiUDk77Nu8+j4Qlt9RPsjXeWktWZSCs4s19tASk0YrTdsNE4vvy3yQkaw8Xa+XjH1PilA3hrYbct7sYkGwFuc9RWEYh4HSCCgUZ2dn9G2LQFGWil3nXzl+VQmE0Jyvz9gPPYXQWTSpBSkpLi8esWlbCiVZLTRK3idAJjhRxE535ER5PV6nsMvjCiNmndoxe2vGjM+VKCVzyERpcuqglPmMNUULvxYf5LhAlSJbkIXIucDftppXKfXd5YN8nZe3kW3rEJ3Hu9wJhhFtilfyQbTOHWjR9wz9gBKCtrNoU9B2I6YMDL3NTI6wRZsCexhJQkHbMvYjWgsOraSszCvHv77tWTYV7dDjfQAxUhYFQgRSFAhpaYcRNcXxE+UJz5s8BY4hKZyKNU8yfBOzP1yk4yRhPhscFbvz+UVmRW/+uWHCzzGFc0tsfD0+iBJiIlPloIg4VdlSeuWf7Bu5zETj/U7yQb7Oy/uIHUZ8yJUXITMWLIpISvFBPkgiYfsOOYUym0IyBoERkRgC7W7MW5RS4xxEkemyQ7ujahpCgjh4ki5INuDtw+P7mHh+fUdVGKSSdJ1D1AqlJdv2wFm9gCQZBocUeiLqnl5yMmscV4Djdmm64afyJcfPpwpXnJqI96sK014tkqKYGI+BYjonhJgmBUN6JZ/kVXyQKJkbrMcUVB/uUzG/vStX0X4TH+SNmCDrR4/44Z/8a6yzSJmfZFIZhNCIFLFunBLWc2Orqs9xboAY8TEQY/bBF2VDigmBZBx7hMwJJQDGLOm3H9FuxMN8koV+kE/y0//45zOfxKZpS2MDn/38F7y4hYvlgm6wnC0foaTih++c8R/+3e9TGY21gfWyQUtB7xzv//yGbTtQL1aUwnO761jWJX/7qw/44LNbzHRWqAo1b4vCJKcvlJxk8Fnx+9N/+yNuW8/C5O3SwuTMq19f3xAZHuSD7G/qz01CphXJh4HD0H9p/P4b6oM8Wy/+y6oq/tNDfBQtE4c227CH3s2pLn3vZz7K//fXcv2IxWLNauoKx+iJSbK5+5hnb/8RfXtHXa8Z+m7SHxVsti+4OHtKwUihLtgfrjF6SVlpYoC6rtG6YByHbCIa9lXfBHYAABs+SURBVL8znyTGgBs9TVPxd796gY+BcYRuHPm7X77k6cWSoijYtC2LukQKyYcvNwQHj84bZLWg8RE7dCQtSUVNaSTbzjG4zG5PKXEYpg64vC/L2klasfU5IO79ly0ugqs1vQt82HvWtUEgKNUr+CAnrBOEyCSnBO3oHxz/m8rFkkfa0lfgo7wRE4Tosban0CXOe0JwGSkdEsF2BB8YhxHnR4RQhOAhRUbbkxDYtCUR2R2uKa3BFFV2+7lECBYpNdaOvzOfhCQoTYHUkrNVhbORqtDE5Hl2ucIYnRHVqaYuC2zwVEXBYp19H9v9jnp1Tn9znRFxjWDfOS5WFdfbPVpmAlU12V6lyEEOxbRqEHO0aCLRVJoUc9PPx8TFwiCVwHpeyQc5ZZ0cawZMYzgpvzT+N2kHmQPuX5OP8mZMEJiA8RalFN4nYrBI4bOf3HuUctm37XOYtDE1pqgZxx2mekLbvuDx5VO6bpsRDDGQ3b8S50YE/nfnk6QIQjLajHNmckO+/fiMu13H44sVh6GnPG9oO8ejpsZ6B0kR8Hw0Oqy74XbfcbleZFZpSoQQWFSKEBLVVJUqtcLFmJnzMVFOkKI0aS/WTb5RRhd5XJd0Q2DVKD68aV/JB5Ez6IfZSSgmbdxD4+969w3eAV+Nj/KGTJCc6CfJfgWty7y9cPucwJ5iTv5wlrLKcTfW3tEPW0iBoX+B0obrmw9Yr55irc2yc6WJyVGWS2K07A7XvxOfhJgDt5NU7PeZddKNjqvtgWVl+Ox6j9SSsbc5O+vQYV1gXVczX+SdJ2c8e7Tk5SHQjx3nl49x732co0ZjYvAOElNf4/5wPbpATKCnnzNMMpDBBW72ltoo4iF32zf9K/ggzx9mnYSQvfVfHP+bEvPGqR/D6Rnkn8hHeSMmSC7leYahRyqDUjXBjvhg84oB7NtblKzp+h1KaUIUEBxNc8mhvaYsS9p2R12d470jRk+IDikN47ghRPs780nKQuJGiyoKtucVd/uOP3z3KYe+Z3QWrTULU/Jys+N7Z+usYo65DGsKzYf/eMvVdmCzP/D25Yqtl1SMM59kWeVO9j1IS9BNiIOYZE5AnDKAl3XBYfT84HFDa7O/RCswvmAzPMwHOWWdkO7DuHOi4pfHP6a8/7Nf4r7C97p8lDdiggzDjhQDKQlidMQwIlXBornA2pYYM7Uqim4KoK4otWF/9xmuvctbLbvnYnFOt7uiqNb53wdLjNklWJYNn376Kbbrsb3PsZXT+WEnE6v1WxwODl3UWCEJgJCG93/2v2Y+iZ/CJqSA/a5je+jwLs2skxAsV6Fj3Fu6a0+IHq0LYgDnPZfrhl03cvHke3ibM3k3h4GqLnn29BFVIRl9zNm5MUfv+K3l2ND2k8BRSsHf/fIOgeD9E/us95GLpeDd5Ror8w11XkL0iegST5cyP1xCPvg6n/sn1wdNWTTYMDUspcC7iFbiJ8/OFv+FXKzOEQ5T5Xe9WjKHcR1fjGBkIMQBLSWJmB2aAsLEZAmT5N/7gDEKoRSE+JP1QuVJELNUP59JfE6U7O3MR6mNwvvA7//oCfv+DSnzRjSmqonRk5JEYIlJsNtvaJpznN/SLB7jrMPaLapYcPXpSzbXNznwIWwojCaJHVJr/uBP3qbtbijLBbvdHYtmQYySvrO40WXQDgLvHEIrUCNnb53RdndU5YrN3aecXT4BJB988HLmk4zToTxNB+jBelLq8T7hXdY7DQdHaB09AwnFos5/UB88pllirKe7+4zvXa652hz44bMLPrxWGSsnJVpnZYEgEaKkqcRUus6WU0rm5iNTwr2c5CdGSWqpKIWiKgRBxgzWEdkhODqPFJIQ88atKkpA4BnZdmFKus/WK0qQcvjBsnM/OB4M5vT7lLg8W86rkTx+DwlCN6/6JDUVGKbfOeTOhhIQU24CLheGrh0Yx5GmLEg+kmIGJ5ni1XwUFyQe/WZMkGWzRCCoyxXOO7wXaK2BXZZ1x4CShrv9+5yf/xAhNHUjqZ5dUC8qNnc5h7eqDOiStr0lRkdRLBFcIWWFdSNvPVmSXEO9atjebJFSUdUFlAu6fk+K2VmotETKkq7b8b0nq5lPsm97YoT1siKk+CDrRF4odjcd6+WStu/ph4HF+RpTaP7vB89JZokYHc+vd9SLBZ9c73hy0aCNYF1rdr0nxERTKox2tAc/Ny1my+lJpthcmRJkWtfUZAwxe7bj1DAcfaZQIaG3DjPlFsvJO39sSJ7gEmdq7/GlRD4XpJPXOR6sZR7faEUpdaZlTcF6lcwl63a0lFpx6CznyyrjuGOgrAqwgZgi64WhHxwh5uagfQUf5WJdsgpvTBUrIoXOSORJh5RCQMnAevkIKZ/SdhuePftTRtey234MLLndvGB4fsdyvaDbdWz0SFk7fvwnf4RzHf1w4MmTH3G3fYlWhrvbLBdpP7ji7HyJH3uEKagWkd//8Q9xYcD7yPee/ZjN9gpTGu62w8wnOVtWOX50N2SZ/QOsE9t7lFX84qNrzlcNAti2O3zIT++zMvJ8n290IwK9D/TW0naWl3c966bAusQwOLohcirGOuWTHB2As8Ax3VN2hRDUpYGJ6CtUlmkIMtm3KclgIpNvL0nOSJ77EUcN2UwoTZ+bLKeisBk2NL3sQiSFyK7PuDgAN/0MOwZWFxWxSrSjpypyXJL1UEg5r8yTYxkXXs1H2baOGOJ3kQ/yVS6JcxbvPTEGjKlRukBKzTju2e5e0vfX9MOOvj9QliVu3FMqWJ81EB1SC0qdVVB9f83t3ccEd2Czu868wTAiU8AoeHS5guTRRlGI7MHohluur94jhI6rm09IKRD9+Dk+CTIHVUv5ataJ0QIlIt9/6wKtElqlKWQh5sTDKdNJmoaU4OmzZ5mdIiVnTZETGUVCKXmylTret/efH/3lYmpWJAGJOJdxuzGrfAutYPK+xDSlLKbc65BiQnjPN/wRY33kMaaTvNjT61RgeRLpeOJhaUo1T97jf2ZimfSDn2Na+yGglKSuC0KErvd4n1g1JcMYXslHiZO04o1ZQVKKSJmbXcNg0YUGqajqS6x7wePLH3G7+Sw/hc/fRfpfM1aaopBsbncYKSjKgsX6kqI4Z9FA06zYHTaMo+Xy8Q+5fGtLlAopErvbPaYQaGM4v/w+Y5Q8ffJHdP0NZ+vv07Y3NIvHXJ4tZz5J1+fwh0VVTTlUX2adNKlmdzdQl4ZDZ+jHkabUNNUlf/kPH/D8ruPxquTXL25ZNSVvm8i7T1bc7A+UhWTbe5zPWywlBId9bpqmSWUbYw6PuBc4JkSarLcnpqmzpuJ617KsSozJQXKQ41F7m0m+ZaExWhMP44lYElKK93qUE27KKR/lWI89Da8TQlBpiUgqS/CTzEqAKT/AhSyg1Co3J/sxs06qQtEOnkWlSCEx2Eg35mpV29sH+ShvrUuEeEM66V13wIeB0e0odIkQinHMCR67u+c417HxzylUroxsb37BbrOn3x8ojMFZT6oMfefp+hu4uoWU5dxSSZRUfPre/0GXZ9hhwJQlujwjxECKBftugGSxwxYlFLvxfbQybG5+webQz3ySJBJ+SAxDDwJ2bcflao1zOShh7C3baOnaHtnlcQujOPhI2x1yWdoIfvViwx+/fc6Hn2147+OXvH99x8H67OaYVgspyIf/EGDiksSYb8ngYVnmRqGa/MtHj4cgq1/bwbKqS0YfsN5P5wRBPzoKpZA6nwmkODYgZywjAjF73asi+0KKQuL8ZO0FUsjGNWIkpDzxQojsR5tR2tPhHVKmB4ucDaCEJCbJts1NlrpUDNbP44w2r9JaZDTdq/go731ylx2m3+qd+w1d3ltCSPgAw9giRaQwFdAg3Q3DZk9lNIcQWVSGoqoojUbUJZXRDEqwWGTh4fZqw+1HH3O9ObCoCwYbOFtUgOBf/fu/wCwMPkCKIxKBqc8RvmXY7VBM0TdNiRQD4+B458n5zCcZbODRup4IUzUfvoyYMhEQnC9rCl0wOEvZyBM+SDXzQX758wNxVKjR8Q+/2uSYHglXV3fcduOX+ByFljSlnuJ4cg/k2Jv40fefImWO6BldQIlJniIFWqnP80GmSVToez6I9yEnKMppCyTvq2XI7EwsNCxMjmU6WxWZvygSEUkYt6AltVZs+5GiNoQQabuAD0cnYprPK2k+x8RJkJA3je0YaEwkGkGlNSEFtMhZxQiBTA/zUd7/6Oq7yQf5Ktd6/Zjz87fQuiAEP5d77zbPefHRVZ4ENov2rrZblN4TAe8CYVkz9I6us0jgsD/wt798wVvnSzYHCzFxdXNDUxf8oVJopblcP6XvdsSYMGbB9ac33F7vqJsyR/N0e4KP6FLz8/dePMgHceE2+y9kwTB6fnl7Q13pXO3qhgf5IO1gX4vPoZXgrrVTf2TyoluPVoJ9nzntg/N5xdFqwkFPIdivwQcREz8hnfpThKDUr+aT6CLzOQ6DwxQK67K6NnMf7zO7xNHslU4cX9NBW0wl46rIecZffP9njWazt79x/DdigkDEe0uKER8gBIuQipQiyhhG6/HRQwok1BzYBomud4z9AEJSViURwfliQd97fArs2oHL9ZKUJCRPUVTs9nti6JDKsNldEZNASEU/Bpy1OOtplg0iyVfyQYxW2ODZ7Ht6N9J3ISe4y1fzQVZN+Zp8jtzb8CEfym2IVFN867Iu0ZPiN/tAwGiNCzn87XX4INdHGJA48Z9IweE38EmOfI4xRpaLipQiPqTP5XRN+RKzfOS+8nVMssiKyMHl4skX3/8RAfebxn9DJogkhkiKHqXUdDNHBIEnjxe5meU8KUW0yirbfrDUj5psEWVBcgHTVFyFkbefLKdmYCClFRJNErl6450jppGqeotD+xJTGIpFRSXXBATJO0RKSF1waHu+/2T1IB+kLApSgkM/YooGZ3MuV2dHSl08yAf5hQuvxefwLtKUam60NUnNIsOY0oRSS/ONfRjGGXXwOnyQeFIzjikipCRNW7JXsV6OfA6lIm3vKJRAzfPw6EY8te3m5WReWY5hFpO1drVQX3r/wxh+6/hvyATJK4gpmwlJXOQ+Qbng+fMbSImhG+6feia7+9rOY4cR57LCtywM3WHk+WcHrPfEFDn0uUNbm5K/eOtddrtrxnGk765o6oupMtLx2U2LHcasrvWR0miUKfjks/2DfBAhhilUeqQbLVWpqe56TKmJcXyQD9KP7rX4HDZ4wghhKre6GOeonkOXo5C0Vtl3P3FZ+jF3sV+HDxJCnEi+3HNbBPPXH+KTmCOfQ+XfuR895RFJfQJKEsfJIo4fxfQ3npARIk/wh96/lAkxqblfOf63et9+Q9cwdAzjgdHtpshiRUohy0pEyj2GZU1ZGYa2RyhBUSjGwbJc1fR93nbZmCiNYvA250ylyMWqYdf2GCPZ7Xd03R4pS4SIDENORPGuRxJZLOscGC0F1nqKIm8XHuSDqHyTPnt0Rm8tzjtigqbUbNvhQT7IqjbwOnyOyUVYqHzT5i1U7lssKjN9PeYmoBBZNl+aKZnkn84HKbRC+LydmbktMf1G1ktlMp+jLgsO3YgqFELkle1oW0wp5iLwdLa5B7geeSp54ptCE7z/0vsvtML58BvHfyMmiB0OjJtr6iqzr2WhKZQmdJ7LyxXtvmOxqBi9Y/nkjMJk9a0SicWipCygnPgg1q949s5bBJ/jTmNKGGOw1vP3/+O//pP5IKXWbLznnadnD/JBtM43xNnaoIfIolqipOKv/uqX3Hx8lxHUvc1P/0m+XZqcrWunZp31ASHg6bLi9x6tSCkyukCIce6K1yZbgQ+DnUx3+Qa2PmAEX2KtDKFH1omb3kJKNKWmGyJ+iPxBdfHg+EXjePoIbvZjlrkYRT8mNnvH3UFwd4hztzwlyaYNIOK0+gVIamZ3HPmTx6QvZI5XSjHx9mPF6DKyYLSButFIqTh0I2fLEmcDSQoqkaOHRu9fyUcRU5PyjZggXTew23Uc2gGBRMhcfRJK0h96QvBYl+vt+zhmX3gI+HHEupzZKw4ZqRABO445vl9qAglCjy4UL652Xxsf5FWskVMqk5CCRaFRIofWpXiffSWlYGXKeYsTp0khZW44FlrhQpbKM/U7CjXlG8+d9DzOKWul6z3d6Hl8UXF7N7LpHMulZi0NKogHx9/3ltEGzteG6ztL5wLNUuN9ASKLB++BoWI+8KcU5/6JQM7+/3myAOJY0k0JZ8Ocy1yYvFos6uxk3OwHyiLLYTrr0UpRl4rt/mE+yneWD/JVLmMkl5dnVFVeGURMlE1JSFkevSgKOuuyf0NqUNAA+IaqKbm5umPRVFBMTTNfsiwLtt2ITpGyqfAx8Oi8/tr4ILyCNbK7LlBSsu9HtMxbpECYOCmSGBPOB0yRI1OPeAijFPt+xBQ5OAEhsrRdiCzqm0SJ+akv5sSSL7JWqkISEGy2I7IU4MH1CakSGB4cvzaKNgZ2raVaSNq9J4xZoQz3VOJZrDjxOk5zho9SlXu9Vprjj45WqCQS58uSu/1AXWlMyMUYXWgSASESTWkoVMYbSCleyUcx+jvMB3ndyw6eza4l3B4ypy8E9l3WZpmyYB+7LOuWEMKAVJm9oZQk3u0xZcHt3QFdGtyUxrjbtHMG1K51hOC52XRfGx/kVayRu31HSPlckKb0dAEYUzC4/BQ0hcY6T1PmM4lPKX9PoaZCRJaCHxkhSspJpp5jfoQUWOcfZK0MPnLwnuUi+ydWVf565zxBpwfH33WeqBKm1PR94GxR0I8e69MslpxChU5yIe9TIk8VjmlaWTgJlWRaTb0LyIWkLBSH3tGUObIpIucQ7hyVmmOcrHs1H2VM31E+yFe5YoQwBqKU7A8dhT7G/XjkpNe0LltcjS7wo89wHp3znMbRUijNeBhykpKPJCnZdTmoWgmJc4FxCF8bH+RVrJEYM9ZBaRBJMkwICOenwzA5hEGgGZ3H+cw6lEJiihzu5kOcMq9k/p4p3G2wER8j3mWfx0OslfW6YHMY2ewsqzof3ofoeed7DXonHxx/tdJ81jrGNrKuMlYgKMHFecHHz918ojiNST3urY5JKbNc/nTNEMyvx5gojCbGyDB4louSGBLOJ3QBZakZO8c4eFxIrBrD5jC8ko+i0neYD/K613JZ8ejpGqUVdlwgYkBrhS5NfuookQOolSR5h65KlFT0w0hZGXabA6VWmMqgtKYfRozRdJ3NEZopoauStLn+2vggr2KNPA+RX1ztc3WnHzFKISci7nH/b33WiRmtqCYhofWBslA4nzOwyjr/LnlLIejGXNWRUuRU+kmo+EXWynXbQUosFrlLvvceIwQvr3t+v6weHP+TbotSWdoSSfQxYBBs9nZu8E3tjXuxIkfvSZxUwNOZ4ySG+97ayxRnmh925ZSYOPqAKTVGK7pJrOjGQEpZ+XwUKz7ER1kY9d3kg3yV6/bTW372v/8eiaTQMledxkBInkdvPyF6jynLjDpDIsSAdw5JQipF9IG+rrC3PaHvubu5QSFojMEf4TIkBl6fD3LKJ0l1wvrEfoxs33/Jzbbl0arhetex7wYWpaFMAedzJeqYqE7I5dRRKXxIPFrVtIOlLjUk6G32ingJWpc5xd55opD4weUzg1aTjCQ/oV9uck9FKjmLGQdrUbXgB2cNH960KAkrkw++o4/0wiJSYogJ6z1nTcngAm2f2PWRdrQzPNT5wDDeN/yOqfLEewwaJ4g90heS649Gc/IWIU3hG6PNCZejDRQmn3+G0aPVfYDwqilzBFGKEwo7UVcaFxLL2iAkXO2+o3yQr3INXcftZ7fzYawqi3wYlPD9H7+LHUa0EqSYUz0yH0RmPkihcAIKkSgqxa6LDJs93WgpTS4rVoVGSsmf/uTPXpsP8jk+SUpoIYnAX/5qS83I7UHwbLmgEZqq0Lz47Jqmynv7wXr0JBTUSrIT+TA8dp4Q4ZBi3nsj6cbMSXchUOrcPNMJlkZPjsDcVT4img9O0Lo4+TkAmUWAWnh20fLovKQ9eNoxy+dXtebl0KJMrhrtg2OzHxHA8+vAZhsmLVacb3JOYlIjmcF4RL0dzxZxciPOrscTVYmYjCximlzBJ2wI6Oms4n3Eqkk7FkCrHHmaiPgwddqFZHQRf8o7SbyJfBDFW+ermXM+joG6LigK8Vp8EBUrPoiOd5+dz/iuzb5nuTCUJa/NBznlkxSSzFLUkpvrax6fL/Bdz68+6aA6YzF0XKxqrq5vkELQTxNETX0Mzpc8WpaYIuvKO5uzcVUhSSJyuSwYXcSGDLfBe3bbjqY0HPoxa6+EnPggYuIU5gO0nG7SEBNnRnM4OLyCfogsFgX7PrCqFMInBhnpQ6Q0aoo0Daeknvz8P0bxHLvhx0/n88X8av59hLx3NcKDfBSlBZVS9INjvawYrEekiDGaEOOX+CQCQedyL+R4WR/nML03hg+SLZclH3+6RxeCrrdcrBbsW0fk9fgg+9axrhe8vG4RCkbrWTc1bRdwXr42H+SUTyJFQkqF1IrzZY0sapR0fO9yxZOLBb9+MZJSoJ4i+6XIMFE5Res4IXAusOsCUgokIIrs9CsEXG8zhNQHWBiJiIl1UwOJVV3e/0wBaetOehDMPRYlJSH4jFezkbdWJUrAeqXoxkBdKIbBclEWmCKfC17o++3RcfmY0+inatXRNHXPOrlHMQhODuqnOiw+z0dpuxy4l4sQecWMU7/kIT4JJMwkIhXT5C+UwoVEP/o3hw9iNNS14PGjC3Zty3KhUUgCgcaI1+KDDNtEWcJ6ucorkVeoJBEqUn8FPsgpnyRPUsM42tyTGFr60dGUBZ9cbfm9d9/ho1+/RyJ7s5XMVagQI4VURK3QAppasxs8jVYzSUQiWDSadgwolairgqG32Qk4ebXlCVfkaEqXU29FTIAeZSROJdbrAjdG3BjpRURJhawELkYuL2u2G4uNidYG4hHac6Khmp22J5bbuTsOJ4n1csY53Jd903yIPxUrlmWBQExGME9R57LycqGQ6st8kiO6odBqRsvlOSzeLD6ItZHbzcju4AgxMowub6OMeW0+iPOJT687Vk120jkXSAxUxrD/CnyQ0/GVhBRzVaUbLFVZ8O7Tc55vBowIbK6vgKyeLQtNO9h8RpCSJBKH3lEVkp0LOJ8YRYZSHrN3rRP0LjdHrQ2UJFTIWrDRe5KHqsjq3mN4wpFMlWLmhgQbcSmgEEQXaWMkuchZLXOuVKnZ7Sw+RcY+YJTKoXKzfXY+gJx2Meab/egZOZ5CUspnkzh95LiizH/de7eiVnL6d9lz3o8eVeQVIRcyPs8nUVP17/j/5yizkSIXcxKJ/wfY8G9ynmSjiQAAAABJRU5ErkJggg==";
-            String morchVersion = "morch-" + selectedClientVersion + "-" + selectedMinecraftVersion;
-            String profileId = morchVersion;
-            String currentDate = getCurrentDateTime();
-
-            // Load the launcher profiles JSON
-            Path launcherProfilesPath = Paths.get(minecraftPath, "launcher_profiles.json");
-            JsonObject launcherProfilesJson = new Gson().fromJson(new FileReader(launcherProfilesPath.toFile()), JsonObject.class);
-            
-            // Construct the new profile entry
-            JsonObject profileEntry = new JsonObject();
-            profileEntry.addProperty("created", currentDate);
-            profileEntry.addProperty("icon", b64);
-            profileEntry.addProperty("lastUsed", currentDate);
-            profileEntry.addProperty("name", morchVersion);
-            profileEntry.addProperty("type", "custom");
-            profileEntry.addProperty("javaDir", javaDir);
-            profileEntry.addProperty("lastVersionId", morchVersion);
-
-            // Add the new profile entry to the profiles object
-            JsonObject profiles = launcherProfilesJson.getAsJsonObject("profiles");
-            profiles.add(profileId, profileEntry);
-
-            // Save the modified launcher profiles JSON
-            try (FileWriter writer = new FileWriter(launcherProfilesPath.toFile())) {
-                new Gson().toJson(launcherProfilesJson, writer);
-            }
-
-            System.out.println("Added client version to launcher profile: " + selectedClientVersion);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+
+	public void addClientToLauncherProfile(String selectedClientVersion, String selectedMinecraftVersion, String javaDir, String minecraftPath) throws IOException {
+        String morchVersion = "morch-" + selectedClientVersion + "-" + selectedMinecraftVersion;
+        String profileId = morchVersion;
+        String currentDate = getCurrentDateTime();
+
+        Path launcherProfilesPath = Paths.get(minecraftPath, "launcher_profiles.json");
+
+        // Construct the new profile entry
+        JsonObject profileEntry = launcherProfile(morchVersion, javaDir, currentDate);
+
+        // Stream the new profile entry into the launcher profiles JSON
+        LauncherProfilesPatcher.putProfile(launcherProfilesPath, profileId, profileEntry);
+
+        System.out.println("Added client version to launcher profile: " + selectedClientVersion);
+    }
+
+    static JsonObject launcherProfile(String morchVersion, String javaDir, String currentDate) {
+        JsonObject profileEntry = new JsonObject();
+        profileEntry.addProperty("created", currentDate);
+        profileEntry.addProperty("icon", ProfileIcon.dataUri());
+        profileEntry.addProperty("lastUsed", currentDate);
+        profileEntry.addProperty("name", morchVersion);
+        profileEntry.addProperty("type", "custom");
+        profileEntry.addProperty("javaDir", javaDir);
+        profileEntry.addProperty("lastVersionId", morchVersion);
+        return profileEntry;
     }
 
     private String generateProfileId() {
         return java.util.UUID.randomUUID().toString();
     }
-    private String getCurrentDateTime() {
+    static String getCurrentDateTime() {
         LocalDateTime now = LocalDateTime.now();
         String formattedDateTime = now.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"));
         return formattedDateTime;
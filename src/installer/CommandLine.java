@@ -0,0 +1,61 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+// Helpers shared by the headless entry points
+final class CommandLine {
+
+	private CommandLine() {
+	}
+
+	// The value following an option, or IllegalArgumentException naming the option
+	static String value(String[] args, int index) {
+		if (index >= args.length) {
+			throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+		}
+		return args[index];
+	}
+
+	// Pretty-printed to the file, or to stdout when there is none
+	static void writeSummary(JsonObject summary, String file) throws IOException {
+		Gson gson = new GsonBuilder().setPrettyPrinting().create();
+		if (file != null) {
+			try (Writer writer = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8)) {
+				gson.toJson(summary, writer);
+			}
+		} else {
+			System.out.println(gson.toJson(summary));
+		}
+	}
+
+	// Removes a file or directory tree; nothing to do if it is already gone
+	static void delete(Path root) throws IOException {
+		if (!Files.exists(root)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(root)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+				try {
+					Files.delete(path);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+}
@@ -0,0 +1,21 @@
+package installer;
+
+// Prints install updates to stdout, prefixed so concurrent installs can be told apart
+public class ConsoleProgressListener implements ProgressListener {
+	private final String prefix;
+
+	public ConsoleProgressListener(String prefix) {
+		this.prefix = prefix;
+	}
+
+	@Override
+	public void status(String message) {
+		System.out.println(prefix + message);
+	}
+
+	@Override
+	public void transfer(TransferProgress.Snapshot snapshot) {
+		System.out.println(prefix + snapshot.getCompletedItems() + "/" + snapshot.getTotalItems() + " files, " + snapshot);
+	}
+
+}
@@ -0,0 +1,37 @@
+package installer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.LongConsumer;
+
+// Reports every successful read to a callback, used to count downloaded bytes as they arrive
+public class CountingChannel implements ReadableByteChannel {
+	private final ReadableByteChannel delegate;
+	private final LongConsumer onRead;
+
+	public CountingChannel(ReadableByteChannel delegate, LongConsumer onRead) {
+		this.delegate = delegate;
+		this.onRead = onRead;
+	}
+
+	@Override
+	public int read(ByteBuffer dst) throws IOException {
+		int read = delegate.read(dst);
+		if (read > 0) {
+			onRead.accept(read);
+		}
+		return read;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+}
@@ -0,0 +1,803 @@
+package installer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.zip.ZipException;
+
+/**
+ * Download engine shared by every install. A single HttpClient keeps
+ * connections alive (and multiplexes over HTTP/2 where the server allows it),
+ * the worker pool bounds the total number of transfers in flight, and a
+ * per-host budget stops one server from taking every slot.
+ * <p>
+ * Bodies stream into a {@code .part} file next to the destination. A failed
+ * attempt is resumed with a Range request, and the file is only moved into
+ * place once its length and (when known) SHA-1 check out. Finished files go
+ * through the {@link ArtifactStore}, so content that is already on the
+ * machine is never downloaded twice; content known only by its URL is
+ * revalidated with a conditional GET before it is reused. Mirrors from {@link Sources} are tried
+ * in order, falling back to the next one when a source fails (and dropping
+ * one that cannot be connected to), with a jittered backoff once every
+ * source has failed. A transfer that is cut off after making progress is
+ * resumed without using up an attempt, up to morch.download.attempts times. The read timeout adapts to
+ * each endpoint's observed latency, with morch.download.readTimeout as the
+ * ceiling.
+ */
+public class Downloader {
+	private static final int DEFAULT_CONCURRENCY = Integer.getInteger("morch.download.concurrency", 6);
+	private static final int DEFAULT_PER_HOST = Integer.getInteger("morch.download.perHost", 4);
+	private static final int ATTEMPTS = Integer.getInteger("morch.download.attempts", 4);
+	private static final long READ_TIMEOUT_MILLIS = Long.getLong("morch.download.readTimeout", 15000L);
+	// Often enough that a cancelled transfer stops promptly
+	private static final long WATCHDOG_PERIOD_MILLIS = Math.max(1, Math.min(READ_TIMEOUT_MILLIS / 4, 250));
+	private static final long TRANSFER_CHUNK = 256 * 1024;
+	// How long a URL whose content was confirmed current is trusted without asking again
+	private static final long REVALIDATE_MILLIS = Long.getLong("morch.download.revalidateAfter", 60000L);
+
+	private final HttpClient httpClient;
+	private final ExecutorService executor;
+	private final int perHostLimit;
+	private final ArtifactStore store;
+	private final Throttle throttle;
+	private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+	private final Map<URI, Object> inFlight = new ConcurrentHashMap<>();
+	private final Map<URI, Long> revalidated = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "morch-download-watchdog");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public Downloader() {
+		this(DEFAULT_CONCURRENCY, DEFAULT_PER_HOST, new ArtifactStore());
+	}
+
+	public Downloader(int concurrency, int perHostLimit, ArtifactStore store) {
+		this(concurrency, perHostLimit, store, null);
+	}
+
+	// A throttle caps the combined bandwidth of every transfer this downloader runs
+	public Downloader(int concurrency, int perHostLimit, ArtifactStore store, Throttle throttle) {
+		this.perHostLimit = Math.max(1, perHostLimit);
+		this.store = store;
+		this.throttle = throttle;
+		this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+			Thread thread = new Thread(runnable, "morch-download");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+	}
+
+	public static final class Download {
+		private final URI uri;
+		private final Path destination;
+		private final String sha1;
+		private final Path base;
+
+		public Download(URI uri, Path destination) {
+			this(uri, destination, null);
+		}
+
+		public Download(URI uri, Path destination, String sha1) {
+			this(uri, destination, sha1, null);
+		}
+
+		// With a base, a jar is rebuilt from the base plus whatever changed, see JarDelta
+		public Download(URI uri, Path destination, String sha1, Path base) {
+			this.uri = uri;
+			this.destination = destination;
+			this.sha1 = sha1;
+			this.base = base;
+		}
+
+		public URI getUri() {
+			return uri;
+		}
+
+		public Path getDestination() {
+			return destination;
+		}
+
+		// Expected SHA-1 of the finished file, or null if the source does not publish one
+		public String getSha1() {
+			return sha1;
+		}
+
+		// Installed jar to take unchanged entries from, or null
+		public Path getBase() {
+			return base;
+		}
+	}
+
+	public ArtifactStore getStore() {
+		return store;
+	}
+
+	/**
+	 * Makes sure the content behind the URI is in the artifact store and
+	 * returns the stored object, downloading it only when it is missing.
+	 */
+	public Path fetchObject(URI uri, String sha1, InstallReport report) throws IOException {
+		if (store.contains(sha1)) {
+			return store.object(sha1);
+		}
+		// A unique name, so concurrent installs fetching the same object never share a part file
+		Path staging = Cache.resolve("staging", UUID.randomUUID().toString());
+		Path part = staging.resolveSibling(staging.getFileName() + ".part");
+		try {
+			downloadAll(List.of(new Download(uri, staging, sha1)), null, report, null, null);
+			return store.object(sha1 != null ? sha1 : Downloader.sha1(staging));
+		} finally {
+			// Nothing could ever resume a part under a random name
+			Files.deleteIfExists(staging);
+			Files.deleteIfExists(part);
+			Files.deleteIfExists(validatorFile(part));
+		}
+	}
+
+	public CompletableFuture<Path> download(Download download, TransferProgress.Item item,
+			InstallReport.DownloadTiming timing, BooleanSupplier cancelled) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				Path path = transfer(download, item, timing, cancelled);
+				item.complete();
+				return path;
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CompletionException(e);
+			}
+		}, executor);
+	}
+
+	/**
+	 * Runs all downloads concurrently and waits for them. Bytes are counted
+	 * into the given progress and timings into the report, transfers stop
+	 * early once cancelled returns true (any of the three may be null), the
+	 * callback is invoked as each download finishes, and the first failure is
+	 * rethrown once every transfer has settled. Partial files are kept so a
+	 * cancelled download resumes next time.
+	 */
+	public void downloadAll(List<Download> downloads, TransferProgress progress, InstallReport report,
+			BooleanSupplier cancelled, Consumer<Download> onComplete) throws IOException {
+		TransferProgress counter = progress != null ? progress : new TransferProgress();
+		InstallReport timings = report != null ? report : new InstallReport("unreported", null);
+		BooleanSupplier stop = cancelled != null ? cancelled : () -> false;
+		List<TransferProgress.Item> items = new ArrayList<>();
+		for (int i = 0; i < downloads.size(); i++) {
+			items.add(counter.newItem());
+		}
+
+		List<CompletableFuture<Path>> futures = new ArrayList<>();
+		for (int i = 0; i < downloads.size(); i++) {
+			Download download = downloads.get(i);
+			futures.add(download(download, items.get(i), timings.download(download.uri), stop).whenComplete((path, error) -> {
+				if (error == null && onComplete != null) {
+					onComplete.accept(download);
+				}
+			}));
+		}
+
+		IOException failure = null;
+		for (CompletableFuture<Path> future : futures) {
+			try {
+				future.join();
+			} catch (CompletionException e) {
+				if (failure == null) {
+					failure = e.getCause() instanceof IOException ? (IOException) e.getCause()
+							: new IOException(e.getCause());
+				} else {
+					failure.addSuppressed(e.getCause());
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private Path transfer(Download download, TransferProgress.Item item, InstallReport.DownloadTiming timing,
+			BooleanSupplier cancelled) throws IOException, InterruptedException {
+		// Not even a store hit once cancelled: a failed install must not place anything more
+		if (cancelled.getAsBoolean()) {
+			throw new CancelledException(download.uri);
+		}
+		if (store == null) {
+			return fetch(download, item, timing, cancelled);
+		}
+		if (placeFromStore(download, false)) {
+			timing.cacheHit();
+			return download.destination;
+		}
+
+		// Concurrent installs of the same artifact wait for the first one and then link its result
+		Object lock = inFlight.computeIfAbsent(download.uri, uri -> new Object());
+		synchronized (lock) {
+			if (placeFromStore(download, true)) {
+				timing.cacheHit();
+				return download.destination;
+			}
+			return fetch(download, item, timing, cancelled);
+		}
+	}
+
+	// Links content we already have into place; without a published hash only once the server confirms it
+	private boolean placeFromStore(Download download, boolean revalidate) throws IOException, InterruptedException {
+		String knownSha1 = download.sha1 != null ? download.sha1 : currentSha1(download.uri, revalidate);
+		if (!store.contains(knownSha1)) {
+			return false;
+		}
+		store.place(knownSha1, download.destination);
+		return true;
+	}
+
+	/**
+	 * Hash of the stored content for a URL that publishes none, or null when
+	 * nothing is stored or the server now serves something else. The server
+	 * is asked with a conditional GET carrying the validator recorded with the
+	 * content; a confirmation is trusted for morch.download.revalidateAfter
+	 * milliseconds, and without revalidate only such a recent one counts.
+	 */
+	String currentSha1(URI uri, boolean revalidate) throws InterruptedException {
+		String sha1 = store.sha1For(uri);
+		String validator = store.validatorFor(uri);
+		if (!store.contains(sha1) || validator == null) {
+			return null;
+		}
+		Long checked = revalidated.get(uri);
+		if (checked != null && System.nanoTime() - checked < TimeUnit.MILLISECONDS.toNanos(REVALIDATE_MILLIS)) {
+			return sha1;
+		}
+		// Offline the local mirror copy is what counts, and reading it is cheap anyway
+		URI source = Sources.get().candidates(uri).stream().filter(candidate -> !"file".equals(candidate.getScheme()))
+				.findFirst().orElse(null);
+		if (!revalidate || source == null) {
+			return null;
+		}
+
+		boolean etag = validator.startsWith("\"") || validator.startsWith("W/");
+		HttpRequest request = HttpRequest.newBuilder(source)
+				.timeout(Duration.ofMillis(LatencyTracker.get().timeoutMillis(source, READ_TIMEOUT_MILLIS)))
+				.header(etag ? "If-None-Match" : "If-Modified-Since", validator)
+				.GET()
+				.build();
+		try {
+			HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+			// A changed file is downloaded through the normal path, which resumes and verifies
+			response.body().close();
+			if (response.statusCode() != 304) {
+				return null;
+			}
+		} catch (IOException e) {
+			System.out.println("Could not revalidate " + uri + ", downloading it again: " + e);
+			return null;
+		}
+		revalidated.put(uri, System.nanoTime());
+		return sha1;
+	}
+
+	private Path fetch(Download download, TransferProgress.Item item, InstallReport.DownloadTiming timing,
+			BooleanSupplier cancelled) throws IOException, InterruptedException {
+		List<URI> sources = new ArrayList<>(Sources.get().require(download.uri));
+
+		Files.createDirectories(download.destination.getParent());
+		Path part = download.destination.resolveSibling(download.destination.getFileName() + ".part");
+
+		// An update of an installed jar only downloads what changed, when the first remote source allows it
+		if (download.base != null && Files.isRegularFile(download.base) && !Files.exists(part)) {
+			URI source = sources.stream().filter(uri -> !"file".equals(uri.getScheme())).findFirst().orElse(null);
+			if (source != null) {
+				try {
+					timing.attempt(source);
+					boolean rebuilt;
+					Semaphore permits = hostPermits(source);
+					permits.acquire();
+					try {
+						rebuilt = fetchDelta(download, source, part, item, timing, cancelled);
+					} finally {
+						permits.release();
+					}
+					if (rebuilt) {
+						return finish(download, part);
+					}
+				} catch (CancelledException e) {
+					throw e;
+				} catch (IOException e) {
+					System.out.println("Delta update of " + download.uri + " failed, downloading it whole: " + e);
+				} finally {
+					// A half-spliced part has no validator to resume against, so a failed or cancelled delta starts over
+					Files.deleteIfExists(part);
+				}
+			}
+		}
+
+		// Each failure moves on to the next source, a single source is simply retried
+		IOException failure = null;
+		int current = 0;
+		int attempts = Math.max(ATTEMPTS, sources.size());
+		int resumes = 0;
+		for (int attempt = 1; attempt <= attempts; attempt++) {
+			URI source = sources.get(current);
+			if (cancelled.getAsBoolean()) {
+				throw new CancelledException(download.uri);
+			}
+			long before = Files.exists(part) ? Files.size(part) : 0;
+			try {
+				timing.attempt(source);
+				fetchInto(source, part, item, timing, cancelled);
+				return finish(download, part);
+			} catch (VerificationException e) {
+				// The partial data is useless, start the next attempt from zero
+				Files.deleteIfExists(part);
+				failure = e;
+			} catch (CancelledException e) {
+				throw e;
+			} catch (IOException e) {
+				failure = e;
+				if (!isRetriable(e) && current == sources.size() - 1) {
+					break;
+				}
+			}
+			System.out.println("Download attempt " + attempt + " of " + source + " failed: " + failure);
+			if (Requests.isUnreachable(failure) && sources.size() > 1) {
+				// Retrying a source we cannot connect to is pointless; it gives its attempt back to the others
+				sources.remove(current);
+				current %= sources.size();
+				attempt--;
+				continue;
+			}
+			if (!(failure instanceof VerificationException) && resumes < ATTEMPTS
+					&& Files.exists(part) && Files.size(part) > before) {
+				// The body was cut off but moved the .part forward; resuming it does not count as another attempt
+				resumes++;
+				attempt--;
+				continue;
+			}
+			current = (current + 1) % sources.size();
+			// Every source has failed once; back off before asking again
+			if (attempt >= sources.size() && attempt < attempts) {
+				Requests.backoff(attempt - sources.size() + 1);
+			}
+		}
+		throw failure;
+	}
+
+	private Path finish(Download download, Path part) throws IOException {
+		verify(download, part);
+		Path validatorFile = validatorFile(part);
+		if (store != null) {
+			// The URL index is only needed to recognise content nobody publishes a hash for
+			URI source = download.sha1 == null ? download.uri : null;
+			String validator = Files.isRegularFile(validatorFile) ? Files.readString(validatorFile) : null;
+			store.place(store.insert(part, download.sha1, source, validator), download.destination);
+			if (source != null) {
+				revalidated.put(source, System.nanoTime());
+			}
+		} else {
+			Cache.moveAtomically(part, download.destination);
+		}
+		Files.deleteIfExists(validatorFile);
+		return download.destination;
+	}
+
+	// ETag or Last-Modified of the remote file the .part belongs to
+	private static Path validatorFile(Path part) {
+		return part.resolveSibling(part.getFileName() + ".validator");
+	}
+
+	/**
+	 * Rebuilds a jar from its base: the central directory comes from the end
+	 * of the remote file, unchanged entries are copied from the base and the
+	 * rest is fetched in a few Range requests, all pinned to the same remote
+	 * version with If-Range. Returns false when the server does not do ranges
+	 * or too little of the base is reusable.
+	 */
+	private boolean fetchDelta(Download download, URI source, Path part, TransferProgress.Item item,
+			InstallReport.DownloadTiming timing, BooleanSupplier cancelled) throws IOException, InterruptedException {
+		long requestStart = System.nanoTime();
+		HttpResponse<InputStream> tail = sendRange(source, "bytes=-" + JarDelta.TAIL_BYTES, null);
+		long headersReceived = System.nanoTime();
+		long[] tailRange = parseContentRange(tail.headers().firstValue("Content-Range").orElse(null));
+		if (tail.statusCode() != 206 || tailRange == null || tailRange[1] < 0) {
+			// No ranges here; closing early saves reading the whole jar twice
+			tail.body().close();
+			return false;
+		}
+		String validator = tail.headers().firstValue("ETag")
+				.orElse(tail.headers().firstValue("Last-Modified").orElse(null));
+		long length = tailRange[1];
+		long tailStart = tailRange[0];
+		byte[] tailBytes;
+		try (InputStream in = tail.body()) {
+			tailBytes = in.readAllBytes();
+		}
+
+		JarDelta.Directory directory = JarDelta.findDirectory(tailBytes);
+		if (directory.getOffset() + directory.getSize() > length) {
+			throw new ZipException("Central directory of " + source + " runs past the end of the file");
+		}
+		byte[] end = tailBytes;
+		long endStart = tailStart;
+		if (directory.getOffset() < tailStart) {
+			// A big central directory starts before the tail we already have
+			byte[] head;
+			try (InputStream in = sendRange(source, "bytes=" + directory.getOffset() + "-" + (tailStart - 1), validator)
+					.body()) {
+				head = in.readAllBytes();
+			}
+			end = new byte[head.length + tailBytes.length];
+			System.arraycopy(head, 0, end, 0, head.length);
+			System.arraycopy(tailBytes, 0, end, head.length, tailBytes.length);
+			endStart = directory.getOffset();
+		}
+		int directoryStart = (int) (directory.getOffset() - endStart);
+		List<JarDelta.Entry> entries = JarDelta.readEntries(
+				Arrays.copyOfRange(end, directoryStart, (int) Math.min(end.length, directoryStart + directory.getSize())),
+				directory);
+		JarDelta.Plan plan = JarDelta.plan(entries, directory, length, download.base);
+		if (plan == null) {
+			System.out.println("Too little of " + download.base + " is reusable for " + download.uri);
+			return false;
+		}
+
+		item.setExpected(end.length + plan.getFetchedBytes());
+		item.setTransferred(end.length);
+		Files.deleteIfExists(part);
+		try (FileChannel base = FileChannel.open(download.base, StandardOpenOption.READ)) {
+			// Segments are written in file order, which is what copy's truncation expects
+			for (JarDelta.Segment segment : plan.getSegments()) {
+				if (cancelled.getAsBoolean()) {
+					throw new CancelledException(download.uri);
+				}
+				if (segment.isFetched()) {
+					fetchRange(source, part, segment, validator, item, cancelled);
+				} else if (segment.getData() != null) {
+					try (FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+						ByteBuffer buffer = ByteBuffer.wrap(segment.getData());
+						while (buffer.hasRemaining()) {
+							out.write(buffer, segment.getStart() + buffer.position());
+						}
+					}
+				} else {
+					try (FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+						long copied = 0;
+						long count = segment.getEnd() - segment.getStart();
+						while (copied < count) {
+							copied += base.transferTo(segment.getBaseOffset() + copied, count - copied,
+									out.position(segment.getStart() + copied));
+						}
+					}
+				}
+			}
+		}
+		try (FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			ByteBuffer buffer = ByteBuffer.wrap(end);
+			while (buffer.hasRemaining()) {
+				out.write(buffer, endStart + buffer.position());
+			}
+		}
+
+		JarDelta.verify(part, plan, length);
+		if (validator != null) {
+			Files.writeString(validatorFile(part), validator);
+		} else {
+			Files.deleteIfExists(validatorFile(part));
+		}
+		timing.transferred(headersReceived - requestStart, System.nanoTime() - headersReceived,
+				end.length + plan.getFetchedBytes());
+		System.out.println("Rebuilt " + download.destination.getFileName() + " from " + download.base.getFileName()
+				+ ": downloaded " + (end.length + plan.getFetchedBytes()) + " of " + length + " bytes");
+		return true;
+	}
+
+	private HttpResponse<InputStream> sendRange(URI source, String range, String validator)
+			throws IOException, InterruptedException {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(source)
+				.timeout(Duration.ofMillis(LatencyTracker.get().timeoutMillis(source, READ_TIMEOUT_MILLIS)))
+				.header("Range", range)
+				.GET();
+		if (validator != null) {
+			// If the jar changed since the first request the server sends it whole, which is refused
+			builder.header("If-Range", validator);
+		}
+		long requestStart = System.nanoTime();
+		HttpResponse<InputStream> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+		LatencyTracker.get().record(source, System.nanoTime() - requestStart);
+		if (validator != null && response.statusCode() != 206) {
+			response.body().close();
+			throw new IOException("Range request for " + source + " answered with " + response.statusCode());
+		}
+		return response;
+	}
+
+	private void fetchRange(URI source, Path part, JarDelta.Segment segment, String validator,
+			TransferProgress.Item item, BooleanSupplier cancelled) throws IOException, InterruptedException {
+		HttpResponse<InputStream> response = sendRange(source,
+				"bytes=" + segment.getStart() + "-" + (segment.getEnd() - 1), validator);
+		try (InputStream in = response.body()) {
+			long[] range = parseContentRange(response.headers().firstValue("Content-Range").orElse(null));
+			if (response.statusCode() != 206 || range == null || range[0] != segment.getStart()) {
+				throw new IOException("Unexpected answer to a range request for " + source);
+			}
+			copy(source, in, part, segment.getStart(), item, cancelled);
+		}
+		if (Files.size(part) != segment.getEnd()) {
+			throw new IOException("Range of " + source + " ended early");
+		}
+	}
+
+	// Streams the body into the .part file, continuing from whatever an earlier attempt left behind
+	private void fetchInto(URI source, Path part, TransferProgress.Item item, InstallReport.DownloadTiming timing,
+			BooleanSupplier cancelled) throws IOException, InterruptedException {
+		if ("file".equals(source.getScheme())) {
+			Path file = Paths.get(source);
+			Files.deleteIfExists(validatorFile(part));
+			item.setExpected(Files.size(file));
+			item.setTransferred(0);
+			long start = System.nanoTime();
+			try (InputStream in = Files.newInputStream(file)) {
+				copy(source, in, part, 0, item, cancelled);
+			}
+			timing.transferred(0, System.nanoTime() - start, Files.size(part));
+			return;
+		}
+
+		Semaphore permits = hostPermits(source);
+		permits.acquire();
+		try {
+			fetchRemote(source, part, item, timing, cancelled);
+		} finally {
+			permits.release();
+		}
+	}
+
+	// Bounds the transfers to one host, whole or ranged
+	private Semaphore hostPermits(URI source) {
+		return hostPermits.computeIfAbsent(String.valueOf(source.getHost()), host -> new Semaphore(perHostLimit));
+	}
+
+	private void fetchRemote(URI source, Path part, TransferProgress.Item item, InstallReport.DownloadTiming timing,
+			BooleanSupplier cancelled) throws IOException, InterruptedException {
+		long offset = Files.isRegularFile(part) ? Files.size(part) : 0;
+		Path validatorFile = validatorFile(part);
+		String validator = offset > 0 && Files.isRegularFile(validatorFile) ? Files.readString(validatorFile) : null;
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder(source)
+				.timeout(Duration.ofMillis(LatencyTracker.get().timeoutMillis(source, READ_TIMEOUT_MILLIS)))
+				.GET();
+		if (offset > 0) {
+			builder.header("Range", "bytes=" + offset + "-");
+			if (validator != null) {
+				// If the remote file changed since the partial download, the server sends it whole
+				builder.header("If-Range", validator);
+			}
+		}
+
+		long requestStart = System.nanoTime();
+		HttpResponse<InputStream> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+		long headersReceived = System.nanoTime();
+		LatencyTracker.get().record(source, headersReceived - requestStart);
+		long existing = 0;
+		InputStream in = response.body();
+		try {
+			int status = response.statusCode();
+			long expectedTotal;
+			boolean append;
+			if (status == 206) {
+				long[] range = parseContentRange(response.headers().firstValue("Content-Range").orElse(null));
+				if (range == null || range[0] != offset) {
+					throw new IOException("Unexpected Content-Range for " + source);
+				}
+				append = true;
+				expectedTotal = range[1];
+			} else if (status == 200) {
+				append = false;
+				expectedTotal = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+			} else if (status == 416 && offset > 0) {
+				// Our partial file does not match the remote one any more
+				Files.deleteIfExists(part);
+				throw new IOException("Range not satisfiable for " + source);
+			} else {
+				throw new HttpStatusException(status, source);
+			}
+
+			existing = append ? offset : 0;
+			item.setExpected(expectedTotal);
+			item.setTransferred(existing);
+
+			String newValidator = response.headers().firstValue("ETag")
+					.orElse(response.headers().firstValue("Last-Modified").orElse(null));
+			if (!append) {
+				// Kept until the file is stored, where it is recorded with the content
+				if (newValidator != null) {
+					Files.writeString(validatorFile, newValidator);
+				} else {
+					Files.deleteIfExists(validatorFile);
+				}
+			}
+
+			copy(source, in, part, existing, item, cancelled);
+
+			long size = Files.size(part);
+			if (expectedTotal >= 0 && size != expectedTotal) {
+				throw new IOException("Transfer of " + source + " ended at " + size + " of " + expectedTotal + " bytes");
+			}
+		} finally {
+			in.close();
+			long onDisk = Files.isRegularFile(part) ? Files.size(part) : existing;
+			timing.transferred(headersReceived - requestStart, System.nanoTime() - headersReceived,
+					Math.max(0, onDisk - existing));
+		}
+	}
+
+	// Copies with a watchdog that closes the stream when the transfer is cancelled or no byte arrives within the read timeout
+	private void copy(URI uri, InputStream in, Path part, long offset, TransferProgress.Item item,
+			BooleanSupplier cancelled) throws IOException {
+		long timeoutMillis = LatencyTracker.get().timeoutMillis(uri, READ_TIMEOUT_MILLIS);
+		AtomicLong lastProgress = new AtomicLong(System.nanoTime());
+		AtomicBoolean stalled = new AtomicBoolean();
+		AtomicBoolean stopped = new AtomicBoolean();
+		ScheduledFuture<?> check = watchdog.scheduleAtFixedRate(() -> {
+			boolean stall = System.nanoTime() - lastProgress.get() > TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+			boolean stop = cancelled.getAsBoolean();
+			if (stall || stop) {
+				stalled.set(stall);
+				stopped.set(stop);
+				try {
+					in.close();
+				} catch (IOException e) {
+					// Closing is only used to unblock the reader
+				}
+			}
+		}, WATCHDOG_PERIOD_MILLIS, WATCHDOG_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+
+		ReadableByteChannel source = new CountingChannel(Channels.newChannel(in), read -> {
+			lastProgress.set(System.nanoTime());
+			item.add(read);
+			if (throttle != null) {
+				throttle.consume(read);
+				lastProgress.set(System.nanoTime());
+			}
+		});
+		try (FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			// Drop anything past the offset, e.g. a full restart after the server ignored our Range
+			out.truncate(offset);
+			long position = offset;
+			long written;
+			while ((written = out.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+				position += written;
+			}
+		} catch (IOException e) {
+			if (stopped.get()) {
+				throw new CancelledException(uri);
+			}
+			if (stalled.get()) {
+				throw new IOException("No data received for " + timeoutMillis + " ms", e);
+			}
+			throw e;
+		} finally {
+			check.cancel(false);
+		}
+	}
+
+	private static void verify(Download download, Path part) throws IOException {
+		if (download.sha1 == null) {
+			return;
+		}
+		String actual = sha1(part);
+		if (!actual.equalsIgnoreCase(download.sha1)) {
+			throw new VerificationException(
+					"SHA-1 mismatch for " + download.uri + ": expected " + download.sha1 + ", got " + actual);
+		}
+	}
+
+	static String sha1(Path file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		try (InputStream in = Files.newInputStream(file)) {
+			byte[] buffer = new byte[64 * 1024];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	// Returns {start, total} from "bytes start-end/total", total is -1 when the server sends "*"
+	static long[] parseContentRange(String header) {
+		if (header == null || !header.startsWith("bytes ")) {
+			return null;
+		}
+		try {
+			String spec = header.substring("bytes ".length()).trim();
+			int dash = spec.indexOf('-');
+			int slash = spec.indexOf('/');
+			long start = Long.parseLong(spec.substring(0, dash));
+			String total = spec.substring(slash + 1);
+			return new long[] { start, total.equals("*") ? -1 : Long.parseLong(total) };
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static boolean isRetriable(IOException e) {
+		if (e instanceof HttpStatusException) {
+			int status = ((HttpStatusException) e).status;
+			return status == 408 || status == 429 || status >= 500;
+		}
+		return true;
+	}
+
+	static class HttpStatusException extends IOException {
+		private static final long serialVersionUID = 1L;
+		final int status;
+
+		HttpStatusException(int status, URI uri) {
+			super("HTTP " + status + " for " + uri);
+			this.status = status;
+		}
+	}
+
+	static class VerificationException extends IOException {
+		private static final long serialVersionUID = 1L;
+
+		VerificationException(String message) {
+			super(message);
+		}
+	}
+
+	// Never retried; the partial file stays so the next attempt resumes
+	static class CancelledException extends IOException {
+		private static final long serialVersionUID = 1L;
+
+		CancelledException(URI uri) {
+			super("Download of " + uri + " cancelled");
+		}
+	}
+
+}
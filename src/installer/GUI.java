@@ -6,9 +6,14 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.io.IOException; // Add this import
-import java.net.URL;
+import java.net.URI;
 
 public class GUI implements ActionListener {
     public JLabel label;
@@ -22,7 +27,18 @@ public class GUI implements ActionListener {
     public JLabel statusLabel;
     public JProgressBar progressBar;
     public JCheckBox addLauncherProfileCheckbox; // Add this line
+    public JCheckBox prefetchCheckbox;
     private Client client;
+    // Network lookups run here so the EDT never blocks on them
+    private final ExecutorService metadataExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "morch-metadata");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private CompletableFuture<List<String>> clientVersionsLookup;
+    // The install in progress, if any; the install button cancels it
+    private InstallScheduler.Job installJob;
+    private boolean minecraftVersionsLoaded;
 
     public GUI() {
         frame = new JFrame();
@@ -30,27 +46,20 @@ public class GUI implements ActionListener {
         client = new Client(this);
 
         label = new JLabel("Morch Client installer");
-        // Set the logo/icon for the frame from the URL
-        try {
-            URL logoUrl = new URL("https://avatars.githubusercontent.com/u/159921759?s=200&v=4");
-            ImageIcon icon = new ImageIcon(logoUrl);
-            frame.setIconImage(icon.getImage());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
 
         installButton = new JButton("Install");
+        installButton.setEnabled(false); // Enabled once the version lists have loaded
         label.setHorizontalTextPosition(0);
 
         installButton.addActionListener(this);
-        // Create JComboBox for Minecraft versions
-        List<String> minecraftVersions = getMinecraftVersions();
-        minecraftVersionDropdown = new JComboBox<>(minecraftVersions.toArray(new String[0]));
+        // Create JComboBox for Minecraft versions, filled in once installer.json has loaded
+        minecraftVersionDropdown = new JComboBox<>(new String[] { "Loading..." });
+        minecraftVersionDropdown.setEnabled(false);
         minecraftVersionDropdown.addActionListener(e -> updateClientVersions());
 
         // Create JComboBox for client versions
-        clientVersionDropdown = new JComboBox<>();
-        updateClientVersions();
+        clientVersionDropdown = new JComboBox<>(new String[] { "Loading..." });
+        clientVersionDropdown.setEnabled(false);
 
         // Create JTextField for .minecraft path
         minecraftPathTextField = new JTextField(System.getenv("APPDATA") + "/.minecraft");
@@ -70,6 +79,8 @@ public class GUI implements ActionListener {
             boolean selected = addLauncherProfileCheckbox.isSelected();
             javaPathTextField.setEnabled(selected); // Enable/disable Java path text field based on checkbox state
         });
+        // Off by default: it downloads every library and asset, hundreds of megabytes on a fresh .minecraft
+        prefetchCheckbox = new JCheckBox("Download libraries and assets now");
 
         panel = new JPanel();
         panel.setBorder(BorderFactory.createEmptyBorder(30, 30, 10, 30));
@@ -94,6 +105,7 @@ public class GUI implements ActionListener {
         // Add Java path input to the panel
         panel.add(new JLabel("Java path:"));
         panel.add(javaPathTextField);
+        panel.add(prefetchCheckbox);
 
         JPanel p =new JPanel();
         p.setBorder(new EmptyBorder(10, 10, 10, 10));
@@ -107,7 +119,7 @@ public class GUI implements ActionListener {
         panel.add(statusLabel);
 
         // Set fixed sizes for the panel and prevent resizing
-        panel.setPreferredSize(new Dimension(400, 300)); // Increased height to accommodate progress bar and status
+        panel.setPreferredSize(new Dimension(400, 325)); // Increased height to accommodate progress bar and status
         // label
         panel.setMaximumSize(new Dimension(400, 300));
         panel.setMinimumSize(new Dimension(400, 300));
@@ -117,10 +129,18 @@ public class GUI implements ActionListener {
 
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setTitle("Morch Client installer");
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                System.out.println("Time to first paint: " + Main.millisSinceStart() + " ms");
+            }
+        });
         frame.pack();
         frame.setLocationRelativeTo(null);
         frame.setVisible(true);
-        frame.setDefaultLookAndFeelDecorated(true);
+        loadIconAsync();
+        loadMinecraftVersionsAsync();
+        JFrame.setDefaultLookAndFeelDecorated(true);
         try {
 			
 			UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -132,28 +152,98 @@ public class GUI implements ActionListener {
 
     public void actionPerformed(ActionEvent e) {
         if (e.getSource() == installButton) {
+            if (installJob != null) {
+                installJob.cancel();
+                installButton.setEnabled(false);
+                return;
+            }
+
             String selectedMinecraftVersion = (String) minecraftVersionDropdown.getSelectedItem();
             String selectedClientVersion = (String) clientVersionDropdown.getSelectedItem();
             String minecraftPath = minecraftPathTextField.getText();
             String javaPath = javaPathTextField.getText();
             boolean addLauncherProfile = addLauncherProfileCheckbox.isSelected(); // Get the state of the checkbox
+            boolean prefetch = prefetchCheckbox.isSelected();
 
             System.out.println("Selected Minecraft version: " + selectedMinecraftVersion);
             System.out.println("Selected Client version: " + selectedClientVersion);
             System.out.println("Path to .minecraft: " + minecraftPath);
             System.out.println("Java path: " + javaPath);
             System.out.println("Add launcher profile: " + addLauncherProfile); // Print the state of the checkbox
-
-            client.installClient(selectedClientVersion, selectedMinecraftVersion, minecraftPath, javaPath, addLauncherProfile); // Pass the state of the checkbox
+            System.out.println("Prefetch libraries and assets: " + prefetch);
+
+            InstallScheduler.Job job = client.installClient(selectedClientVersion, selectedMinecraftVersion, minecraftPath, javaPath, addLauncherProfile, prefetch); // Pass the state of the checkbox
+            installJob = job;
+            installButton.setText("Cancel");
+            job.getResult().thenRunAsync(() -> {
+                installJob = null;
+                installButton.setText("Install");
+                installButton.setEnabled(clientVersionDropdown.getItemCount() > 0);
+            }, SwingUtilities::invokeLater);
         }
     }
 
     // Other methods that were not moved to Client class
     public void updateClientVersions() {
+        if (!minecraftVersionsLoaded) {
+            return;
+        }
         String selectedMinecraftVersion = (String) minecraftVersionDropdown.getSelectedItem();
-        List<String> clientVersions = client.getClientVersions(selectedMinecraftVersion);
-        DefaultComboBoxModel<String> model = new DefaultComboBoxModel<>(clientVersions.toArray(new String[0]));
-        clientVersionDropdown.setModel(model);
+
+        // A newer selection makes any lookup still in flight irrelevant
+        if (clientVersionsLookup != null) {
+            clientVersionsLookup.cancel(true);
+        }
+        if (installJob == null) {
+            installButton.setEnabled(false);
+        }
+        CompletableFuture<List<String>> lookup = CompletableFuture
+                .supplyAsync(() -> client.getClientVersions(selectedMinecraftVersion), metadataExecutor);
+        clientVersionsLookup = lookup;
+        lookup.thenAcceptAsync(clientVersions -> {
+            if (lookup != clientVersionsLookup) {
+                return;
+            }
+            DefaultComboBoxModel<String> model = new DefaultComboBoxModel<>(clientVersions.toArray(new String[0]));
+            clientVersionDropdown.setModel(model);
+            clientVersionDropdown.setEnabled(true);
+            if (installJob == null) {
+                installButton.setEnabled(!clientVersions.isEmpty());
+            }
+        }, SwingUtilities::invokeLater);
+    }
+
+    private void loadMinecraftVersionsAsync() {
+        CompletableFuture.supplyAsync(this::getMinecraftVersions, metadataExecutor)
+                .thenAcceptAsync(minecraftVersions -> {
+                    minecraftVersionDropdown.setModel(
+                            new DefaultComboBoxModel<>(minecraftVersions.toArray(new String[0])));
+                    minecraftVersionDropdown.setEnabled(true);
+                    minecraftVersionsLoaded = true;
+                    System.out.println("Version lists loaded after " + Main.millisSinceStart() + " ms");
+                    updateClientVersions();
+                }, SwingUtilities::invokeLater);
+    }
+
+    // Set the logo/icon for the frame from the first source that has it, without holding up the window
+    private void loadIconAsync() {
+        CompletableFuture.supplyAsync(() -> {
+            for (URI source : Sources.get().candidates(Sources.AVATAR)) {
+                try {
+                    ImageIcon icon = new ImageIcon(source.toURL());
+                    if (icon.getImageLoadStatus() == MediaTracker.COMPLETE) {
+                        return icon;
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            return null;
+        }, metadataExecutor).thenAcceptAsync(icon -> {
+            if (icon != null) {
+                frame.setIconImage(icon.getImage());
+            }
+        }, SwingUtilities::invokeLater);
     }
 
     public List<String> getMinecraftVersions() {
@@ -0,0 +1,270 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Timing of one install, split into named phases with per-download detail and
+ * counters for bytes, retries and cache hits. Phases and downloads are also
+ * emitted as JFR events, and the whole report is written as JSON under
+ * reports/ in the installer cache when the install ends, so install latency
+ * can be aggregated across machines.
+ */
+public class InstallReport {
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+	private final String version;
+	private final String minecraftPath;
+	private final String startedAt = LocalDateTime.now().toString();
+	private final transient long startNanos = System.nanoTime();
+	private final List<Phase> phases = new ArrayList<>();
+	private final List<DownloadTiming> downloads = new ArrayList<>();
+	private final AtomicLong bytes = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong cacheHits = new AtomicLong();
+	private long totalMillis;
+	private boolean success;
+
+	public InstallReport(InstallSpec spec) {
+		this("morch-" + spec.getClientVersion() + "-" + spec.getMinecraftVersion(), spec.getMinecraftPath());
+	}
+
+	// A report that is never finished is simply never written, which suits callers that do not care
+	public InstallReport(String version, String minecraftPath) {
+		this.version = version;
+		this.minecraftPath = minecraftPath;
+	}
+
+	public static final class Phase {
+		private final String name;
+		private final long startMillis;
+		private long durationMillis = -1;
+		private boolean failed;
+
+		Phase(String name, long startMillis) {
+			this.name = name;
+			this.startMillis = startMillis;
+		}
+	}
+
+	// Not static: each timing feeds its report's counters
+	public final class DownloadTiming {
+		private final String uri;
+		private String source;
+		private boolean cacheHit;
+		private int attempts;
+		// Request sent to response headers; includes connection setup, which HttpClient does not expose
+		private long ttfbMillis = -1;
+		private long transferMillis = -1;
+		private long bytes;
+
+		DownloadTiming(String uri) {
+			this.uri = uri;
+		}
+
+		public void cacheHit() {
+			cacheHit = true;
+			cacheHits.incrementAndGet();
+			commit(this);
+		}
+
+		public void attempt(URI from) {
+			attempts++;
+			source = from.toString();
+			if (attempts > 1) {
+				retries.incrementAndGet();
+			}
+		}
+
+		// Called once per attempt that got as far as a response; bytes add up across attempts
+		public void transferred(long ttfbNanos, long transferNanos, long transferredBytes) {
+			ttfbMillis = ttfbNanos / 1_000_000;
+			transferMillis = transferNanos / 1_000_000;
+			bytes += transferredBytes;
+			InstallReport.this.bytes.addAndGet(transferredBytes);
+			commit(this);
+		}
+	}
+
+	/**
+	 * Starts a named phase; close the returned timer to end it. A phase that
+	 * is closed without {@link Timer#succeed()} is reported as failed.
+	 */
+	public Timer phase(String name) {
+		Phase phase = new Phase(name, elapsedMillis());
+		synchronized (phases) {
+			phases.add(phase);
+		}
+		return new Timer(phase);
+	}
+
+	public class Timer implements AutoCloseable {
+		private final Phase phase;
+		private final PhaseEvent event = recording() ? new PhaseEvent() : null;
+		private final long start = System.nanoTime();
+		private boolean succeeded;
+
+		Timer(Phase phase) {
+			this.phase = phase;
+			if (event != null) {
+				event.begin();
+			}
+		}
+
+		public void succeed() {
+			succeeded = true;
+		}
+
+		@Override
+		public void close() {
+			phase.durationMillis = (System.nanoTime() - start) / 1_000_000;
+			phase.failed = !succeeded;
+			if (event == null) {
+				return;
+			}
+			event.end();
+			if (event.shouldCommit()) {
+				event.phase = phase.name;
+				event.version = version;
+				event.failed = phase.failed;
+				event.commit();
+			}
+		}
+	}
+
+	public DownloadTiming download(URI uri) {
+		DownloadTiming timing = new DownloadTiming(uri.toString());
+		synchronized (downloads) {
+			downloads.add(timing);
+		}
+		return timing;
+	}
+
+	private void commit(DownloadTiming timing) {
+		if (!recording()) {
+			return;
+		}
+		DownloadEvent event = new DownloadEvent();
+		if (event.shouldCommit()) {
+			event.uri = timing.uri;
+			event.source = timing.source;
+			event.cacheHit = timing.cacheHit;
+			event.attempts = timing.attempts;
+			event.ttfb = Math.max(0, timing.ttfbMillis);
+			event.transfer = Math.max(0, timing.transferMillis);
+			event.bytes = timing.bytes;
+			event.commit();
+		}
+	}
+
+	public long getTotalMillis() {
+		return totalMillis;
+	}
+
+	// Bytes received so far, across every attempt of every download
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	public long getRetries() {
+		return retries.get();
+	}
+
+	/**
+	 * Closes the report and writes it as JSON. Returns the file written, or
+	 * null if it could not be saved.
+	 */
+	public Path finish(boolean success) {
+		this.success = success;
+		this.totalMillis = elapsedMillis();
+		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"));
+		// The random part keeps concurrent installs of the same version from overwriting each other's report
+		String id = UUID.randomUUID().toString().substring(0, 8);
+		Path file = Cache.resolve("reports", timestamp + "-" + version + "-" + id + ".json");
+		try {
+			String json;
+			synchronized (phases) {
+				synchronized (downloads) {
+					json = GSON.toJson(this);
+				}
+			}
+			Cache.writeAtomically(file, json.getBytes(StandardCharsets.UTF_8));
+			return file;
+		} catch (IOException e) {
+			System.out.println("Unable to write install report: " + e);
+			return null;
+		}
+	}
+
+	// Loading the first event class costs hundreds of milliseconds, so skip events unless JFR is running
+	private static boolean recording() {
+		return FlightRecorder.isInitialized();
+	}
+
+	private long elapsedMillis() {
+		return (System.nanoTime() - startNanos) / 1_000_000;
+	}
+
+	@Name("installer.InstallPhase")
+	@Label("Install Phase")
+	@Category("Morch Installer")
+	static class PhaseEvent extends Event {
+		@Label("Phase")
+		String phase;
+
+		@Label("Version")
+		String version;
+
+		@Label("Failed")
+		boolean failed;
+	}
+
+	@Name("installer.Download")
+	@Label("Artifact Download")
+	@Category("Morch Installer")
+	static class DownloadEvent extends Event {
+		@Label("URI")
+		String uri;
+
+		@Label("Source")
+		String source;
+
+		@Label("Cache Hit")
+		boolean cacheHit;
+
+		@Label("Attempts")
+		int attempts;
+
+		@Label("Time To First Byte")
+		@Timespan(Timespan.MILLISECONDS)
+		long ttfb;
+
+		@Label("Transfer Time")
+		@Timespan(Timespan.MILLISECONDS)
+		long transfer;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+	}
+
+}
@@ -0,0 +1,51 @@
+package installer;
+
+// Outcome of one install, serialised as-is into the batch summary
+public class InstallResult {
+	private final String minecraftVersion;
+	private final String clientVersion;
+	private final String minecraftPath;
+	private final boolean success;
+	private final String error;
+	private final long durationMillis;
+	// Path of the timing report, if one was written
+	private String report;
+
+	private InstallResult(InstallSpec spec, boolean success, String error, long startNanos) {
+		this.minecraftVersion = spec.getMinecraftVersion();
+		this.clientVersion = spec.getClientVersion();
+		this.minecraftPath = spec.getMinecraftPath();
+		this.success = success;
+		this.error = error;
+		this.durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+	}
+
+	public static InstallResult success(InstallSpec spec, long startNanos) {
+		return new InstallResult(spec, true, null, startNanos);
+	}
+
+	public static InstallResult failure(InstallSpec spec, String error, long startNanos) {
+		return new InstallResult(spec, false, error, startNanos);
+	}
+
+	public boolean isSuccess() {
+		return success;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	public String getReport() {
+		return report;
+	}
+
+	void setReport(String report) {
+		this.report = report;
+	}
+
+}
@@ -0,0 +1,191 @@
+package installer;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of install jobs. Every job gets its own thread, virtual where the
+ * runtime has them, and takes the lock of its target .minecraft directory
+ * before it writes anything, so two installs never touch the same versions/
+ * directory or launcher_profiles.json at once while installs into different
+ * directories run side by side. Jobs can be cancelled while queued or
+ * running and report their status as they go.
+ */
+public class InstallScheduler implements AutoCloseable {
+	public enum Status {
+		QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED
+	}
+
+	private final Client client;
+	private final ExecutorService executor = newExecutor();
+	private final Semaphore slots;
+	private final Map<Path, ReentrantLock> directoryLocks = new ConcurrentHashMap<>();
+	private final List<Job> jobs = new CopyOnWriteArrayList<>();
+
+	public InstallScheduler(Client client) {
+		this(client, Integer.MAX_VALUE);
+	}
+
+	// At most maxConcurrent jobs run at once; the rest wait in the queue
+	public InstallScheduler(Client client, int maxConcurrent) {
+		this.client = client;
+		this.slots = new Semaphore(Math.max(1, maxConcurrent), true);
+	}
+
+	public Job submit(InstallSpec spec, ProgressListener listener) {
+		Job job = new Job(spec, listener);
+		jobs.add(job);
+		executor.execute(job::run);
+		return job;
+	}
+
+	public List<Job> getJobs() {
+		return List.copyOf(jobs);
+	}
+
+	// Cancels whatever has not finished yet and stops accepting jobs
+	@Override
+	public void close() {
+		for (Job job : jobs) {
+			job.cancel();
+		}
+		executor.shutdown();
+	}
+
+	public class Job {
+		private final InstallSpec spec;
+		private final ProgressListener listener;
+		private final CompletableFuture<InstallResult> result = new CompletableFuture<>();
+		private volatile Status status = Status.QUEUED;
+		private volatile boolean cancelled;
+		private Thread thread;
+
+		Job(InstallSpec spec, ProgressListener listener) {
+			this.spec = spec;
+			this.listener = listener;
+		}
+
+		public InstallSpec getSpec() {
+			return spec;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		// Completes once the job has finished, failed or been cancelled
+		public CompletableFuture<InstallResult> getResult() {
+			return result;
+		}
+
+		/**
+		 * Cancels the job. A queued job stops waiting at once; a running one
+		 * stops before its next step and leaves nothing half written. Returns
+		 * false if the job had already finished.
+		 */
+		public synchronized boolean cancel() {
+			if (result.isDone()) {
+				return false;
+			}
+			cancelled = true;
+			if (status == Status.QUEUED) {
+				if (thread != null) {
+					thread.interrupt();
+				} else {
+					// Not started yet, and run() will not start it
+					finish(cancelledResult(System.nanoTime()), Status.CANCELLED);
+				}
+			}
+			return true;
+		}
+
+		private void run() {
+			long start = System.nanoTime();
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				thread = Thread.currentThread();
+			}
+			ReentrantLock directoryLock = null;
+			boolean locked = false;
+			boolean slotTaken = false;
+			try {
+				// Inside the try: a spec without a usable path fails the job instead of killing its thread
+				directoryLock = directoryLocks.computeIfAbsent(directoryOf(spec), path -> new ReentrantLock());
+				if (!directoryLock.tryLock()) {
+					listener.status("Waiting for another install into " + spec.getMinecraftPath() + " to finish...");
+					directoryLock.lockInterruptibly();
+				}
+				locked = true;
+				slots.acquire();
+				slotTaken = true;
+
+				synchronized (this) {
+					// A cancel that raced with the lock leaves the interrupt flag set
+					Thread.interrupted();
+					if (cancelled) {
+						finish(cancelledResult(start), Status.CANCELLED);
+						return;
+					}
+					status = Status.RUNNING;
+				}
+
+				InstallResult installed = client.install(spec, listener, () -> cancelled);
+				finish(installed, installed.isSuccess() ? Status.SUCCEEDED : cancelled ? Status.CANCELLED : Status.FAILED);
+			} catch (InterruptedException e) {
+				finish(cancelledResult(start), Status.CANCELLED);
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+				finish(InstallResult.failure(spec, e.toString(), start), Status.FAILED);
+			} finally {
+				if (slotTaken) {
+					slots.release();
+				}
+				if (locked) {
+					directoryLock.unlock();
+				}
+				synchronized (this) {
+					thread = null;
+				}
+			}
+		}
+
+		private InstallResult cancelledResult(long start) {
+			listener.status("Installation cancelled.");
+			return InstallResult.failure(spec, "Cancelled", start);
+		}
+
+		private void finish(InstallResult installResult, Status finalStatus) {
+			status = finalStatus;
+			result.complete(installResult);
+		}
+	}
+
+	private static Path directoryOf(InstallSpec spec) {
+		return Paths.get(spec.getMinecraftPath()).toAbsolutePath().normalize();
+	}
+
+	// Virtual threads arrived in Java 21; on older runtimes jobs spend most of their time waiting, so a cached pool does
+	private static ExecutorService newExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "morch-job");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+}
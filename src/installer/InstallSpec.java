@@ -0,0 +1,61 @@
+package installer;
+
+// One install: which client build goes into which .minecraft directory
+public class InstallSpec {
+	private String minecraftVersion;
+	private String clientVersion;
+	private String minecraftPath;
+	private String javaPath;
+	private boolean profile;
+	// Also download libraries and assets so the first launch does not have to
+	private boolean prefetch;
+
+	// Used by Gson when reading batch spec files
+	InstallSpec() {
+	}
+
+	public InstallSpec(String minecraftVersion, String clientVersion, String minecraftPath, String javaPath,
+			boolean profile) {
+		this.minecraftVersion = minecraftVersion;
+		this.clientVersion = clientVersion;
+		this.minecraftPath = minecraftPath;
+		this.javaPath = javaPath;
+		this.profile = profile;
+	}
+
+	public InstallSpec(String minecraftVersion, String clientVersion, String minecraftPath, String javaPath,
+			boolean profile, boolean prefetch) {
+		this(minecraftVersion, clientVersion, minecraftPath, javaPath, profile);
+		this.prefetch = prefetch;
+	}
+
+	public String getMinecraftVersion() {
+		return minecraftVersion;
+	}
+
+	public String getClientVersion() {
+		return clientVersion;
+	}
+
+	public String getMinecraftPath() {
+		return minecraftPath;
+	}
+
+	public String getJavaPath() {
+		return javaPath != null ? javaPath : "";
+	}
+
+	public boolean isProfile() {
+		return profile;
+	}
+
+	public boolean isPrefetch() {
+		return prefetch;
+	}
+
+	@Override
+	public String toString() {
+		return "morch-" + clientVersion + "-" + minecraftVersion + " @ " + minecraftPath;
+	}
+
+}
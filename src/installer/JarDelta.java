@@ -0,0 +1,476 @@
+package installer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * Zip bookkeeping for updating a client jar from one that is already
+ * installed. The new jar's central directory says where every entry lives
+ * and what its compressed data hashes to; any entry whose compressed data
+ * matches an entry of the base jar (same method, CRC-32 and sizes) is copied
+ * from the base, and everything else is fetched with Range requests.
+ * <p>
+ * Local headers and data descriptors are written from the central directory
+ * rather than fetched, as long as every header and descriptor of the base is
+ * exactly what its own central directory implies; jars from the same tool
+ * follow the same convention, so new timestamps or streamed DEFLATE entries
+ * cost no requests. Otherwise a header is only copied when the base's is
+ * identical and is fetched when not. The rebuilt file is checked entry by
+ * entry and can go into the artifact store like any other download. Zip64
+ * jars are not handled and simply take the full download.
+ */
+final class JarDelta {
+	// Enough to hold the end of central directory record with the longest possible comment
+	static final int TAIL_BYTES = 0xFFFF + 22;
+	// Past this share of the jar, one plain download is simpler and about as fast
+	private static final double MAX_FETCH_SHARE = 0.7;
+	// Ranges are merged across reusable data until there are at most this many requests
+	static final int MAX_RANGES = 16;
+	static final long MIN_MERGE_GAP = 16 * 1024;
+
+	private static final int EOCD_SIGNATURE = 0x06054b50;
+	private static final int CENTRAL_SIGNATURE = 0x02014b50;
+	private static final int LOCAL_SIGNATURE = 0x04034b50;
+	private static final int DESCRIPTOR_SIGNATURE = 0x08074b50;
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int DESCRIPTOR_SIZE = 16;
+	// General purpose flag: CRC-32 and sizes follow the data in a descriptor and are zero in the local header
+	private static final int FLAG_DESCRIPTOR = 0x08;
+
+	private JarDelta() {
+	}
+
+	static final class Entry {
+		private final String name;
+		private final int flags;
+		private final int method;
+		private final long crc;
+		private final long compressedSize;
+		private final long size;
+		private final long offset;
+		// Where the compressed data starts; for a remote jar this is inferred from the central directory
+		private long dataStart;
+		// The local header; for a remote jar the one the central directory implies
+		private byte[] header;
+		// For a local jar: the header and any data descriptor are what the central directory implies
+		private boolean conventional;
+
+		Entry(String name, int flags, int method, long crc, long compressedSize, long size, long offset,
+				long dataStart, byte[] header) {
+			this.name = name;
+			this.flags = flags;
+			this.method = method;
+			this.crc = crc;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.offset = offset;
+			this.dataStart = dataStart;
+			this.header = header;
+		}
+
+		private String key() {
+			return method + ":" + crc + ":" + compressedSize + ":" + size;
+		}
+
+		private boolean hasDescriptor() {
+			return (flags & FLAG_DESCRIPTOR) != 0;
+		}
+
+		// The signed form, which is what java.util.zip and most other tools write
+		private byte[] descriptor() {
+			return ByteBuffer.allocate(DESCRIPTOR_SIZE).order(ByteOrder.LITTLE_ENDIAN).putInt(DESCRIPTOR_SIGNATURE)
+					.putInt((int) crc).putInt((int) compressedSize).putInt((int) size).array();
+		}
+	}
+
+	// Location of the central directory, from the end of central directory record
+	static final class Directory {
+		private final long offset;
+		private final long size;
+		private final int entries;
+
+		Directory(long offset, long size, int entries) {
+			this.offset = offset;
+			this.size = size;
+			this.entries = entries;
+		}
+
+		long getOffset() {
+			return offset;
+		}
+
+		long getSize() {
+			return size;
+		}
+	}
+
+	// A stretch of the new jar: copied from the base jar, written from known bytes, or fetched
+	static final class Segment {
+		private final long start;
+		private final long end;
+		private final long baseOffset;
+		private final byte[] data;
+
+		Segment(long start, long end, long baseOffset) {
+			this(start, end, baseOffset, null);
+		}
+
+		Segment(long start, long end, long baseOffset, byte[] data) {
+			this.start = start;
+			this.end = end;
+			this.baseOffset = baseOffset;
+			this.data = data;
+		}
+
+		long getStart() {
+			return start;
+		}
+
+		long getEnd() {
+			return end;
+		}
+
+		boolean isFetched() {
+			return baseOffset < 0 && data == null;
+		}
+
+		long getBaseOffset() {
+			return baseOffset;
+		}
+
+		// The bytes to write for a rebuilt header or descriptor, otherwise null
+		byte[] getData() {
+			return data;
+		}
+	}
+
+	static final class Plan {
+		private final List<Segment> segments;
+		private final List<Entry> entries;
+		private final long fetchedBytes;
+
+		Plan(List<Segment> segments, List<Entry> entries) {
+			this.segments = segments;
+			this.entries = entries;
+			long fetched = 0;
+			for (Segment segment : segments) {
+				if (segment.isFetched()) {
+					fetched += segment.end - segment.start;
+				}
+			}
+			this.fetchedBytes = fetched;
+		}
+
+		// In file order, covering everything before the central directory
+		List<Segment> getSegments() {
+			return segments;
+		}
+
+		long getFetchedBytes() {
+			return fetchedBytes;
+		}
+	}
+
+	static Directory findDirectory(byte[] tail) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(tail).order(ByteOrder.LITTLE_ENDIAN);
+		for (int position = tail.length - 22; position >= 0; position--) {
+			if (buffer.getInt(position) != EOCD_SIGNATURE
+					|| position + 22 + Short.toUnsignedInt(buffer.getShort(position + 20)) != tail.length) {
+				continue;
+			}
+			int entries = Short.toUnsignedInt(buffer.getShort(position + 10));
+			long size = Integer.toUnsignedLong(buffer.getInt(position + 12));
+			long offset = Integer.toUnsignedLong(buffer.getInt(position + 16));
+			if (entries == 0xFFFF || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) {
+				throw new ZipException("Zip64 archives are not supported");
+			}
+			return new Directory(offset, size, entries);
+		}
+		throw new ZipException("No end of central directory record");
+	}
+
+	// Entries of a remote jar; data starts are inferred assuming the local extra field matches the central one
+	static List<Entry> readEntries(byte[] centralDirectory, Directory directory) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(centralDirectory).order(ByteOrder.LITTLE_ENDIAN);
+		List<Entry> entries = new ArrayList<>(directory.entries);
+		int position = 0;
+		for (int i = 0; i < directory.entries; i++) {
+			if (position + 46 > centralDirectory.length || buffer.getInt(position) != CENTRAL_SIGNATURE) {
+				throw new ZipException("Corrupt central directory at entry " + i);
+			}
+			int flags = Short.toUnsignedInt(buffer.getShort(position + 8));
+			int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+			long crc = Integer.toUnsignedLong(buffer.getInt(position + 16));
+			long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+			long size = Integer.toUnsignedLong(buffer.getInt(position + 24));
+			int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+			int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+			int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+			long offset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+			if (compressedSize == 0xFFFFFFFFL || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) {
+				throw new ZipException("Zip64 archives are not supported");
+			}
+			if (position + 46 + nameLength + extraLength + commentLength > centralDirectory.length) {
+				throw new ZipException("Central directory entry " + i + " runs past the end of the directory");
+			}
+			String name = new String(centralDirectory, position + 46, nameLength, StandardCharsets.UTF_8);
+
+			// Same fields as the central record from "version needed" to the extra field length, then name and extra
+			ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_SIZE + nameLength + extraLength)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(LOCAL_SIGNATURE);
+			header.put(centralDirectory, position + 6, 26);
+			header.put(centralDirectory, position + 46, nameLength + extraLength);
+			if ((flags & FLAG_DESCRIPTOR) != 0) {
+				// These go in the data descriptor instead
+				header.putInt(14, 0).putInt(18, 0).putInt(22, 0);
+			}
+			entries.add(new Entry(name, flags, method, crc, compressedSize, size, offset,
+					offset + LOCAL_HEADER_SIZE + nameLength + extraLength, header.array()));
+			position += 46 + nameLength + extraLength + commentLength;
+		}
+		return entries;
+	}
+
+	// Entries of a local jar, with data starts taken from the actual local headers
+	static List<Entry> readEntries(Path jar) throws IOException {
+		try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+			long length = channel.size();
+			int tailLength = (int) Math.min(length, TAIL_BYTES);
+			Directory directory = findDirectory(read(channel, length - tailLength, tailLength));
+			if (directory.offset + directory.size > length) {
+				throw new ZipException("Central directory of " + jar + " runs past the end of the file");
+			}
+			List<Entry> entries = readEntries(read(channel, directory.offset, (int) directory.size), directory);
+			for (Entry entry : entries) {
+				ByteBuffer header = ByteBuffer.wrap(read(channel, entry.offset, LOCAL_HEADER_SIZE))
+						.order(ByteOrder.LITTLE_ENDIAN);
+				if (header.getInt(0) != LOCAL_SIGNATURE) {
+					throw new ZipException("Bad local header for " + entry.name + " in " + jar);
+				}
+				byte[] implied = entry.header;
+				entry.dataStart = entry.offset + LOCAL_HEADER_SIZE + Short.toUnsignedInt(header.getShort(26))
+						+ Short.toUnsignedInt(header.getShort(28));
+				entry.header = read(channel, entry.offset, (int) (entry.dataStart - entry.offset));
+				long dataEnd = entry.dataStart + entry.compressedSize;
+				entry.conventional = Arrays.equals(implied, entry.header) && (!entry.hasDescriptor()
+						|| dataEnd + DESCRIPTOR_SIZE <= length
+								&& Arrays.equals(entry.descriptor(), read(channel, dataEnd, DESCRIPTOR_SIZE)));
+			}
+			return entries;
+		}
+	}
+
+	/**
+	 * Works out which parts of the new jar can come from the base. Returns
+	 * null when so little matches that a full download is the better deal.
+	 */
+	static Plan plan(List<Entry> target, Directory directory, long length, Path base) throws IOException {
+		Map<String, Entry> reusable = new HashMap<>();
+		Map<String, Entry> byName = new HashMap<>();
+		boolean rebuildHeaders = true;
+		for (Entry entry : readEntries(base)) {
+			reusable.putIfAbsent(entry.key(), entry);
+			byName.putIfAbsent(entry.name, entry);
+			rebuildHeaders &= entry.conventional;
+		}
+
+		List<Entry> ordered = new ArrayList<>(target);
+		ordered.sort(Comparator.comparingLong(entry -> entry.offset));
+		List<Segment> segments = new ArrayList<>();
+		long position = 0;
+		for (int i = 0; i < ordered.size(); i++) {
+			Entry entry = ordered.get(i);
+			long next = i + 1 < ordered.size() ? ordered.get(i + 1).offset : directory.offset;
+			if (entry.offset < position || next < entry.offset) {
+				throw new ZipException("Overlapping entries in the central directory");
+			}
+			fetch(segments, position, entry.offset);
+
+			Entry same = byName.get(entry.name);
+			Entry match = reusable.get(entry.key());
+			long dataEnd = entry.dataStart + entry.compressedSize;
+			long descriptorEnd = dataEnd + (entry.hasDescriptor() ? DESCRIPTOR_SIZE : 0);
+			if (descriptorEnd > next) {
+				fetch(segments, entry.offset, next);
+			} else if (rebuildHeaders) {
+				// Header and descriptor from the central directory; only data the base lacks is fetched
+				write(segments, entry.offset, entry.header);
+				if (match != null && entry.compressedSize > 0) {
+					reuse(segments, entry.dataStart, dataEnd, match.dataStart);
+				} else {
+					fetch(segments, entry.dataStart, dataEnd);
+				}
+				if (entry.hasDescriptor()) {
+					write(segments, dataEnd, entry.descriptor());
+				}
+				fetch(segments, descriptorEnd, next);
+			} else if (same != null && same.key().equals(entry.key()) && Arrays.equals(same.header, entry.header)) {
+				// Unchanged entry: header and data in one piece, any data descriptor is fetched
+				reuse(segments, entry.offset, dataEnd, same.offset);
+				fetch(segments, dataEnd, next);
+			} else if (match != null && entry.compressedSize > 0) {
+				// Same content under another header, e.g. a new timestamp: only the compressed data is reused
+				fetch(segments, entry.offset, entry.dataStart);
+				reuse(segments, entry.dataStart, dataEnd, match.dataStart);
+				fetch(segments, dataEnd, next);
+			} else {
+				fetch(segments, entry.offset, next);
+			}
+			position = next;
+		}
+		fetch(segments, position, directory.offset);
+
+		Plan plan = new Plan(limitRanges(segments), target);
+		return plan.fetchedBytes + (length - directory.offset) <= length * MAX_FETCH_SHARE ? plan : null;
+	}
+
+	// Merges across ever longer reusable stretches until at most MAX_RANGES requests are left
+	static List<Segment> limitRanges(List<Segment> segments) {
+		List<Segment> merged = segments;
+		for (long gap = MIN_MERGE_GAP; countFetched(merged) > MAX_RANGES; gap *= 2) {
+			merged = merge(segments, gap);
+		}
+		return merged;
+	}
+
+	/**
+	 * Checks a rebuilt jar: every local header must sit where the plan put
+	 * it, and every entry must inflate to its recorded size and CRC-32.
+	 */
+	static void verify(Path jar, Plan plan, long length) throws IOException {
+		try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+			if (channel.size() != length) {
+				throw new ZipException("Rebuilt jar is " + channel.size() + " bytes, expected " + length);
+			}
+			for (Entry entry : plan.entries) {
+				ByteBuffer header = ByteBuffer.wrap(read(channel, entry.offset, LOCAL_HEADER_SIZE))
+						.order(ByteOrder.LITTLE_ENDIAN);
+				long dataStart = entry.offset + LOCAL_HEADER_SIZE + Short.toUnsignedInt(header.getShort(26))
+						+ Short.toUnsignedInt(header.getShort(28));
+				if (header.getInt(0) != LOCAL_SIGNATURE || dataStart != entry.dataStart) {
+					throw new ZipException("Local header of " + entry.name + " does not match the central directory");
+				}
+			}
+		}
+
+		byte[] buffer = new byte[64 * 1024];
+		try (ZipFile zip = new ZipFile(jar.toFile())) {
+			Enumeration<? extends ZipEntry> entries = zip.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				long size = 0;
+				CRC32 crc = new CRC32();
+				try (InputStream in = new CheckedInputStream(zip.getInputStream(entry), crc)) {
+					int read;
+					while ((read = in.read(buffer)) > 0) {
+						size += read;
+					}
+				}
+				if (crc.getValue() != entry.getCrc() || size != entry.getSize()) {
+					throw new ZipException("CRC or size mismatch for " + entry.getName() + " in the rebuilt jar");
+				}
+			}
+		}
+	}
+
+	private static void fetch(List<Segment> segments, long start, long end) {
+		if (end <= start) {
+			return;
+		}
+		Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+		if (last != null && last.isFetched() && last.end == start) {
+			segments.set(segments.size() - 1, new Segment(last.start, end, -1));
+		} else {
+			segments.add(new Segment(start, end, -1));
+		}
+	}
+
+	// A descriptor followed by the next header becomes one write
+	private static void write(List<Segment> segments, long start, byte[] data) {
+		Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+		if (last != null && last.data != null && last.end == start) {
+			byte[] joined = Arrays.copyOf(last.data, last.data.length + data.length);
+			System.arraycopy(data, 0, joined, last.data.length, data.length);
+			segments.set(segments.size() - 1, new Segment(last.start, start + data.length, -1, joined));
+		} else {
+			segments.add(new Segment(start, start + data.length, -1, data));
+		}
+	}
+
+	// Neighbouring entries that were neighbours in the base too become one copy
+	private static void reuse(List<Segment> segments, long start, long end, long baseOffset) {
+		Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+		if (last != null && !last.isFetched() && last.end == start
+				&& last.baseOffset + (last.end - last.start) == baseOffset) {
+			segments.set(segments.size() - 1, new Segment(last.start, end, last.baseOffset));
+		} else {
+			segments.add(new Segment(start, end, baseOffset));
+		}
+	}
+
+	// Stretches between two fetched ranges that are shorter than the gap are fetched along with them
+	static List<Segment> merge(List<Segment> segments, long gap) {
+		List<Segment> merged = new ArrayList<>();
+		int i = 0;
+		while (i < segments.size()) {
+			Segment segment = segments.get(i);
+			if (segment.isFetched()) {
+				fetch(merged, segment.start, segment.end);
+				i++;
+				continue;
+			}
+			int runEnd = i;
+			while (runEnd < segments.size() && !segments.get(runEnd).isFetched()) {
+				runEnd++;
+			}
+			boolean between = !merged.isEmpty() && merged.get(merged.size() - 1).isFetched() && runEnd < segments.size();
+			if (between && segments.get(runEnd - 1).end - segment.start < gap) {
+				fetch(merged, segment.start, segments.get(runEnd - 1).end);
+			} else {
+				merged.addAll(segments.subList(i, runEnd));
+			}
+			i = runEnd;
+		}
+		return merged;
+	}
+
+	private static int countFetched(List<Segment> segments) {
+		int count = 0;
+		for (Segment segment : segments) {
+			if (segment.isFetched()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static byte[] read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new ZipException("Unexpected end of file");
+			}
+		}
+		return buffer.array();
+	}
+
+}
@@ -0,0 +1,82 @@
+package installer;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Response latency seen per endpoint (scheme, host and port), measured from
+ * sending a request to receiving its headers over the last few dozen
+ * requests. Timeouts and hedge delays are derived from these percentiles, so
+ * a fast mirror gets tight timeouts while a slow but healthy one is left
+ * alone. Until an endpoint has enough samples the configured defaults apply.
+ */
+public final class LatencyTracker {
+	private static final int WINDOW = 64;
+	private static final int MIN_SAMPLES = 8;
+	// A timeout is this many times the p99, but never below the floor nor above the configured value
+	private static final int TIMEOUT_FACTOR = 4;
+	private static final long MIN_TIMEOUT_MILLIS = 2000;
+	private static final long DEFAULT_HEDGE_MILLIS = 1000;
+	private static final long MIN_HEDGE_MILLIS = 50;
+	private static final LatencyTracker INSTANCE = new LatencyTracker();
+
+	private final Map<String, Window> endpoints = new ConcurrentHashMap<>();
+
+	public static LatencyTracker get() {
+		return INSTANCE;
+	}
+
+	public void record(URI uri, long nanos) {
+		endpoints.computeIfAbsent(endpoint(uri), key -> new Window()).add(nanos / 1_000_000);
+	}
+
+	// The given percentile (0-100) in milliseconds, or -1 while there are too few samples
+	public long percentileMillis(URI uri, double percentile) {
+		Window window = endpoints.get(endpoint(uri));
+		return window != null ? window.percentile(percentile) : -1;
+	}
+
+	// Read timeout for the endpoint; the configured value is the ceiling and the default
+	public long timeoutMillis(URI uri, long configuredMillis) {
+		long p99 = percentileMillis(uri, 99);
+		if (p99 < 0) {
+			return configuredMillis;
+		}
+		return Math.min(configuredMillis, Math.max(MIN_TIMEOUT_MILLIS, p99 * TIMEOUT_FACTOR));
+	}
+
+	// How long to wait on a request before sending a duplicate: slower than 95% of what this endpoint usually does
+	public long hedgeDelayMillis(URI uri) {
+		long p95 = percentileMillis(uri, 95);
+		return p95 < 0 ? DEFAULT_HEDGE_MILLIS : Math.max(MIN_HEDGE_MILLIS, p95);
+	}
+
+	private static String endpoint(URI uri) {
+		return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+	}
+
+	private static final class Window {
+		private final long[] samples = new long[WINDOW];
+		private int count;
+		private int next;
+
+		synchronized void add(long millis) {
+			samples[next] = millis;
+			next = (next + 1) % WINDOW;
+			count = Math.min(count + 1, WINDOW);
+		}
+
+		synchronized long percentile(double percentile) {
+			if (count < MIN_SAMPLES) {
+				return -1;
+			}
+			long[] sorted = Arrays.copyOf(samples, count);
+			Arrays.sort(sorted);
+			int index = (int) Math.ceil(percentile / 100 * count) - 1;
+			return sorted[Math.max(0, Math.min(count - 1, index))];
+		}
+	}
+
+}
@@ -0,0 +1,225 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adds, replaces or removes one profile in launcher_profiles.json without
+ * loading the file into memory. Every other token is copied through as it is read, the
+ * result goes to a temp file next to the original, and that file is moved
+ * over the original atomically, so an interrupted install never leaves a
+ * truncated profile list behind. The temp file takes over the original's
+ * permissions and owner before the move.
+ */
+public final class LauncherProfilesPatcher {
+	// Base64 icons are full of '=', which Gson would otherwise write as a unicode escape
+	private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+	private LauncherProfilesPatcher() {
+	}
+
+	public static void putProfile(Path launcherProfiles, String profileId, JsonObject profile) throws IOException {
+		update(launcherProfiles, profileId, profile);
+	}
+
+	// Does nothing if there is no such profile or no file at all
+	public static void removeProfile(Path launcherProfiles, String profileId) throws IOException {
+		if (Files.isRegularFile(launcherProfiles)) {
+			update(launcherProfiles, profileId, null);
+		}
+	}
+
+	// Every profile by id, in file order; an absent file has none
+	public static Map<String, JsonObject> readProfiles(Path launcherProfiles) throws IOException {
+		Map<String, JsonObject> profiles = new LinkedHashMap<>();
+		if (!Files.isRegularFile(launcherProfiles)) {
+			return profiles;
+		}
+		try (Reader in = Files.newBufferedReader(launcherProfiles, StandardCharsets.UTF_8);
+				JsonReader reader = new JsonReader(in)) {
+			reader.beginObject();
+			while (reader.hasNext()) {
+				if (!reader.nextName().equals("profiles") || reader.peek() != JsonToken.BEGIN_OBJECT) {
+					reader.skipValue();
+					continue;
+				}
+				reader.beginObject();
+				while (reader.hasNext()) {
+					String id = reader.nextName();
+					profiles.put(id, GSON.fromJson(reader, JsonObject.class));
+				}
+				reader.endObject();
+			}
+			reader.endObject();
+		} catch (RuntimeException e) {
+			throw new IOException("Malformed " + launcherProfiles, e);
+		}
+		return profiles;
+	}
+
+	// A null profile removes the entry
+	private static void update(Path launcherProfiles, String profileId, JsonObject profile) throws IOException {
+		Path directory = launcherProfiles.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		// Not createTempFile, which would make a new file private to us
+		Path temp = directory.resolve(launcherProfiles.getFileName() + "." + UUID.randomUUID() + ".tmp");
+		try {
+			try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW,
+					StandardOpenOption.WRITE);
+					JsonWriter writer = new JsonWriter(out)) {
+				writer.setIndent("  ");
+				if (Files.isRegularFile(launcherProfiles)) {
+					try (Reader in = Files.newBufferedReader(launcherProfiles, StandardCharsets.UTF_8);
+							JsonReader reader = new JsonReader(in)) {
+						patch(reader, writer, profileId, profile);
+					}
+				} else {
+					writer.beginObject();
+					writeProfiles(writer, profileId, profile);
+					writer.endObject();
+				}
+			}
+			if (Files.isRegularFile(launcherProfiles)) {
+				copyOwnership(launcherProfiles, temp);
+			}
+			Cache.moveAtomically(temp, launcherProfiles);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	// Mode, owner and group of the original; only the mode where the filesystem is not POSIX or we may not chown
+	private static void copyOwnership(Path from, Path to) throws IOException {
+		PosixFileAttributeView source = Files.getFileAttributeView(from, PosixFileAttributeView.class);
+		PosixFileAttributeView target = Files.getFileAttributeView(to, PosixFileAttributeView.class);
+		if (source == null || target == null) {
+			return;
+		}
+		PosixFileAttributes attributes = source.readAttributes();
+		target.setPermissions(attributes.permissions());
+		try {
+			if (!attributes.owner().equals(target.getOwner())) {
+				target.setOwner(attributes.owner());
+			}
+			if (!attributes.group().equals(target.readAttributes().group())) {
+				target.setGroup(attributes.group());
+			}
+		} catch (IOException e) {
+			// Only root can give a file away; the launcher still reads it as long as the mode matches
+			System.out.println("Could not keep the owner of " + from + ": " + e);
+		}
+	}
+
+	private static void patch(JsonReader reader, JsonWriter writer, String profileId, JsonObject profile)
+			throws IOException {
+		boolean patched = false;
+		reader.beginObject();
+		writer.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			writer.name(name);
+			if (name.equals("profiles") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+				reader.beginObject();
+				writer.beginObject();
+				while (reader.hasNext()) {
+					String id = reader.nextName();
+					if (id.equals(profileId)) {
+						// Replaced by the new entry below, or simply dropped
+						reader.skipValue();
+					} else {
+						writer.name(id);
+						copy(reader, writer);
+					}
+				}
+				if (profile != null) {
+					writer.name(profileId);
+					GSON.toJson(profile, writer);
+				}
+				reader.endObject();
+				writer.endObject();
+				patched = true;
+			} else {
+				copy(reader, writer);
+			}
+		}
+		if (!patched && profile != null) {
+			writeProfiles(writer, profileId, profile);
+		}
+		reader.endObject();
+		writer.endObject();
+	}
+
+	private static void writeProfiles(JsonWriter writer, String profileId, JsonObject profile) throws IOException {
+		writer.name("profiles");
+		writer.beginObject();
+		writer.name(profileId);
+		GSON.toJson(profile, writer);
+		writer.endObject();
+	}
+
+	// Copies exactly one value, token by token, without building a tree
+	static void copy(JsonReader reader, JsonWriter writer) throws IOException {
+		int depth = 0;
+		do {
+			switch (reader.peek()) {
+			case BEGIN_OBJECT:
+				reader.beginObject();
+				writer.beginObject();
+				depth++;
+				break;
+			case END_OBJECT:
+				reader.endObject();
+				writer.endObject();
+				depth--;
+				break;
+			case BEGIN_ARRAY:
+				reader.beginArray();
+				writer.beginArray();
+				depth++;
+				break;
+			case END_ARRAY:
+				reader.endArray();
+				writer.endArray();
+				depth--;
+				break;
+			case NAME:
+				writer.name(reader.nextName());
+				break;
+			case STRING:
+				writer.value(reader.nextString());
+				break;
+			case NUMBER:
+				// Keep the number exactly as written
+				writer.jsonValue(reader.nextString());
+				break;
+			case BOOLEAN:
+				writer.value(reader.nextBoolean());
+				break;
+			case NULL:
+				reader.nextNull();
+				writer.nullValue();
+				break;
+			default:
+				throw new IOException("Unexpected " + reader.peek() + " in launcher_profiles.json");
+			}
+		} while (depth > 0);
+	}
+
+}
@@ -1,10 +1,17 @@
 package installer;
 
 import javax.swing.UIManager;
+import java.util.Arrays;
 
 public class Main {
+	private static final long START_NANOS = System.nanoTime();
 
 	public static void main(String[] args) {
+		if (args.length > 0) {
+			// Batch mode never touches AWT
+			System.setProperty("java.awt.headless", "true");
+			System.exit(Arrays.asList(args).contains("--reconcile") ? Reconciler.run(args) : BatchInstaller.run(args));
+		}
 		try {
 			UIManager.setLookAndFeel(UIManager.getCrossPlatformLookAndFeelClassName());
 		} catch (Exception e) {
@@ -12,4 +19,8 @@ public class Main {
 		new GUI();
 	}
 
+	public static long millisSinceStart() {
+		return (System.nanoTime() - START_NANOS) / 1_000_000;
+	}
+
 }
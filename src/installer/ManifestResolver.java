@@ -0,0 +1,188 @@
+package installer;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves Minecraft version ids against Mojang's version manifest. The
+ * manifest is read with a streaming JsonReader that stops at the requested id,
+ * and every entry seen on the way is kept in a compact id to (url, sha1) index
+ * in memory and on disk, so repeat lookups never touch the network.
+ */
+public class ManifestResolver {
+	private final URI source;
+	private final Path indexFile;
+	private final Map<String, Entry> index = new ConcurrentHashMap<>();
+	private volatile boolean diskIndexLoaded;
+
+	public ManifestResolver() {
+		this(Sources.VERSION_MANIFEST, Cache.resolve("version_manifest.idx"));
+	}
+
+	public ManifestResolver(URI source, Path indexFile) {
+		this.source = source;
+		this.indexFile = indexFile;
+	}
+
+	public static final class Entry {
+		private final String id;
+		private final String url;
+		private final String sha1;
+
+		Entry(String id, String url, String sha1) {
+			this.id = id;
+			this.url = url;
+			this.sha1 = sha1;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getUrl() {
+			return url;
+		}
+
+		// May be null when the manifest does not publish one
+		public String getSha1() {
+			return sha1;
+		}
+	}
+
+	/**
+	 * Returns the manifest entry for the given id, or null if Mojang's manifest
+	 * does not contain it.
+	 */
+	public Entry resolve(String id) throws IOException {
+		Entry entry = index.get(id);
+		if (entry != null) {
+			return entry;
+		}
+
+		loadDiskIndex();
+		entry = index.get(id);
+		if (entry != null) {
+			return entry;
+		}
+
+		synchronized (this) {
+			// Another thread may have streamed the manifest while we waited
+			entry = index.get(id);
+			if (entry == null) {
+				entry = stream(id);
+				saveDiskIndex();
+			}
+		}
+		return entry;
+	}
+
+	private Entry stream(String id) throws IOException {
+		return Sources.get().read(source, response -> {
+			try (JsonReader reader = new JsonReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+				// Closing the reader drops the rest of the manifest unread
+				return find(reader, id, index);
+			}
+		});
+	}
+
+	// Reads manifest entries into the index until the id turns up
+	static Entry find(JsonReader reader, String id, Map<String, Entry> index) throws IOException {
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (!reader.nextName().equals("versions")) {
+				reader.skipValue();
+				continue;
+			}
+
+			reader.beginArray();
+			while (reader.hasNext()) {
+				Entry entry = readEntry(reader);
+				if (entry == null) {
+					continue;
+				}
+				index.put(entry.id, entry);
+				if (entry.id.equals(id)) {
+					return entry;
+				}
+			}
+			reader.endArray();
+		}
+		return null;
+	}
+
+	private static Entry readEntry(JsonReader reader) throws IOException {
+		String id = null;
+		String url = null;
+		String sha1 = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+			case "id":
+				id = reader.nextString();
+				break;
+			case "url":
+				url = reader.nextString();
+				break;
+			case "sha1":
+				sha1 = reader.nextString();
+				break;
+			default:
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return id != null && url != null ? new Entry(id, url, sha1) : null;
+	}
+
+	private void loadDiskIndex() {
+		if (diskIndexLoaded) {
+			return;
+		}
+		synchronized (this) {
+			if (diskIndexLoaded) {
+				return;
+			}
+			if (Files.isRegularFile(indexFile)) {
+				try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						String[] fields = line.split("\t");
+						if (fields.length >= 2) {
+							String sha1 = fields.length > 2 && !fields[2].isEmpty() ? fields[2] : null;
+							index.putIfAbsent(fields[0], new Entry(fields[0], fields[1], sha1));
+						}
+					}
+				} catch (IOException e) {
+					// A broken index is rebuilt from the manifest on the next miss
+					System.out.println("Ignoring unreadable manifest index: " + e);
+				}
+			}
+			diskIndexLoaded = true;
+		}
+	}
+
+	private void saveDiskIndex() {
+		StringBuilder out = new StringBuilder();
+		for (Entry entry : index.values()) {
+			out.append(entry.id).append('\t').append(entry.url).append('\t')
+					.append(entry.sha1 != null ? entry.sha1 : "").append('\n');
+		}
+		try {
+			Cache.writeAtomically(indexFile, out.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			System.out.println("Unable to save manifest index: " + e);
+		}
+	}
+
+}
@@ -0,0 +1,206 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Downloads the libraries and assets a version needs into the .minecraft
+ * directory, so the launcher finds everything in place on first start instead
+ * of fetching it then. Reads the {@code libraries} and {@code assetIndex}
+ * sections of Mojang's version JSON, skips files that are already present with
+ * the right size, and fetches the rest in parallel with SHA-1 verification.
+ * All prefetch traffic shares one bandwidth cap ({@code morch.prefetch.bandwidth}
+ * in bytes per second, 0 for none) so it does not starve the machine.
+ */
+public class Prefetcher {
+	private static final int CONCURRENCY = Integer.getInteger("morch.prefetch.concurrency", 16);
+	private static final int PER_HOST = Integer.getInteger("morch.prefetch.perHost", 8);
+	private static final long BANDWIDTH = Long.getLong("morch.prefetch.bandwidth", 8L * 1024 * 1024);
+	private static final String RESOURCES = "https://resources.download.minecraft.net/";
+
+	private final Downloader downloader;
+
+	// Shares the store of the main downloader so prefetched files are linked, not copied, into other instances
+	public Prefetcher(ArtifactStore store) {
+		this(new Downloader(CONCURRENCY, PER_HOST, store, Throttle.of(BANDWIDTH)));
+	}
+
+	public Prefetcher(Downloader downloader) {
+		this.downloader = downloader;
+	}
+
+	/**
+	 * Fetches whatever the version JSON lists that is missing from the
+	 * .minecraft directory, recording the transfers in the install's report.
+	 * Returns the number of files downloaded.
+	 */
+	public int prefetch(Path versionJson, String minecraftPath, TransferProgress progress, InstallReport report,
+			BooleanSupplier cancelled) throws IOException {
+		JsonObject version;
+		try (Reader reader = Files.newBufferedReader(versionJson)) {
+			version = new Gson().fromJson(reader, JsonObject.class);
+		}
+		Path root = Paths.get(minecraftPath);
+
+		List<Downloader.Download> downloads = new ArrayList<>(libraries(version, root.resolve("libraries")));
+		Downloader.Download assetIndex = assetIndex(version, root.resolve("assets"));
+		if (assetIndex != null) {
+			// The index names the asset objects, so it has to land before they can be listed
+			if (missing(assetIndex, size(version.getAsJsonObject("assetIndex")))) {
+				downloader.downloadAll(List.of(assetIndex), progress, report, cancelled, null);
+			}
+			downloads.addAll(assets(assetIndex.getDestination(), root.resolve("assets").resolve("objects")));
+		}
+
+		downloader.downloadAll(downloads, progress, report, cancelled, null);
+		return downloads.size();
+	}
+
+	// Library artifacts and the natives for this OS, for every library whose rules allow this OS
+	static List<Downloader.Download> libraries(JsonObject version, Path librariesDir) {
+		Map<String, Downloader.Download> downloads = new LinkedHashMap<>();
+		JsonArray libraries = version.has("libraries") ? version.getAsJsonArray("libraries") : new JsonArray();
+		for (JsonElement element : libraries) {
+			JsonObject library = element.getAsJsonObject();
+			if (!allowed(library) || !library.has("downloads")) {
+				continue;
+			}
+			JsonObject libraryDownloads = library.getAsJsonObject("downloads");
+			if (libraryDownloads.has("artifact")) {
+				addArtifact(downloads, libraryDownloads.getAsJsonObject("artifact"), librariesDir);
+			}
+
+			// Older versions ship natives as classifiers named per OS, e.g. natives-windows-${arch}
+			if (library.has("natives") && libraryDownloads.has("classifiers")) {
+				JsonElement classifier = library.getAsJsonObject("natives").get(osName());
+				JsonObject classifiers = libraryDownloads.getAsJsonObject("classifiers");
+				if (classifier != null) {
+					String name = classifier.getAsString().replace("${arch}", is64Bit() ? "64" : "32");
+					if (classifiers.has(name)) {
+						addArtifact(downloads, classifiers.getAsJsonObject(name), librariesDir);
+					}
+				}
+			}
+		}
+		return new ArrayList<>(downloads.values());
+	}
+
+	static Downloader.Download assetIndex(JsonObject version, Path assetsDir) {
+		if (!version.has("assetIndex")) {
+			return null;
+		}
+		JsonObject index = version.getAsJsonObject("assetIndex");
+		String id = index.get("id").getAsString();
+		return new Downloader.Download(URI.create(index.get("url").getAsString()),
+				assetsDir.resolve("indexes").resolve(id + ".json"), index.get("sha1").getAsString());
+	}
+
+	// One download per distinct object; many asset names share the same content
+	static List<Downloader.Download> assets(Path assetIndex, Path objectsDir) throws IOException {
+		JsonObject index;
+		try (Reader reader = Files.newBufferedReader(assetIndex)) {
+			index = new Gson().fromJson(reader, JsonObject.class);
+		}
+		Map<String, Downloader.Download> downloads = new LinkedHashMap<>();
+		for (Map.Entry<String, JsonElement> entry : index.getAsJsonObject("objects").entrySet()) {
+			JsonObject object = entry.getValue().getAsJsonObject();
+			String hash = object.get("hash").getAsString();
+			String prefix = hash.substring(0, 2);
+			Downloader.Download download = new Downloader.Download(URI.create(RESOURCES + prefix + "/" + hash),
+					objectsDir.resolve(prefix).resolve(hash), hash);
+			if (!downloads.containsKey(hash) && missing(download, object.get("size").getAsLong())) {
+				downloads.put(hash, download);
+			}
+		}
+		return new ArrayList<>(downloads.values());
+	}
+
+	private static void addArtifact(Map<String, Downloader.Download> downloads, JsonObject artifact, Path librariesDir) {
+		if (!artifact.has("url") || !artifact.has("path")) {
+			return;
+		}
+		String url = artifact.get("url").getAsString();
+		if (url.isEmpty()) {
+			// Bundled with the client rather than hosted anywhere
+			return;
+		}
+		Downloader.Download download = new Downloader.Download(URI.create(url),
+				librariesDir.resolve(artifact.get("path").getAsString()),
+				artifact.has("sha1") ? artifact.get("sha1").getAsString() : null);
+		if (missing(download, size(artifact))) {
+			downloads.putIfAbsent(url, download);
+		}
+	}
+
+	// Published size of a download entry, -1 when it has none
+	private static long size(JsonObject download) {
+		return download.has("size") ? download.get("size").getAsLong() : -1;
+	}
+
+	// Present with the published size counts as done; hashing thousands of assets on every install would not pay off
+	private static boolean missing(Downloader.Download download, long size) {
+		Path file = download.getDestination();
+		try {
+			return !Files.isRegularFile(file) || (size >= 0 && Files.size(file) != size);
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
+	// Mojang's rules: with none a library applies everywhere, otherwise the last matching rule decides
+	static boolean allowed(JsonObject library) {
+		if (!library.has("rules")) {
+			return true;
+		}
+		boolean allowed = false;
+		for (JsonElement element : library.getAsJsonArray("rules")) {
+			JsonObject rule = element.getAsJsonObject();
+			if (rule.has("os")) {
+				JsonObject os = rule.getAsJsonObject("os");
+				if (os.has("name") && !os.get("name").getAsString().equals(osName())) {
+					continue;
+				}
+				if (os.has("arch") && !os.get("arch").getAsString().equals(is64Bit() ? "x86_64" : "x86")) {
+					continue;
+				}
+			}
+			if (rule.has("features")) {
+				// Features describe launch options (demo mode, custom resolution) that an install never has
+				continue;
+			}
+			allowed = "allow".equals(rule.get("action").getAsString());
+		}
+		return allowed;
+	}
+
+	private static String osName() {
+		String name = System.getProperty("os.name").toLowerCase(Locale.ROOT);
+		if (name.contains("win")) {
+			return "windows";
+		}
+		if (name.contains("mac")) {
+			return "osx";
+		}
+		return "linux";
+	}
+
+	private static boolean is64Bit() {
+		return System.getProperty("os.arch").contains("64");
+	}
+
+}
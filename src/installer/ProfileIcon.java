@@ -0,0 +1,37 @@
+package installer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+/**
+ * The Morch icon shown for launcher profiles, as the data URI the launcher
+ * expects. The PNG ships as a resource next to this class and is only read
+ * and encoded the first time a profile is written.
+ */
+public final class ProfileIcon {
+
+	private ProfileIcon() {
+	}
+
+	public static String dataUri() {
+		return Holder.DATA_URI;
+	}
+
+	private static final class Holder {
+		static final String DATA_URI = load();
+
+		private static String load() {
+			try (InputStream in = ProfileIcon.class.getResourceAsStream("profile-icon.png")) {
+				if (in == null) {
+					throw new IllegalStateException("profile-icon.png is missing from the installer");
+				}
+				return ("data:image/png;base64," + Base64.getEncoder().encodeToString(in.readAllBytes())).intern();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+}
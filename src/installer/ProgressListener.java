@@ -0,0 +1,19 @@
+package installer;
+
+/**
+ * Receives status and progress updates from an install. Implementations must
+ * be thread-safe: status comes from the install thread and transfer snapshots
+ * from the progress sampler.
+ */
+public interface ProgressListener {
+
+	void status(String message);
+
+	// Called every updateIntervalMillis() while downloads run, and once more when they finish
+	void transfer(TransferProgress.Snapshot snapshot);
+
+	default long updateIntervalMillis() {
+		return 1000;
+	}
+
+}
@@ -0,0 +1,50 @@
+package installer;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples a {@link TransferProgress} at the listener's own rate and hands it
+ * the snapshot, so listeners see a steady, coalesced stream of updates no
+ * matter how many chunks the downloads deliver. Nothing is sent until the
+ * first transfer has been registered.
+ */
+public class ProgressReporter implements AutoCloseable {
+	private static final ScheduledExecutorService SAMPLER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "morch-progress");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final TransferProgress progress;
+	private final ProgressListener listener;
+	private final ScheduledFuture<?> task;
+
+	private ProgressReporter(TransferProgress progress, ProgressListener listener) {
+		this.progress = progress;
+		this.listener = listener;
+		long interval = Math.max(1, listener.updateIntervalMillis());
+		this.task = SAMPLER.scheduleAtFixedRate(this::report, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	public static ProgressReporter start(TransferProgress progress, ProgressListener listener) {
+		return new ProgressReporter(progress, listener);
+	}
+
+	// Stops sampling and delivers one final snapshot
+	@Override
+	public void close() {
+		task.cancel(false);
+		report();
+	}
+
+	private void report() {
+		TransferProgress.Snapshot snapshot = progress.sample();
+		if (snapshot.getTotalItems() > 0) {
+			listener.transfer(snapshot);
+		}
+	}
+
+}
@@ -0,0 +1,525 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Brings installed builds up to date without reinstalling them:
+ *
+ * <pre>
+ * java -jar installer.jar --reconcile &lt;.minecraft&gt; [--reconcile &lt;.minecraft&gt; ...] [--dry-run] [--latest]
+ *     [--summary summary.json]
+ * </pre>
+ *
+ * Every {@code versions/morch-*} build, or build a profile points at, whose
+ * client version installer.json still lists is brought up to date for that
+ * client version. Its jar is compared by size and SHA-1 with what the
+ * artifact store recorded for the install link, once a conditional GET has
+ * confirmed the link still serves that content (a hardlink into the store is
+ * taken as proof without hashing), and its version JSON with the rewrite of
+ * the Mojang JSON the manifest's SHA-1 names. Builds of client versions no
+ * longer listed are superseded: their profiles move to a kept build of the
+ * same Minecraft version, or to the first listed client version, which is
+ * installed if needed, and their directories are pruned. Only what differs is
+ * planned: jar downloads, JSON rewrites, profile updates, then removal of
+ * profiles and directories of superseded builds. A Minecraft version whose
+ * downloads or rewrites fail keeps its old builds. With --latest only the
+ * first listed client version is kept, so every other build is superseded.
+ * With --dry-run the plan is printed and nothing in the .minecraft
+ * directories is touched.
+ */
+public class Reconciler {
+	private static final String PREFIX = "morch-";
+
+	private final VersionIndex versionIndex;
+	private final ManifestResolver manifestResolver;
+	private final Downloader downloader;
+
+	public Reconciler() {
+		this(new VersionIndex(), new ManifestResolver(), new Downloader());
+	}
+
+	public Reconciler(VersionIndex versionIndex, ManifestResolver manifestResolver, Downloader downloader) {
+		this.versionIndex = versionIndex;
+		this.manifestResolver = manifestResolver;
+		this.downloader = downloader;
+	}
+
+	public enum Kind {
+		DOWNLOAD_JAR, WRITE_VERSION_JSON, PUT_PROFILE, REMOVE_PROFILE, PRUNE
+	}
+
+	// One change to one .minecraft directory; the transient fields are what apply needs
+	public static final class Action {
+		private final Kind kind;
+		private final String root;
+		private final String minecraftVersion;
+		private final String target;
+		private final String reason;
+		private String outcome;
+		private final transient Downloader.Download download;
+		private final transient byte[] content;
+		private final transient JsonObject profile;
+
+		Action(Kind kind, Path root, String minecraftVersion, String target, String reason,
+				Downloader.Download download, byte[] content, JsonObject profile) {
+			this.kind = kind;
+			this.root = root.toString();
+			this.minecraftVersion = minecraftVersion;
+			this.target = target;
+			this.reason = reason;
+			this.download = download;
+			this.content = content;
+			this.profile = profile;
+		}
+
+		public Kind getKind() {
+			return kind;
+		}
+
+		public String getTarget() {
+			return target;
+		}
+
+		public String getReason() {
+			return reason;
+		}
+
+		// Null until applied, then "done", "skipped" or the error
+		public String getOutcome() {
+			return outcome;
+		}
+
+		private String group() {
+			return root + "|" + minecraftVersion;
+		}
+	}
+
+	public static final class Plan {
+		private final List<Action> actions = new ArrayList<>();
+		// Builds and roots left alone, with the reason
+		private final List<String> skipped = new ArrayList<>();
+
+		public List<Action> getActions() {
+			return actions;
+		}
+
+		public List<String> getSkipped() {
+			return skipped;
+		}
+	}
+
+	public static int run(String[] args) {
+		List<Path> roots = new ArrayList<>();
+		boolean dryRun = false;
+		boolean latest = false;
+		String summaryFile = null;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--reconcile":
+					roots.add(Paths.get(CommandLine.value(args, ++i)));
+					break;
+				case "--dry-run":
+					dryRun = true;
+					break;
+				case "--latest":
+					latest = true;
+					break;
+				case "--summary":
+					summaryFile = CommandLine.value(args, ++i);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option: " + args[i]);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			roots.clear();
+		}
+		if (roots.isEmpty()) {
+			System.err.println("Usage: --reconcile <.minecraft> [--reconcile <.minecraft> ...] [--dry-run] [--latest] [--summary <file>]");
+			return 2;
+		}
+
+		Reconciler reconciler = new Reconciler();
+		Plan plan;
+		try {
+			plan = reconciler.plan(roots, latest);
+		} catch (IOException e) {
+			System.err.println("Unable to plan the reconcile: " + e);
+			return 1;
+		}
+		if (!dryRun) {
+			reconciler.apply(plan);
+		}
+
+		long failed = plan.actions.stream()
+				.filter(action -> action.outcome != null && !action.outcome.equals("done")).count();
+		JsonObject summary = new JsonObject();
+		summary.addProperty("dryRun", dryRun);
+		summary.addProperty("latest", latest);
+		summary.addProperty("actions", plan.actions.size());
+		summary.addProperty("failed", failed);
+		summary.add("plan", new Gson().toJsonTree(plan));
+		try {
+			CommandLine.writeSummary(summary, summaryFile);
+		} catch (IOException e) {
+			System.err.println("Unable to write summary: " + e);
+			return 1;
+		}
+		return failed == 0 ? 0 : 1;
+	}
+
+	/**
+	 * Works out what each root needs. Reads installer.json and the manifest
+	 * through their caches, and may fetch a version JSON into the artifact
+	 * store, but writes nothing into the roots.
+	 */
+	public Plan plan(List<Path> roots) throws IOException {
+		return plan(roots, false);
+	}
+
+	/**
+	 * Like {@link #plan(List)}, but with latest every build moves to the first
+	 * client version installer.json lists and all others are pruned.
+	 */
+	public Plan plan(List<Path> roots, boolean latest) throws IOException {
+		Plan plan = new Plan();
+		Map<String, VersionIndex.Entry> index = versionIndex.entries();
+		Map<String, byte[]> versionJsons = new LinkedHashMap<>();
+		for (Path root : roots) {
+			try {
+				planRoot(plan, root, index, versionJsons, latest);
+			} catch (IOException e) {
+				plan.skipped.add(root + ": " + e);
+			}
+		}
+		return plan;
+	}
+
+	private void planRoot(Plan plan, Path root, Map<String, VersionIndex.Entry> index,
+			Map<String, byte[]> versionJsons, boolean latest) throws IOException {
+		// Installed builds per Minecraft version, from the directories and from what profiles point at
+		Map<String, Set<String>> builds = new TreeMap<>();
+		Path versionsDir = root.resolve("versions");
+		if (Files.isDirectory(versionsDir)) {
+			try (DirectoryStream<Path> directories = Files.newDirectoryStream(versionsDir, PREFIX + "*")) {
+				for (Path directory : directories) {
+					String name = directory.getFileName().toString();
+					String minecraftVersion = minecraftVersion(name, index);
+					if (minecraftVersion == null) {
+						plan.skipped.add(directory + ": not in installer.json");
+					} else if (Files.isDirectory(directory)) {
+						builds.computeIfAbsent(minecraftVersion, key -> new LinkedHashSet<>()).add(name);
+					}
+				}
+			}
+		}
+		Path launcherProfiles = root.resolve("launcher_profiles.json");
+		Map<String, JsonObject> profiles = LauncherProfilesPatcher.readProfiles(launcherProfiles);
+		Map<String, Set<String>> profiled = new TreeMap<>();
+		for (Map.Entry<String, JsonObject> profile : profiles.entrySet()) {
+			String lastVersionId = string(profile.getValue(), "lastVersionId");
+			String minecraftVersion = lastVersionId != null ? minecraftVersion(lastVersionId, index) : null;
+			if (minecraftVersion != null) {
+				profiled.computeIfAbsent(minecraftVersion, key -> new LinkedHashSet<>()).add(profile.getKey());
+				builds.computeIfAbsent(minecraftVersion, key -> new LinkedHashSet<>()).add(lastVersionId);
+			}
+		}
+
+		for (Map.Entry<String, Set<String>> entry : builds.entrySet()) {
+			String minecraftVersion = entry.getKey();
+			VersionIndex.Entry indexEntry = index.get(minecraftVersion);
+			if (indexEntry.getVersions().isEmpty()) {
+				plan.skipped.add(root + " " + minecraftVersion + ": no client version listed");
+				continue;
+			}
+			try {
+				planVersion(plan, root, minecraftVersion, indexEntry, entry.getValue(),
+						profiled.getOrDefault(minecraftVersion, Set.of()), profiles, versionJsons, latest);
+			} catch (IOException e) {
+				plan.skipped.add(root + " " + minecraftVersion + ": " + e);
+			}
+		}
+	}
+
+	private void planVersion(Plan plan, Path root, String minecraftVersion, VersionIndex.Entry indexEntry,
+			Set<String> installed, Set<String> profileIds, Map<String, JsonObject> profiles,
+			Map<String, byte[]> versionJsons, boolean latest) throws IOException {
+		// Builds of a client version installer.json still lists are kept; with --latest only the first one counts
+		List<String> listed = latest ? indexEntry.getVersions().subList(0, 1) : indexEntry.getVersions();
+		Set<String> kept = new LinkedHashSet<>();
+		Set<String> stale = new LinkedHashSet<>();
+		for (String build : installed) {
+			if (listed.contains(clientVersion(build, minecraftVersion))) {
+				kept.add(build);
+			} else {
+				stale.add(build);
+			}
+		}
+		// Superseded builds hand their profiles to a kept build in installer.json order, or to a fresh first one
+		String replacement = null;
+		if (!stale.isEmpty()) {
+			for (String clientVersion : listed) {
+				String build = PREFIX + clientVersion + "-" + minecraftVersion;
+				if (kept.contains(build)) {
+					replacement = build;
+					break;
+				}
+			}
+			if (replacement == null) {
+				replacement = PREFIX + listed.get(0) + "-" + minecraftVersion;
+				kept.add(replacement);
+			}
+		}
+
+		for (String build : kept) {
+			planBuild(plan, root, minecraftVersion, indexEntry, build, versionJsons);
+		}
+		if (replacement == null) {
+			return;
+		}
+
+		// Profiles only follow the build where the instance had one; javaDir carries over from the old profile
+		String javaDir = "";
+		boolean moved = false;
+		for (String id : profileIds) {
+			JsonObject profile = profiles.get(id);
+			String lastVersionId = string(profile, "lastVersionId");
+			if (!stale.contains(lastVersionId)) {
+				continue;
+			}
+			moved = true;
+			String dir = string(profile, "javaDir");
+			if (dir != null && javaDir.isEmpty()) {
+				javaDir = dir;
+			}
+			if (id.startsWith(PREFIX) && !id.equals(replacement)) {
+				// Our own profile for a superseded build; the replacement gets its own below
+				plan.actions.add(new Action(Kind.REMOVE_PROFILE, root, minecraftVersion, id,
+						"points at " + lastVersionId, null, null, null));
+			} else {
+				JsonObject retargeted = profile.deepCopy();
+				retargeted.addProperty("lastVersionId", replacement);
+				plan.actions.add(new Action(Kind.PUT_PROFILE, root, minecraftVersion, id,
+						"points at " + lastVersionId, null, null, retargeted));
+			}
+		}
+		if (moved && !profiles.containsKey(replacement)) {
+			plan.actions.add(new Action(Kind.PUT_PROFILE, root, minecraftVersion, replacement, "missing", null, null,
+					Client.launcherProfile(replacement, javaDir, Client.getCurrentDateTime())));
+		}
+
+		for (String build : stale) {
+			Path directory = root.resolve("versions").resolve(build);
+			if (Files.isDirectory(directory)) {
+				plan.actions.add(new Action(Kind.PRUNE, root, minecraftVersion, directory.toString(),
+						(latest ? "superseded by " : "no longer listed, superseded by ") + replacement, null, null,
+						null));
+			}
+		}
+	}
+
+	// Jar downloads and version JSON rewrite that bring one build up to date with its own client version
+	private void planBuild(Plan plan, Path root, String minecraftVersion, VersionIndex.Entry indexEntry, String build,
+			Map<String, byte[]> versionJsons) throws IOException {
+		String clientVersion = clientVersion(build, minecraftVersion);
+		Path versionDir = root.resolve("versions").resolve(build);
+
+		for (Downloader.Download download : Client.planDownloads(indexEntry.getInstLinks(), clientVersion,
+				root.toString(), minecraftVersion)) {
+			String reason = jarDifference(download);
+			if (reason != null) {
+				plan.actions.add(new Action(Kind.DOWNLOAD_JAR, root, minecraftVersion,
+						download.getDestination().toString(), reason, download, null, null));
+			}
+		}
+
+		byte[] versionJson = versionJsons.get(build);
+		if (versionJson == null) {
+			versionJson = expectedVersionJson(minecraftVersion, build);
+			versionJsons.put(build, versionJson);
+		}
+		Path jsonFile = versionDir.resolve(build + ".json");
+		if (!Files.isRegularFile(jsonFile)) {
+			plan.actions.add(new Action(Kind.WRITE_VERSION_JSON, root, minecraftVersion, jsonFile.toString(),
+					"missing", null, versionJson, null));
+		} else if (Files.size(jsonFile) != versionJson.length
+				|| !Arrays.equals(Files.readAllBytes(jsonFile), versionJson)) {
+			plan.actions.add(new Action(Kind.WRITE_VERSION_JSON, root, minecraftVersion, jsonFile.toString(),
+					"differs from the rewritten Mojang version JSON", null, versionJson, null));
+		}
+	}
+
+	// Why the jar needs downloading, or null if it is what the install link serves now
+	private String jarDifference(Downloader.Download download) throws IOException {
+		Path destination = download.getDestination();
+		if (!Files.isRegularFile(destination)) {
+			return "missing";
+		}
+		ArtifactStore store = downloader.getStore();
+		if (store.sha1For(download.getUri()) == null) {
+			return "no recorded hash for " + download.getUri();
+		}
+		// The install link may now serve a new build under the same URL
+		String sha1;
+		try {
+			sha1 = downloader.currentSha1(download.getUri(), true);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while revalidating " + download.getUri());
+		}
+		if (sha1 == null) {
+			return "changed at " + download.getUri() + " or could not be revalidated";
+		}
+		if (store.contains(sha1)) {
+			Path object = store.object(sha1);
+			if (Files.isSameFile(object, destination)) {
+				return null;
+			}
+			if (Files.size(object) != Files.size(destination)) {
+				return "size differs from " + sha1;
+			}
+		}
+		return sha1.equalsIgnoreCase(Downloader.sha1(destination)) ? null : "hash differs from " + sha1;
+	}
+
+	private byte[] expectedVersionJson(String minecraftVersion, String morchVersion) throws IOException {
+		ManifestResolver.Entry entry = manifestResolver.resolve(minecraftVersion);
+		if (entry == null) {
+			throw new IOException("Minecraft " + minecraftVersion + " is not in the version manifest");
+		}
+		// Unfinished, so never written; only the store lookup or download matters here
+		InstallReport report = new InstallReport(morchVersion, null);
+		Path mojangJson = downloader.fetchObject(URI.create(entry.getUrl()), entry.getSha1(), report);
+		try (Reader reader = Files.newBufferedReader(mojangJson)) {
+			// Same bytes Client writes on install
+			return Client.rewriteVersionJson(reader, morchVersion).getBytes();
+		}
+	}
+
+	/**
+	 * Carries out the plan: all jar downloads at once, then the JSON
+	 * rewrites and profile updates, then removals and prunes for the
+	 * Minecraft versions whose current build is fully in place.
+	 */
+	public void apply(Plan plan) {
+		Set<String> failedGroups = new HashSet<>();
+		List<Action> downloads = new ArrayList<>();
+		for (Action action : plan.actions) {
+			if (action.kind == Kind.DOWNLOAD_JAR) {
+				downloads.add(action);
+			}
+		}
+		if (!downloads.isEmpty()) {
+			Set<Downloader.Download> completed = ConcurrentHashMap.newKeySet();
+			List<Downloader.Download> batch = new ArrayList<>();
+			for (Action action : downloads) {
+				batch.add(action.download);
+			}
+			IOException failure = null;
+			try {
+				downloader.downloadAll(batch, null, null, null, completed::add);
+			} catch (IOException e) {
+				failure = e;
+			}
+			for (Action action : downloads) {
+				if (completed.contains(action.download)) {
+					action.outcome = "done";
+				} else {
+					action.outcome = failure != null ? failure.toString() : "failed";
+					failedGroups.add(action.group());
+				}
+			}
+		}
+
+		for (Kind kind : List.of(Kind.WRITE_VERSION_JSON, Kind.PUT_PROFILE, Kind.REMOVE_PROFILE, Kind.PRUNE)) {
+			for (Action action : plan.actions) {
+				if (action.kind != kind) {
+					continue;
+				}
+				boolean removal = kind == Kind.REMOVE_PROFILE || kind == Kind.PRUNE;
+				if (removal && failedGroups.contains(action.group())) {
+					action.outcome = "skipped, the current build is incomplete";
+					continue;
+				}
+				try {
+					apply(action);
+					action.outcome = "done";
+				} catch (IOException | UncheckedIOException e) {
+					action.outcome = e.toString();
+					failedGroups.add(action.group());
+				}
+				System.out.println(kind + " " + action.target + ": " + action.outcome);
+			}
+		}
+	}
+
+	private void apply(Action action) throws IOException {
+		Path launcherProfiles = Paths.get(action.root, "launcher_profiles.json");
+		switch (action.kind) {
+		case WRITE_VERSION_JSON:
+			Cache.writeAtomically(Paths.get(action.target), action.content);
+			break;
+		case PUT_PROFILE:
+			LauncherProfilesPatcher.putProfile(launcherProfiles, action.target, action.profile);
+			break;
+		case REMOVE_PROFILE:
+			LauncherProfilesPatcher.removeProfile(launcherProfiles, action.target);
+			break;
+		case PRUNE:
+			CommandLine.delete(Paths.get(action.target));
+			break;
+		default:
+			throw new IllegalStateException("Downloads are applied together: " + action.kind);
+		}
+	}
+
+	// The client version of a morch-<client>-<minecraft> name whose Minecraft version is known
+	private static String clientVersion(String name, String minecraftVersion) {
+		return name.substring(PREFIX.length(), name.length() - minecraftVersion.length() - 1);
+	}
+
+	// The Minecraft version of a morch-<client>-<minecraft> name, matching the longest listed version
+	static String minecraftVersion(String name, Map<String, VersionIndex.Entry> index) {
+		if (!name.startsWith(PREFIX)) {
+			return null;
+		}
+		String best = null;
+		for (String minecraftVersion : index.keySet()) {
+			if (name.endsWith("-" + minecraftVersion) && name.length() > PREFIX.length() + minecraftVersion.length() + 1
+					&& (best == null || minecraftVersion.length() > best.length())) {
+				best = minecraftVersion;
+			}
+		}
+		return best;
+	}
+
+	private static String string(JsonObject object, String name) {
+		JsonElement element = object != null ? object.get(name) : null;
+		return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+	}
+
+}
@@ -0,0 +1,282 @@
+package installer;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Request layer for small metadata documents such as installer.json and
+ * Mojang's manifest. A request goes to the first candidate source; if no
+ * answer has arrived after that endpoint's usual p95 latency, a duplicate is
+ * sent to the next candidate (or over a fresh connection to the same one),
+ * and whichever answers first wins. The caller's reader consumes the body
+ * inside the retry loop, so a body cut off after the headers fails that
+ * attempt like any other error. Failures move on to the next candidate,
+ * a source that cannot be connected to at all is dropped, and a source is
+ * only retried after a jittered exponential backoff. Read
+ * timeouts follow each endpoint's observed latency via {@link LatencyTracker}.
+ */
+public final class Requests {
+	private static final int ATTEMPTS = Integer.getInteger("morch.request.attempts", 4);
+	private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+	private static final long READ_TIMEOUT_MILLIS = 10000;
+	private static final long BACKOFF_BASE_MILLIS = 250;
+	private static final long BACKOFF_CAP_MILLIS = 8000;
+	// The original request plus one hedge
+	private static final int MAX_IN_FLIGHT = 2;
+
+	private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "morch-request");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private Requests() {
+	}
+
+	// Reads what it needs from an answered request; an IOException makes the attempt count as failed
+	public interface BodyReader<T> {
+		T read(Response response) throws IOException;
+	}
+
+	// An answered request: 200, or 304 when the caller sent validators. Closing it releases the connection
+	public static final class Response implements Closeable {
+		private final URI source;
+		private final int status;
+		private final HttpURLConnection connection;
+		private final InputStream body;
+
+		Response(URI source, int status, HttpURLConnection connection, InputStream body) {
+			this.source = source;
+			this.status = status;
+			this.connection = connection;
+			this.body = body;
+		}
+
+		public URI getSource() {
+			return source;
+		}
+
+		public int getStatus() {
+			return status;
+		}
+
+		public String getHeader(String name) {
+			return connection != null ? connection.getHeaderField(name) : null;
+		}
+
+		public InputStream getBody() {
+			return body;
+		}
+
+		@Override
+		public void close() {
+			try {
+				if (body != null) {
+					body.close();
+				}
+			} catch (IOException e) {
+				// Nothing left to read anyway
+			}
+			if (connection != null) {
+				connection.disconnect();
+			}
+		}
+	}
+
+	/**
+	 * GETs the first candidate that answers, hedging slow requests, and
+	 * returns what the reader made of the answer. The headers function gives
+	 * the extra request headers for each candidate, e.g. validators for the
+	 * source they came from. Every response is closed before this returns.
+	 */
+	public static <T> T get(List<URI> candidates, Function<URI, Map<String, String>> headers, BodyReader<T> reader)
+			throws IOException {
+		if (candidates.isEmpty()) {
+			throw new IOException("No source to request");
+		}
+
+		// Sources we cannot connect to at all are dropped and give their attempt back, while others remain
+		List<URI> sources = new ArrayList<>(candidates);
+		int attempts = Math.max(ATTEMPTS, sources.size());
+		BlockingQueue<CompletableFuture<Response>> finished = new LinkedBlockingQueue<>();
+		List<CompletableFuture<Response>> started = new ArrayList<>();
+		Map<CompletableFuture<Response>, URI> targets = new HashMap<>();
+		IOException failure = null;
+		int sent = 0;
+		int position = 0;
+		int inFlight = 0;
+		URI newest = null;
+		try {
+			while (true) {
+				if (inFlight == 0) {
+					if (sent >= attempts) {
+						break;
+					}
+					// Every source has failed once; give them a moment before asking again
+					if (sent >= sources.size()) {
+						backoff(sent - sources.size() + 1);
+					}
+					newest = sources.get(position++ % sources.size());
+					targets.put(start(newest, headers, started, finished), newest);
+					sent++;
+					inFlight++;
+				}
+
+				CompletableFuture<Response> next;
+				if (inFlight < MAX_IN_FLIGHT && sent < attempts && !"file".equals(newest.getScheme())) {
+					next = finished.poll(LatencyTracker.get().hedgeDelayMillis(newest), TimeUnit.MILLISECONDS);
+					if (next == null) {
+						URI hedge = sources.get(position++ % sources.size());
+						System.out.println("No answer from " + newest + " yet, also asking " + hedge);
+						newest = hedge;
+						targets.put(start(hedge, headers, started, finished), hedge);
+						sent++;
+						inFlight++;
+						continue;
+					}
+				} else {
+					next = finished.take();
+				}
+
+				inFlight--;
+				IOException cause;
+				try (Response response = next.join()) {
+					return reader.read(response);
+				} catch (CompletionException e) {
+					cause = e.getCause() instanceof IOException ? (IOException) e.getCause()
+							: new IOException(e.getCause());
+				} catch (IOException e) {
+					// Headers arrived but the body did not; a hedge may still be on its way
+					cause = e;
+				}
+				if (failure == null) {
+					failure = cause;
+				} else {
+					failure.addSuppressed(cause);
+				}
+				if (isUnreachable(cause) && sources.size() > 1 && sources.remove(targets.get(next))) {
+					sent--;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for " + candidates.get(0), e);
+		} finally {
+			// Losing requests are closed whenever they finish; closing a read one again does nothing
+			for (CompletableFuture<Response> request : started) {
+				request.thenAccept(Response::close);
+			}
+		}
+		throw failure;
+	}
+
+	// No connection at all, e.g. an unknown host or a refused connection; asking again soon will not help
+	public static boolean isUnreachable(IOException e) {
+		return e instanceof ConnectException || e instanceof UnknownHostException;
+	}
+
+	/**
+	 * Sleeps for a random time up to an exponentially growing limit ("full
+	 * jitter"), so clients that failed together do not retry together.
+	 */
+	public static void backoff(int retry) throws InterruptedException {
+		long limit = Math.min(BACKOFF_CAP_MILLIS, BACKOFF_BASE_MILLIS << Math.min(16, Math.max(0, retry - 1)));
+		Thread.sleep(ThreadLocalRandom.current().nextLong(limit + 1));
+	}
+
+	private static CompletableFuture<Response> start(URI candidate, Function<URI, Map<String, String>> headers,
+			List<CompletableFuture<Response>> started, BlockingQueue<CompletableFuture<Response>> finished) {
+		CompletableFuture<Response> request = CompletableFuture.supplyAsync(() -> {
+			try {
+				return open(candidate, headers.apply(candidate));
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		}, EXECUTOR);
+		started.add(request);
+		request.whenComplete((response, error) -> finished.add(request));
+		return request;
+	}
+
+	private static Response open(URI uri, Map<String, String> headers) throws IOException {
+		if ("file".equals(uri.getScheme())) {
+			return new Response(uri, HttpURLConnection.HTTP_OK, null, Files.newInputStream(Paths.get(uri)));
+		}
+
+		long start = System.nanoTime();
+		HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+		connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+		connection.setReadTimeout((int) LatencyTracker.get().timeoutMillis(uri, READ_TIMEOUT_MILLIS));
+		headers.forEach(connection::setRequestProperty);
+		int status = connection.getResponseCode();
+		if (status == HttpURLConnection.HTTP_NOT_MODIFIED && !headers.isEmpty()) {
+			LatencyTracker.get().record(uri, System.nanoTime() - start);
+			return new Response(uri, status, connection, null);
+		}
+		if (status != HttpURLConnection.HTTP_OK) {
+			connection.disconnect();
+			throw new IOException("HTTP " + status + " for " + uri);
+		}
+		LatencyTracker.get().record(uri, System.nanoTime() - start);
+		return new Response(uri, status, connection,
+				new LengthCheckedStream(uri, connection.getInputStream(), connection.getContentLengthLong()));
+	}
+
+	// HttpURLConnection ends a body that was cut off short as if it were complete; this makes it an error
+	private static final class LengthCheckedStream extends FilterInputStream {
+		private final URI uri;
+		private final long expected;
+		private long read;
+
+		LengthCheckedStream(URI uri, InputStream in, long expected) {
+			super(in);
+			this.uri = uri;
+			this.expected = expected;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int value = super.read();
+			count(value < 0 ? -1 : 1);
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			int count = super.read(buffer, offset, length);
+			count(count);
+			return count;
+		}
+
+		private void count(int count) throws IOException {
+			if (count >= 0) {
+				read += count;
+			} else if (expected >= 0 && read < expected) {
+				throw new EOFException("Body of " + uri + " ended after " + read + " of " + expected + " bytes");
+			}
+		}
+	}
+
+}
@@ -0,0 +1,179 @@
+package installer;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Where metadata and artifacts come from. Every upstream URL can be served by
+ * an ordered list of mirrors that copy the upstream layout as
+ * {@code <mirror>/<host>/<path>}, e.g.
+ * {@code http://mirror.lan/raw.githubusercontent.com/MorchClient/resources/json/installer.json}.
+ * <p>
+ * Mirrors come from the comma separated {@code morch.mirrors} property or,
+ * failing that, one per line in {@code mirrors.txt} in the installer cache. A
+ * mirror is either a local directory or an HTTP base URL. Local directories
+ * are tried first, HTTP mirrors next ordered by measured latency, and the
+ * upstream URL last. In offline mode ({@code morch.offline=true} or an
+ * {@code offline} line in mirrors.txt) only local directories are used, so an
+ * install runs entirely from a pre-seeded bundle.
+ */
+public final class Sources {
+	public static final URI INSTALLER_JSON = URI.create(System.getProperty("morch.source.installerJson",
+			"https://raw.githubusercontent.com/MorchClient/resources/json/installer.json"));
+	// The v2 manifest is the one that publishes a sha1 for every version JSON
+	public static final URI VERSION_MANIFEST = URI.create(System.getProperty("morch.source.versionManifest",
+			"https://launchermeta.mojang.com/mc/game/version_manifest_v2.json"));
+	public static final URI AVATAR = URI.create(System.getProperty("morch.source.avatar",
+			"https://avatars.githubusercontent.com/u/159921759?s=200&v=4"));
+
+	private static final long PROBE_TTL_MILLIS = 5 * 60 * 1000L;
+	private static final int PROBE_TIMEOUT_MILLIS = 1000;
+	private static final Sources INSTANCE = load();
+
+	private final List<Path> localMirrors;
+	private final List<URI> httpMirrors;
+	private final boolean offline;
+	private final Map<URI, long[]> latencies = new ConcurrentHashMap<>();
+
+	Sources(List<Path> localMirrors, List<URI> httpMirrors, boolean offline) {
+		this.localMirrors = localMirrors;
+		this.httpMirrors = httpMirrors;
+		this.offline = offline;
+	}
+
+	public static Sources get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the URIs to try for an upstream resource, best first. Local
+	 * mirrors are only listed if they actually hold the file.
+	 */
+	public List<URI> candidates(URI upstream) {
+		if ("file".equals(upstream.getScheme())) {
+			return List.of(upstream);
+		}
+
+		String relative = relativePath(upstream);
+		List<URI> candidates = new ArrayList<>();
+		for (Path mirror : localMirrors) {
+			Path file = mirror.resolve(relative);
+			if (Files.isRegularFile(file)) {
+				candidates.add(file.toUri());
+			}
+		}
+		if (!offline) {
+			List<URI> reachable = new ArrayList<>();
+			for (URI mirror : httpMirrors) {
+				if (latency(mirror) != Long.MAX_VALUE) {
+					reachable.add(mirror);
+				}
+			}
+			reachable.sort(Comparator.comparingLong(this::latency));
+			for (URI mirror : reachable) {
+				candidates.add(URI.create(mirror.toString() + relative));
+			}
+			candidates.add(upstream);
+		}
+		return candidates;
+	}
+
+	// Like candidates, but fails naming the resource when there is nothing to try, which only happens offline
+	public List<URI> require(URI upstream) throws IOException {
+		List<URI> candidates = candidates(upstream);
+		if (candidates.isEmpty()) {
+			throw new IOException(relativePath(upstream) + " is not available from any offline mirror");
+		}
+		return candidates;
+	}
+
+	/**
+	 * Reads the first candidate that answers, hedging slow ones through
+	 * {@link Requests}. A reader that fails on a broken body is retried
+	 * against the next candidate.
+	 */
+	public <T> T read(URI upstream, Requests.BodyReader<T> reader) throws IOException {
+		return Requests.get(require(upstream), candidate -> Map.of(), reader);
+	}
+
+	// "host/path" for an upstream URI, query strings are dropped
+	static String relativePath(URI upstream) {
+		String path = upstream.getRawPath() != null ? upstream.getRawPath() : "";
+		return upstream.getHost() + (path.startsWith("/") ? path : "/" + path);
+	}
+
+	// Round trip of a HEAD request to the mirror root, cached for a few minutes
+	private long latency(URI mirror) {
+		long now = System.currentTimeMillis();
+		long[] measured = latencies.get(mirror);
+		if (measured != null && now - measured[1] < PROBE_TTL_MILLIS) {
+			return measured[0];
+		}
+
+		long latency;
+		long start = System.nanoTime();
+		try {
+			HttpURLConnection connection = (HttpURLConnection) mirror.toURL().openConnection();
+			connection.setRequestMethod("HEAD");
+			connection.setConnectTimeout(PROBE_TIMEOUT_MILLIS);
+			connection.setReadTimeout(PROBE_TIMEOUT_MILLIS);
+			connection.getResponseCode();
+			connection.disconnect();
+			latency = System.nanoTime() - start;
+		} catch (IOException e) {
+			System.out.println("Mirror " + mirror + " is unreachable: " + e);
+			latency = Long.MAX_VALUE;
+		}
+		latencies.put(mirror, new long[] { latency, now });
+		return latency;
+	}
+
+	private static Sources load() {
+		List<String> entries = new ArrayList<>();
+		String property = System.getProperty("morch.mirrors");
+		if (property != null) {
+			entries.addAll(Arrays.asList(property.split(",")));
+		} else {
+			Path config = Cache.resolve("mirrors.txt");
+			if (Files.isRegularFile(config)) {
+				try {
+					entries.addAll(Files.readAllLines(config, StandardCharsets.UTF_8));
+				} catch (IOException e) {
+					System.out.println("Ignoring unreadable mirror list: " + e);
+				}
+			}
+		}
+
+		boolean offline = Boolean.getBoolean("morch.offline");
+		List<Path> localMirrors = new ArrayList<>();
+		List<URI> httpMirrors = new ArrayList<>();
+		for (String entry : entries) {
+			String mirror = entry.trim();
+			if (mirror.isEmpty() || mirror.startsWith("#")) {
+				continue;
+			}
+			if (mirror.equals("offline")) {
+				offline = true;
+			} else if (mirror.startsWith("http://") || mirror.startsWith("https://")) {
+				httpMirrors.add(URI.create(mirror.endsWith("/") ? mirror : mirror + "/"));
+			} else if (mirror.startsWith("file:")) {
+				localMirrors.add(Paths.get(URI.create(mirror)));
+			} else {
+				localMirrors.add(Paths.get(mirror));
+			}
+		}
+		return new Sources(localMirrors, httpMirrors, offline);
+	}
+
+}
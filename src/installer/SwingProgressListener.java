@@ -0,0 +1,38 @@
+package installer;
+
+import javax.swing.SwingUtilities;
+
+// Forwards install updates to the GUI's status label and progress bar on the EDT
+public class SwingProgressListener implements ProgressListener {
+	// Plenty for a smooth bar without flooding the EDT
+	private static final long FRAME_MILLIS = 1000 / 30;
+	private static final int BAR_MAXIMUM = 1000;
+
+	private final GUI gui;
+
+	public SwingProgressListener(GUI gui) {
+		this.gui = gui;
+	}
+
+	@Override
+	public void status(String message) {
+		SwingUtilities.invokeLater(() -> gui.statusLabel.setText(message));
+	}
+
+	@Override
+	public void transfer(TransferProgress.Snapshot snapshot) {
+		SwingUtilities.invokeLater(() -> {
+			double fraction = snapshot.getFraction();
+			gui.progressBar.setIndeterminate(fraction < 0);
+			gui.progressBar.setMaximum(BAR_MAXIMUM);
+			gui.progressBar.setValue(fraction < 0 ? 0 : (int) Math.round(fraction * BAR_MAXIMUM));
+			gui.progressBar.setString(snapshot.toString());
+		});
+	}
+
+	@Override
+	public long updateIntervalMillis() {
+		return FRAME_MILLIS;
+	}
+
+}
@@ -0,0 +1,46 @@
+package installer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket shared by every transfer that should stay under one bandwidth
+ * cap. Bytes are paid for after they are read, so a reader that runs ahead
+ * sleeps off its debt before it reads again. The bucket holds at most one
+ * second worth of tokens, which is the largest burst it allows.
+ */
+public class Throttle {
+	private final double bytesPerNano;
+	private final double capacity;
+	private double tokens;
+	private long lastRefill = System.nanoTime();
+
+	public Throttle(long bytesPerSecond) {
+		this.bytesPerNano = bytesPerSecond / 1e9;
+		this.capacity = bytesPerSecond;
+		this.tokens = capacity;
+	}
+
+	// Null for a cap of zero or less, meaning unlimited
+	public static Throttle of(long bytesPerSecond) {
+		return bytesPerSecond > 0 ? new Throttle(bytesPerSecond) : null;
+	}
+
+	public void consume(long bytes) {
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			tokens = Math.min(capacity, tokens + (now - lastRefill) * bytesPerNano);
+			lastRefill = now;
+			tokens -= bytes;
+			waitNanos = tokens < 0 ? (long) (-tokens / bytesPerNano) : 0;
+		}
+		if (waitNanos > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
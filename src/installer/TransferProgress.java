@@ -0,0 +1,164 @@
+package installer;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Byte counts for all transfers of one install. Each download owns an
+ * {@link Item} that reports absolute values, so a retried or resumed transfer
+ * is never counted twice. Throughput is an exponential moving average updated
+ * whenever a snapshot is sampled.
+ */
+public class TransferProgress {
+	private static final double WINDOW_SECONDS = 5.0;
+
+	private final AtomicLong expectedBytes = new AtomicLong();
+	private final AtomicLong transferredBytes = new AtomicLong();
+	private final AtomicInteger unknownItems = new AtomicInteger();
+	private final AtomicInteger totalItems = new AtomicInteger();
+	private final AtomicInteger completedItems = new AtomicInteger();
+
+	private long lastSampleNanos = System.nanoTime();
+	private long lastSampleBytes;
+	private double bytesPerSecond;
+
+	public Item newItem() {
+		totalItems.incrementAndGet();
+		unknownItems.incrementAndGet();
+		return new Item();
+	}
+
+	public class Item {
+		private long expected = -1;
+		private long transferred;
+		private boolean completed;
+
+		// Total size of this transfer, once the response headers tell us
+		public synchronized void setExpected(long bytes) {
+			if (bytes < 0) {
+				return;
+			}
+			if (expected < 0) {
+				unknownItems.decrementAndGet();
+				expectedBytes.addAndGet(bytes);
+			} else {
+				expectedBytes.addAndGet(bytes - expected);
+			}
+			expected = bytes;
+		}
+
+		// Bytes of this transfer already on disk, including any resumed prefix
+		public synchronized void setTransferred(long bytes) {
+			transferredBytes.addAndGet(bytes - transferred);
+			transferred = bytes;
+		}
+
+		public synchronized void add(long bytes) {
+			transferred += bytes;
+			transferredBytes.addAndGet(bytes);
+		}
+
+		public synchronized void complete() {
+			if (!completed) {
+				completed = true;
+				setExpected(transferred);
+				completedItems.incrementAndGet();
+			}
+		}
+	}
+
+	public synchronized Snapshot sample() {
+		long now = System.nanoTime();
+		long bytes = transferredBytes.get();
+		double seconds = (now - lastSampleNanos) / 1e9;
+		if (seconds > 0) {
+			double rate = Math.max(0, bytes - lastSampleBytes) / seconds;
+			double alpha = 1 - Math.exp(-seconds / WINDOW_SECONDS);
+			bytesPerSecond = bytesPerSecond == 0 ? rate : bytesPerSecond + alpha * (rate - bytesPerSecond);
+			lastSampleNanos = now;
+			lastSampleBytes = bytes;
+		}
+
+		long total = unknownItems.get() > 0 ? -1 : expectedBytes.get();
+		long eta = total >= 0 && bytesPerSecond > 0 ? (long) Math.ceil((total - bytes) / bytesPerSecond) : -1;
+		return new Snapshot(bytes, total, bytesPerSecond, eta, completedItems.get(), totalItems.get());
+	}
+
+	public static final class Snapshot {
+		private final long transferredBytes;
+		private final long totalBytes;
+		private final double bytesPerSecond;
+		private final long etaSeconds;
+		private final int completedItems;
+		private final int totalItems;
+
+		Snapshot(long transferredBytes, long totalBytes, double bytesPerSecond, long etaSeconds, int completedItems,
+				int totalItems) {
+			this.transferredBytes = transferredBytes;
+			this.totalBytes = totalBytes;
+			this.bytesPerSecond = bytesPerSecond;
+			this.etaSeconds = etaSeconds;
+			this.completedItems = completedItems;
+			this.totalItems = totalItems;
+		}
+
+		public long getTransferredBytes() {
+			return transferredBytes;
+		}
+
+		// -1 while any transfer has not reported its size yet
+		public long getTotalBytes() {
+			return totalBytes;
+		}
+
+		public double getBytesPerSecond() {
+			return bytesPerSecond;
+		}
+
+		// -1 when unknown
+		public long getEtaSeconds() {
+			return etaSeconds;
+		}
+
+		public int getCompletedItems() {
+			return completedItems;
+		}
+
+		public int getTotalItems() {
+			return totalItems;
+		}
+
+		// Fraction done in [0, 1], or -1 when the total is not known yet
+		public double getFraction() {
+			if (totalBytes < 0) {
+				return -1;
+			}
+			return totalBytes == 0 ? 1 : Math.min(1.0, (double) transferredBytes / totalBytes);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder text = new StringBuilder(formatBytes(transferredBytes));
+			if (totalBytes >= 0) {
+				text.append(" / ").append(formatBytes(totalBytes));
+			}
+			text.append(", ").append(formatBytes((long) bytesPerSecond)).append("/s");
+			if (etaSeconds >= 0) {
+				text.append(", ").append(etaSeconds).append(" s left");
+			}
+			return text.toString();
+		}
+
+		private static String formatBytes(long bytes) {
+			if (bytes < 1024) {
+				return bytes + " B";
+			}
+			if (bytes < 1024 * 1024) {
+				return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+			}
+			return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+		}
+	}
+
+}
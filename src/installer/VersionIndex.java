@@ -0,0 +1,239 @@
+package installer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Shared view of MorchClient's installer.json. Lookups are served from an
+ * immutable in-memory map that is reloaded once it is older than the TTL, so
+ * a long-running GUI or batch process picks up new releases too. A copy is
+ * kept on disk and revalidated with ETag/If-Modified-Since once it is older
+ * than the TTL. When revalidation fails the stale copy is served, and the
+ * network is tried again after morch.index.retryAfter milliseconds.
+ * Mirrors from {@link Sources} are tried before the upstream URL.
+ */
+public class VersionIndex {
+	private static final long TTL_MILLIS = Long.getLong("morch.index.ttl", 10 * 60 * 1000L);
+	// How long a stale copy is served after a failed revalidation before the network is tried again
+	private static final long RETRY_MILLIS = Math.min(TTL_MILLIS, Long.getLong("morch.index.retryAfter", 30 * 1000L));
+
+	private final URI source;
+	private final Path cacheFile;
+	private final Path metaFile;
+	private volatile Map<String, Entry> entries;
+	private volatile long expiresAt;
+
+	public VersionIndex() {
+		this(Sources.INSTALLER_JSON, Cache.resolve("installer.json"));
+	}
+
+	public VersionIndex(URI source, Path cacheFile) {
+		this.source = source;
+		this.cacheFile = cacheFile;
+		this.metaFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".meta");
+	}
+
+	public static final class Entry {
+		private final List<String> versions;
+		private final List<String> instLinks;
+
+		Entry(List<String> versions, List<String> instLinks) {
+			this.versions = Collections.unmodifiableList(versions);
+			this.instLinks = Collections.unmodifiableList(instLinks);
+		}
+
+		public List<String> getVersions() {
+			return versions;
+		}
+
+		public List<String> getInstLinks() {
+			return instLinks;
+		}
+	}
+
+	public List<String> getMinecraftVersions() throws IOException {
+		List<String> minecraftVersions = new ArrayList<>();
+		for (Map.Entry<String, Entry> entry : entries().entrySet()) {
+			if (!entry.getValue().getVersions().isEmpty()) {
+				minecraftVersions.add(entry.getKey());
+			}
+		}
+		return minecraftVersions;
+	}
+
+	public List<String> getClientVersions(String minecraftVersion) throws IOException {
+		Entry entry = entries().get(minecraftVersion);
+		return entry != null ? entry.getVersions() : Collections.emptyList();
+	}
+
+	public List<String> getInstLinks(String minecraftVersion) throws IOException {
+		Entry entry = entries().get(minecraftVersion);
+		return entry != null ? entry.getInstLinks() : Collections.emptyList();
+	}
+
+	public Map<String, Entry> entries() throws IOException {
+		Map<String, Entry> current = entries;
+		if (current == null || expired()) {
+			synchronized (this) {
+				current = entries;
+				if (current == null || expired()) {
+					current = load();
+					entries = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	private boolean expired() {
+		return System.currentTimeMillis() >= expiresAt;
+	}
+
+	private Map<String, Entry> load() throws IOException {
+		Properties meta = readMeta();
+		boolean cached = Files.isRegularFile(cacheFile);
+		long fetchedAt = Long.parseLong(meta.getProperty("fetchedAt", "0"));
+
+		if (cached && System.currentTimeMillis() - fetchedAt < TTL_MILLIS) {
+			return loaded(parse(Files.readString(cacheFile)), TTL_MILLIS);
+		}
+
+		IOException failure;
+		try {
+			return loaded(fetch(meta, cached), TTL_MILLIS);
+		} catch (IOException e) {
+			failure = e;
+		}
+
+		// A stale copy is better than nothing when the network is down, but only until the next try
+		if (cached) {
+			System.out.println("Using cached installer.json, revalidation failed: " + failure);
+			return loaded(parse(Files.readString(cacheFile)), RETRY_MILLIS);
+		}
+		throw failure;
+	}
+
+	private Map<String, Entry> loaded(Map<String, Entry> parsed, long validMillis) {
+		expiresAt = System.currentTimeMillis() + validMillis;
+		return parsed;
+	}
+
+	private Map<String, Entry> fetch(Properties meta, boolean cached) throws IOException {
+		// Parsing happens inside the request, so a cut-off body is retried rather than cached
+		return Requests.get(Sources.get().require(source), candidate -> validators(candidate, meta, cached), response -> {
+			URI candidate = response.getSource();
+			if (response.getStatus() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+				meta.setProperty("fetchedAt", Long.toString(System.currentTimeMillis()));
+				writeMeta(meta);
+				return parse(Files.readString(cacheFile));
+			}
+
+			String body = new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+			Map<String, Entry> parsed = parse(body);
+			save(body, candidate, response.getHeader("ETag"), response.getHeader("Last-Modified"));
+			return parsed;
+		});
+	}
+
+	// Validators are only meaningful against the server that issued them
+	private static Map<String, String> validators(URI candidate, Properties meta, boolean cached) {
+		Map<String, String> headers = new HashMap<>();
+		if (cached && !"file".equals(candidate.getScheme()) && candidate.toString().equals(meta.getProperty("source"))) {
+			if (meta.containsKey("etag")) {
+				headers.put("If-None-Match", meta.getProperty("etag"));
+			}
+			if (meta.containsKey("lastModified")) {
+				headers.put("If-Modified-Since", meta.getProperty("lastModified"));
+			}
+		}
+		return headers;
+	}
+
+	private void save(String body, URI candidate, String etag, String lastModified) throws IOException {
+		Cache.writeAtomically(cacheFile, body.getBytes(StandardCharsets.UTF_8));
+		Properties meta = new Properties();
+		meta.setProperty("source", candidate.toString());
+		if (etag != null) {
+			meta.setProperty("etag", etag);
+		}
+		if (lastModified != null) {
+			meta.setProperty("lastModified", lastModified);
+		}
+		meta.setProperty("fetchedAt", Long.toString(System.currentTimeMillis()));
+		writeMeta(meta);
+	}
+
+	static Map<String, Entry> parse(String body) throws IOException {
+		return parse(new StringReader(body));
+	}
+
+	static Map<String, Entry> parse(Reader reader) throws IOException {
+		JsonObject json;
+		try {
+			json = new Gson().fromJson(reader, JsonObject.class);
+		} catch (RuntimeException e) {
+			throw new IOException("Malformed installer.json", e);
+		}
+		if (json == null || !json.has("client")) {
+			throw new IOException("installer.json has no client section");
+		}
+
+		Map<String, Entry> parsed = new LinkedHashMap<>();
+		JsonObject clientJson = json.getAsJsonObject("client");
+		for (String minecraftVersion : clientJson.keySet()) {
+			JsonObject versionJson = clientJson.getAsJsonObject(minecraftVersion);
+			parsed.put(minecraftVersion,
+					new Entry(strings(versionJson.get("versions")), strings(versionJson.get("instLink"))));
+		}
+		return Collections.unmodifiableMap(parsed);
+	}
+
+	private static List<String> strings(JsonElement element) {
+		List<String> values = new ArrayList<>();
+		if (element != null && element.isJsonArray()) {
+			JsonArray array = element.getAsJsonArray();
+			for (JsonElement value : array) {
+				values.add(value.getAsString());
+			}
+		}
+		return values;
+	}
+
+	private Properties readMeta() {
+		Properties meta = new Properties();
+		if (Files.isRegularFile(metaFile)) {
+			try (Reader reader = Files.newBufferedReader(metaFile)) {
+				meta.load(reader);
+			} catch (IOException e) {
+				// Unreadable metadata only costs us a full download
+			}
+		}
+		return meta;
+	}
+
+	private void writeMeta(Properties meta) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		meta.store(out, null);
+		Cache.writeAtomically(metaFile, out.toByteArray());
+	}
+
+}
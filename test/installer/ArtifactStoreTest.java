@@ -0,0 +1,39 @@
+package installer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ArtifactStoreTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	void storesOverOneDirectoryKeepEachOthersUrls() throws Exception {
+		// Like the reconciler's store and an install's, or two installer processes
+		ArtifactStore first = new ArtifactStore(dir.resolve("objects"));
+		ArtifactStore second = new ArtifactStore(dir.resolve("objects"));
+		URI a = URI.create("https://example.invalid/a.jar");
+		URI b = URI.create("https://example.invalid/b.jar");
+
+		String sha1A = first.insert(file("a", "first"), null, a, "\"etag-a\"");
+		String sha1B = second.insert(file("b", "second"), null, b, null);
+
+		ArtifactStore fresh = new ArtifactStore(dir.resolve("objects"));
+		assertEquals(sha1A, fresh.sha1For(a));
+		assertEquals("\"etag-a\"", fresh.validatorFor(a));
+		assertEquals(sha1B, fresh.sha1For(b));
+		// An existing store sees what the other one recorded after it started
+		assertEquals(sha1B, first.sha1For(b));
+	}
+
+	private Path file(String name, String content) throws Exception {
+		return Files.writeString(dir.resolve(name), content);
+	}
+
+}
@@ -0,0 +1,35 @@
+package installer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchInstallerTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	void incompleteSpecsAreReportedByIndex() {
+		List<String> invalid = BatchInstaller.validate(Arrays.asList(
+				new InstallSpec("1.20.1", "1.0", "/tmp/minecraft", null, false),
+				new InstallSpec("1.20.1", null, "/tmp/minecraft", null, false),
+				null,
+				new InstallSpec("1.20.1", "1.0", " ", null, false)));
+		assertEquals(List.of("Spec 1 is missing clientVersion", "Spec 2 is null", "Spec 3 is missing minecraftPath"),
+				invalid);
+	}
+
+	@Test
+	void batchWithAnIncompleteSpecExitsBeforeInstalling() throws Exception {
+		Path specs = dir.resolve("specs.json");
+		Files.writeString(specs, "[{\"minecraftVersion\": \"1.20.1\", \"clientVersion\": \"1.0\"}]");
+		assertEquals(2, BatchInstaller.run(new String[] {"--batch", specs.toString()}));
+	}
+
+}
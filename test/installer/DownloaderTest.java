@@ -0,0 +1,102 @@
+package installer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DownloaderTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	void contentWithoutHashIsRevalidatedAndRefetchedWhenRepublished() throws Exception {
+		byte[] first = "first build".getBytes(StandardCharsets.UTF_8);
+		byte[] second = "second build, same URL".getBytes(StandardCharsets.UTF_8);
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/jars/client.jar", first);
+			ArtifactStore store = new ArtifactStore(dir.resolve("objects"));
+
+			// Each downloader is a fresh process as far as revalidation goes
+			Path one = dir.resolve("one/client.jar");
+			new Downloader(2, 2, store).downloadAll(List.of(new Downloader.Download(uri, one)), null, null, null, null);
+			assertArrayEquals(first, Files.readAllBytes(one));
+			assertEquals(StandInServer.sha1(first), store.sha1For(uri));
+
+			// Unchanged: a conditional GET without a body is enough
+			Path two = dir.resolve("two/client.jar");
+			new Downloader(2, 2, store).downloadAll(List.of(new Downloader.Download(uri, two)), null, null, null, null);
+			assertArrayEquals(first, Files.readAllBytes(two));
+			assertEquals(2, server.gets("/jars/client.jar"));
+			assertEquals(1, server.bodies("/jars/client.jar"));
+
+			server.put("/jars/client.jar", second);
+			Path three = dir.resolve("three/client.jar");
+			new Downloader(2, 2, store).downloadAll(List.of(new Downloader.Download(uri, three)), null, null, null, null);
+			assertArrayEquals(second, Files.readAllBytes(three));
+			assertEquals(StandInServer.sha1(second), store.sha1For(uri));
+		}
+	}
+
+	@Test
+	void publishedHashIsTrustedWithoutAsking() throws Exception {
+		byte[] content = "library".getBytes(StandardCharsets.UTF_8);
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/libraries/lib.jar", content);
+			String sha1 = StandInServer.sha1(content);
+			ArtifactStore store = new ArtifactStore(dir.resolve("objects"));
+			new Downloader(2, 2, store).downloadAll(List.of(new Downloader.Download(uri, dir.resolve("a/lib.jar"), sha1)),
+					null, null, null, null);
+			new Downloader(2, 2, store).downloadAll(List.of(new Downloader.Download(uri, dir.resolve("b/lib.jar"), sha1)),
+					null, null, null, null);
+			assertEquals(1, server.gets("/libraries/lib.jar"));
+			assertArrayEquals(content, Files.readAllBytes(dir.resolve("b/lib.jar")));
+		}
+	}
+
+	@Test
+	void failedObjectFetchLeavesNothingInStaging() throws Exception {
+		byte[] content = "{\"id\": \"1.20.1\"}".repeat(512).getBytes(StandardCharsets.UTF_8);
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/mc/1.20.1.json", content);
+			// Every body stops halfway, so the fetch runs out of attempts with part of the file on disk
+			server.truncate("/mc/1.20.1.json", Integer.MAX_VALUE);
+			Downloader downloader = new Downloader(2, 2, new ArtifactStore(dir.resolve("objects")));
+			assertThrows(IOException.class, () -> downloader.fetchObject(uri, StandInServer.sha1(content), null));
+
+			Path staging = Cache.resolve("staging");
+			if (Files.isDirectory(staging)) {
+				try (Stream<Path> files = Files.list(staging)) {
+					assertEquals(List.of(), files.collect(Collectors.toList()));
+				}
+			}
+		}
+	}
+
+	@Test
+	void bodiesCutOffAfterProgressAreResumedWithoutUsingUpAttempts() throws Exception {
+		byte[] content = "library ".repeat(4096).getBytes(StandardCharsets.UTF_8);
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/libraries/lib.jar", content);
+			// As many cut-off bodies as there are attempts; each one still delivers half of what was asked for
+			server.truncate("/libraries/lib.jar", 4);
+			Path destination = dir.resolve("lib.jar");
+			new Downloader(2, 2, new ArtifactStore(dir.resolve("objects"))).downloadAll(
+					List.of(new Downloader.Download(uri, destination, StandInServer.sha1(content))), null, null, null, null);
+			assertArrayEquals(content, Files.readAllBytes(destination));
+			assertEquals(5, server.bodies("/libraries/lib.jar"));
+		}
+	}
+
+}
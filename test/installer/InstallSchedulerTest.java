@@ -0,0 +1,24 @@
+package installer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class InstallSchedulerTest {
+	@Test
+	void specThatFailsBeforeTakingItsLockStillCompletes() throws Exception {
+		try (InstallScheduler scheduler = new InstallScheduler(new Client(new ConsoleProgressListener("")), 1)) {
+			// No .minecraft directory, so there is no lock to look up
+			InstallScheduler.Job job = scheduler.submit(new InstallSpec("1.20.1", "1.0", null, null, false),
+					new ConsoleProgressListener(""));
+
+			InstallResult result = job.getResult().get(10, TimeUnit.SECONDS);
+			assertFalse(result.isSuccess());
+			assertEquals(InstallScheduler.Status.FAILED, job.getStatus());
+		}
+	}
+
+}
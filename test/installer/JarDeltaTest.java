@@ -0,0 +1,301 @@
+package installer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JarDeltaTest {
+	private static final int ENTRIES = 60;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void streamedJarWithNewTimestampsOnlyFetchesChangedData() throws Exception {
+		Path base = dir.resolve("base.jar");
+		Files.write(base, jar(1_600_000_000_000L, i -> content(i, "old")));
+		// Two classes changed, every timestamp moved and every DEFLATE entry has a data descriptor
+		byte[] target = jar(1_700_000_000_000L, i -> content(i, i == 10 || i == 30 ? "new" : "old"));
+
+		Target parsed = parse(target);
+		JarDelta.Plan plan = JarDelta.plan(parsed.entries, parsed.directory, target.length, base);
+		assertNotNull(plan);
+		// Exactly the compressed data of the two changed classes, no headers or descriptors
+		Path published = dir.resolve("target.jar");
+		Files.write(published, target);
+		try (ZipFile zip = new ZipFile(published.toFile())) {
+			assertEquals(zip.getEntry("net/morch/Class10.class").getCompressedSize()
+					+ zip.getEntry("net/morch/Class30.class").getCompressedSize(), plan.getFetchedBytes());
+		}
+		assertTrue(plan.getSegments().stream().filter(JarDelta.Segment::isFetched).count() <= JarDelta.MAX_RANGES);
+
+		Path rebuilt = dir.resolve("rebuilt.jar");
+		Files.write(rebuilt, rebuild(plan, target, base, parsed.directory));
+		JarDelta.verify(rebuilt, plan, target.length);
+		assertArrayEquals(target, Files.readAllBytes(rebuilt));
+	}
+
+	@Test
+	void downloaderRebuildsAnUpdatedJarFromRanges() throws Exception {
+		Path base = dir.resolve("versions/morch-1.0-1.20.1/morch-1.0-1.20.1.jar");
+		Files.createDirectories(base.getParent());
+		Files.write(base, jar(1_600_000_000_000L, i -> content(i, "old")));
+		byte[] target = jar(1_700_000_000_000L, i -> content(i, i == 10 ? "new" : "old"));
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/jars/morch-1.1.jar", target);
+			Path destination = dir.resolve("versions/morch-1.1-1.20.1/morch-1.1-1.20.1.jar");
+			new Downloader(2, 2, new ArtifactStore(dir.resolve("objects"))).downloadAll(
+					List.of(new Downloader.Download(uri, destination, null, base)), null, null, null, null);
+
+			assertArrayEquals(target, Files.readAllBytes(destination));
+			// The tail with the central directory plus one changed class of about 4 KB
+			long sent = server.bytesSent("/jars/morch-1.1.jar");
+			assertTrue(sent < JarDelta.TAIL_BYTES + 8 * 1024, sent + " of " + target.length + " bytes");
+		}
+	}
+
+	@Test
+	void cancelledDeltaLeavesNoPartBehind() throws Exception {
+		Path base = dir.resolve("versions/morch-1.0-1.20.1/morch-1.0-1.20.1.jar");
+		Files.createDirectories(base.getParent());
+		Files.write(base, jar(1_600_000_000_000L, i -> content(i, "old")));
+		byte[] target = jar(1_700_000_000_000L, i -> content(i, i == 10 || i == 30 ? "new" : "old"));
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/jars/morch-1.1.jar", target);
+			Path destination = dir.resolve("versions/morch-1.1-1.20.1/morch-1.1-1.20.1.jar");
+			Downloader downloader = new Downloader(2, 2, new ArtifactStore(dir.resolve("objects")));
+			List<Downloader.Download> downloads = List.of(new Downloader.Download(uri, destination, null, base));
+
+			// Cancelled once the first range after the tail has been asked for, with the part half spliced
+			assertThrows(IOException.class, () -> downloader.downloadAll(downloads, null, null,
+					() -> server.gets("/jars/morch-1.1.jar") >= 2, null));
+			Path part = destination.resolveSibling(destination.getFileName() + ".part");
+			assertFalse(Files.exists(part));
+
+			downloader.downloadAll(downloads, null, null, null, null);
+			assertArrayEquals(target, Files.readAllBytes(destination));
+		}
+	}
+
+	@Test
+	void planGivesUpWhenLittleIsReusable() throws Exception {
+		Path base = dir.resolve("base.jar");
+		Files.write(base, jar(1_600_000_000_000L, i -> content(i, "old")));
+		byte[] target = jar(1_600_000_000_000L, i -> content(i, "new"));
+
+		Target parsed = parse(target);
+		assertNull(JarDelta.plan(parsed.entries, parsed.directory, target.length, base));
+	}
+
+	@Test
+	void verifyRejectsAnEntryWhoseCrcDoesNotMatch() throws Exception {
+		Path base = dir.resolve("base.jar");
+		Files.write(base, jar(1_600_000_000_000L, i -> content(i, "old")));
+		byte[] target = jar(1_700_000_000_000L, i -> content(i, "old"));
+		Target parsed = parse(target);
+		JarDelta.Plan plan = JarDelta.plan(parsed.entries, parsed.directory, target.length, base);
+		assertNotNull(plan);
+
+		// The stored entry's bytes are its content, so flipping one changes the CRC but nothing else
+		byte[] rebuilt = rebuild(plan, target, base, parsed.directory);
+		byte[] stored = "stored resource".getBytes(StandardCharsets.UTF_8);
+		int at = indexOf(rebuilt, stored);
+		rebuilt[at] ^= 1;
+		Path file = dir.resolve("rebuilt.jar");
+		Files.write(file, rebuilt);
+		ZipException failure = assertThrows(ZipException.class, () -> JarDelta.verify(file, plan, target.length));
+		assertTrue(failure.getMessage().contains("stored.txt"), failure.getMessage());
+	}
+
+	@Test
+	void truncatedCentralDirectoryIsAZipException() throws Exception {
+		byte[] target = jar(1_700_000_000_000L, i -> content(i, "old"));
+		JarDelta.Directory directory = JarDelta.findDirectory(
+				Arrays.copyOfRange(target, Math.max(0, target.length - JarDelta.TAIL_BYTES), target.length));
+		// Cut into the last entry's name, after its fixed 46 bytes
+		byte[] central = Arrays.copyOfRange(target, (int) directory.getOffset(),
+				(int) (directory.getOffset() + directory.getSize() - 4));
+		ZipException failure = assertThrows(ZipException.class, () -> JarDelta.readEntries(central, directory));
+		assertTrue(failure.getMessage().contains("entry " + ENTRIES), failure.getMessage());
+	}
+
+	@Test
+	void mergeOnlyAbsorbsStretchesShorterThanTheGapBetweenFetchedRanges() {
+		long gap = JarDelta.MIN_MERGE_GAP;
+		List<JarDelta.Segment> segments = List.of(
+				new JarDelta.Segment(0, 100, 5000),
+				new JarDelta.Segment(100, 200, -1),
+				new JarDelta.Segment(200, 200 + gap - 1, 0),
+				new JarDelta.Segment(200 + gap - 1, 300 + gap, -1),
+				new JarDelta.Segment(300 + gap, 300 + 2 * gap, 0),
+				new JarDelta.Segment(300 + 2 * gap, 400 + 2 * gap, -1),
+				new JarDelta.Segment(400 + 2 * gap, 500 + 2 * gap, 9000));
+
+		List<JarDelta.Segment> merged = JarDelta.merge(segments, gap);
+		assertEquals(5, merged.size());
+		// Leading and trailing reuse are kept whatever their size, they separate no requests
+		assertEquals(5000, merged.get(0).getBaseOffset());
+		assertEquals(9000, merged.get(4).getBaseOffset());
+		// One byte short of the gap is fetched along, exactly the gap is kept
+		assertTrue(merged.get(1).isFetched());
+		assertEquals(100, merged.get(1).getStart());
+		assertEquals(300 + gap, merged.get(1).getEnd());
+		assertEquals(0, merged.get(2).getBaseOffset());
+		assertEquals(gap, merged.get(2).getEnd() - merged.get(2).getStart());
+	}
+
+	@Test
+	void mergeTreatsRebuiltHeadersLikeReusedBytes() {
+		List<JarDelta.Segment> segments = List.of(
+				new JarDelta.Segment(0, 100, -1),
+				new JarDelta.Segment(100, 130, -1, new byte[30]),
+				new JarDelta.Segment(130, 230, 0),
+				new JarDelta.Segment(230, 300, -1));
+
+		List<JarDelta.Segment> merged = JarDelta.merge(segments, JarDelta.MIN_MERGE_GAP);
+		assertEquals(1, merged.size());
+		assertTrue(merged.get(0).isFetched());
+		assertEquals(300, merged.get(0).getEnd());
+	}
+
+	@Test
+	void rangesAreOnlyMergedPastMaxRanges() {
+		List<JarDelta.Segment> atLimit = alternating(JarDelta.MAX_RANGES);
+		assertSame(atLimit, JarDelta.limitRanges(atLimit));
+
+		List<JarDelta.Segment> overLimit = alternating(JarDelta.MAX_RANGES + 1);
+		List<JarDelta.Segment> limited = JarDelta.limitRanges(overLimit);
+		long fetched = limited.stream().filter(JarDelta.Segment::isFetched).count();
+		assertTrue(fetched <= JarDelta.MAX_RANGES && fetched > 0, fetched + " ranges");
+		assertEquals(overLimit.get(overLimit.size() - 1).getEnd(), limited.get(limited.size() - 1).getEnd());
+	}
+
+	// count fetched ranges of 10 bytes, separated by reusable stretches that grow so merging picks the short ones
+	private static List<JarDelta.Segment> alternating(int count) {
+		List<JarDelta.Segment> segments = new ArrayList<>();
+		long position = 0;
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				long reused = JarDelta.MIN_MERGE_GAP * (i + 1);
+				segments.add(new JarDelta.Segment(position, position + reused, position));
+				position += reused;
+			}
+			segments.add(new JarDelta.Segment(position, position + 10, -1));
+			position += 10;
+		}
+		return segments;
+	}
+
+	private static final class Target {
+		private final JarDelta.Directory directory;
+		private final List<JarDelta.Entry> entries;
+
+		Target(JarDelta.Directory directory, List<JarDelta.Entry> entries) {
+			this.directory = directory;
+			this.entries = entries;
+		}
+	}
+
+	// What Downloader learns from the tail of a remote jar
+	private static Target parse(byte[] jar) throws IOException {
+		JarDelta.Directory directory = JarDelta.findDirectory(
+				Arrays.copyOfRange(jar, Math.max(0, jar.length - JarDelta.TAIL_BYTES), jar.length));
+		byte[] central = Arrays.copyOfRange(jar, (int) directory.getOffset(),
+				(int) (directory.getOffset() + directory.getSize()));
+		return new Target(directory, JarDelta.readEntries(central, directory));
+	}
+
+	// What Downloader writes, with fetched ranges taken from the target
+	private static byte[] rebuild(JarDelta.Plan plan, byte[] target, Path base, JarDelta.Directory directory)
+			throws IOException {
+		byte[] baseBytes = Files.readAllBytes(base);
+		byte[] out = new byte[target.length];
+		for (JarDelta.Segment segment : plan.getSegments()) {
+			int start = (int) segment.getStart();
+			int length = (int) (segment.getEnd() - segment.getStart());
+			if (segment.isFetched()) {
+				System.arraycopy(target, start, out, start, length);
+			} else if (segment.getData() != null) {
+				System.arraycopy(segment.getData(), 0, out, start, length);
+			} else {
+				System.arraycopy(baseBytes, (int) segment.getBaseOffset(), out, start, length);
+			}
+		}
+		int end = (int) directory.getOffset();
+		System.arraycopy(target, end, out, end, target.length - end);
+		return out;
+	}
+
+	// A jar as the jar tool writes it: DEFLATE entries streamed with data descriptors, plus one stored entry
+	private static byte[] jar(long time, IntFunction<String> content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JarOutputStream out = new JarOutputStream(bytes)) {
+			for (int i = 0; i < ENTRIES; i++) {
+				ZipEntry entry = new ZipEntry("net/morch/Class" + i + ".class");
+				entry.setTime(time);
+				out.putNextEntry(entry);
+				out.write(content.apply(i).getBytes(StandardCharsets.UTF_8));
+				out.closeEntry();
+			}
+
+			byte[] stored = "stored resource".getBytes(StandardCharsets.UTF_8);
+			CRC32 crc = new CRC32();
+			crc.update(stored);
+			ZipEntry entry = new ZipEntry("stored.txt");
+			entry.setMethod(ZipEntry.STORED);
+			entry.setSize(stored.length);
+			entry.setCompressedSize(stored.length);
+			entry.setCrc(crc.getValue());
+			entry.setTime(time);
+			out.putNextEntry(entry);
+			out.write(stored);
+			out.closeEntry();
+		}
+		return bytes.toByteArray();
+	}
+
+	// Text that compresses to a few kilobytes and differs completely between versions
+	private static String content(int index, String version) {
+		StringBuilder text = new StringBuilder();
+		long state = (version + index).hashCode();
+		for (int line = 0; line < 400; line++) {
+			state = state * 6364136223846793005L + 1442695040888963407L;
+			text.append(version).append(' ').append(index).append(' ').append(Long.toHexString(state)).append('\n');
+		}
+		return text.toString();
+	}
+
+	private static int indexOf(byte[] haystack, byte[] needle) {
+		for (int i = 0; i + needle.length <= haystack.length; i++) {
+			if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) {
+				return i;
+			}
+		}
+		throw new AssertionError("not found");
+	}
+
+}
@@ -0,0 +1,97 @@
+package installer;
+
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LauncherProfilesPatcherTest {
+	private static final String ORIGINAL = "{\n"
+			+ "  \"profiles\": {\n"
+			+ "    \"keep\": {\"name\": \"Keep\", \"lastVersionId\": \"1.20.1\", \"custom\": {\"nested\": [1, 2.50, 1e3]}},\n"
+			+ "    \"morch-1.0-1.20.1\": {\"name\": \"old\", \"lastVersionId\": \"morch-1.0-1.20.1\"}\n"
+			+ "  },\n"
+			+ "  \"settings\": {\"crashAssistance\": true, \"scale\": 1.0, \"memory\": 4096},\n"
+			+ "  \"clientToken\": null,\n"
+			+ "  \"version\": 3\n"
+			+ "}\n";
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void putProfileReplacesOneEntryAndKeepsEverythingElse() throws Exception {
+		Path file = dir.resolve("launcher_profiles.json");
+		Files.writeString(file, ORIGINAL, StandardCharsets.UTF_8);
+
+		JsonObject profile = new JsonObject();
+		profile.addProperty("name", "new");
+		profile.addProperty("lastVersionId", "morch-1.0-1.20.1");
+		profile.addProperty("icon", "data:image/png;base64,AAA=");
+		LauncherProfilesPatcher.putProfile(file, "morch-1.0-1.20.1", profile);
+
+		String patched = Files.readString(file, StandardCharsets.UTF_8);
+		// Numbers are copied as written, not reformatted through a double
+		assertTrue(patched.contains("2.50"), patched);
+		assertTrue(patched.contains("1e3"), patched);
+		assertTrue(patched.contains("\"scale\": 1.0"), patched);
+		assertTrue(patched.contains("\"clientToken\": null"), patched);
+		// No unicode escape for '=' in the icon
+		assertTrue(patched.contains("base64,AAA="), patched);
+
+		Map<String, JsonObject> profiles = LauncherProfilesPatcher.readProfiles(file);
+		assertEquals(2, profiles.size());
+		assertEquals("Keep", profiles.get("keep").get("name").getAsString());
+		assertEquals("new", profiles.get("morch-1.0-1.20.1").get("name").getAsString());
+		assertTrue(profiles.get("keep").has("custom"));
+	}
+
+	@Test
+	void removeProfileDropsOnlyThatEntry() throws Exception {
+		Path file = dir.resolve("launcher_profiles.json");
+		Files.writeString(file, ORIGINAL, StandardCharsets.UTF_8);
+
+		LauncherProfilesPatcher.removeProfile(file, "morch-1.0-1.20.1");
+
+		Map<String, JsonObject> profiles = LauncherProfilesPatcher.readProfiles(file);
+		assertEquals(1, profiles.size());
+		assertTrue(profiles.containsKey("keep"));
+		assertTrue(Files.readString(file).contains("\"memory\": 4096"));
+	}
+
+	@Test
+	void missingFileGetsCreatedAndRemovalIsANoOp() throws Exception {
+		Path file = dir.resolve("launcher_profiles.json");
+		LauncherProfilesPatcher.removeProfile(file, "anything");
+		assertFalse(Files.exists(file));
+
+		JsonObject profile = new JsonObject();
+		profile.addProperty("name", "only");
+		LauncherProfilesPatcher.putProfile(file, "only", profile);
+		assertEquals("only", LauncherProfilesPatcher.readProfiles(file).get("only").get("name").getAsString());
+	}
+
+	@Test
+	void patchedFileKeepsItsPermissions() throws Exception {
+		Path file = dir.resolve("launcher_profiles.json");
+		Files.writeString(file, ORIGINAL, StandardCharsets.UTF_8);
+		assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+		Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r-----"));
+
+		LauncherProfilesPatcher.removeProfile(file, "morch-1.0-1.20.1");
+		assertEquals("rw-r-----", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+		assertEquals(1, LauncherProfilesPatcher.readProfiles(file).size());
+	}
+
+}
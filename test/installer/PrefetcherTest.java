@@ -0,0 +1,42 @@
+package installer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrefetcherTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	void prefetchedLibrariesAreCountedInTheInstallReport() throws Exception {
+		byte[] content = "library ".repeat(4096).getBytes(StandardCharsets.UTF_8);
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/libraries/lib-1.0.jar", content);
+			server.truncate("/libraries/lib-1.0.jar", 1);
+			Path versionJson = dir.resolve("1.20.1.json");
+			Files.writeString(versionJson, "{\"libraries\": [{\"name\": \"com.example:lib:1.0\", \"downloads\": {"
+					+ "\"artifact\": {\"path\": \"com/example/lib/1.0/lib-1.0.jar\", \"url\": \"" + uri + "\","
+					+ " \"sha1\": \"" + StandInServer.sha1(content) + "\", \"size\": " + content.length + "}}}]}");
+
+			InstallReport report = new InstallReport("morch-1.0-1.20.1", null);
+			Path minecraft = dir.resolve("minecraft");
+			int fetched = new Prefetcher(new Downloader(2, 2, new ArtifactStore(dir.resolve("objects"))))
+					.prefetch(versionJson, minecraft.toString(), new TransferProgress(), report, () -> false);
+
+			assertEquals(1, fetched);
+			assertArrayEquals(content, Files.readAllBytes(minecraft.resolve("libraries/com/example/lib/1.0/lib-1.0.jar")));
+			// The cut-off body and its resume both count
+			assertEquals(content.length, report.getBytes());
+			assertEquals(1, report.getRetries());
+		}
+	}
+
+}
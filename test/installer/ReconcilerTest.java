@@ -0,0 +1,136 @@
+package installer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReconcilerTest {
+	private static final byte[] FIRST = "first build".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] MOJANG_JSON = "{\"id\": \"1.20.1\", \"downloads\": {}}".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	Path dir;
+
+	private StandInServer server;
+	private URI jar;
+	private URI installerJson;
+	private URI manifest;
+	private ArtifactStore store;
+	private Path root;
+
+	@BeforeEach
+	void publish() throws Exception {
+		server = StandInServer.start(0);
+		jar = server.put("/jars/client.jar", FIRST);
+		URI versionJson = server.put("/mc/1.20.1.json", MOJANG_JSON);
+		manifest = server.put("/mc/version_manifest.json", ("{\"versions\": [{\"id\": \"1.20.1\", \"url\": \""
+				+ versionJson + "\", \"sha1\": \"" + StandInServer.sha1(MOJANG_JSON) + "\"}]}")
+				.getBytes(StandardCharsets.UTF_8));
+		installerJson = list("1.0");
+		store = new ArtifactStore(dir.resolve("objects"));
+		root = dir.resolve("minecraft");
+	}
+
+	@AfterEach
+	void stop() {
+		server.close();
+	}
+
+	@Test
+	void jarRepublishedAtTheSameUrlIsDownloadedAgain() throws Exception {
+		Path installed = install("morch-1.0-1.20.1");
+		assertTrue(reconciler().plan(List.of(root)).getActions().isEmpty());
+
+		byte[] second = "second build, same URL".getBytes(StandardCharsets.UTF_8);
+		server.put("/jars/client.jar", second);
+		Reconciler reconciler = reconciler();
+		Reconciler.Plan plan = reconciler.plan(List.of(root));
+		assertEquals(1, plan.getActions().size());
+		Reconciler.Action action = plan.getActions().get(0);
+		assertEquals(Reconciler.Kind.DOWNLOAD_JAR, action.getKind());
+		assertTrue(action.getReason().startsWith("changed at " + jar), action.getReason());
+
+		reconciler.apply(plan);
+		assertEquals("done", action.getOutcome());
+		assertArrayEquals(second, Files.readAllBytes(installed));
+	}
+
+	@Test
+	void buildsOfListedVersionsAreKeptAndOnlyUnlistedOnesSuperseded() throws Exception {
+		installerJson = list("1.1", "1.0");
+		install("morch-1.0-1.20.1");
+		install("morch-0.9-1.20.1");
+		Files.writeString(root.resolve("launcher_profiles.json"), "{\"profiles\": {"
+				+ "\"morch-0.9-1.20.1\": {\"lastVersionId\": \"morch-0.9-1.20.1\", \"javaDir\": \"/opt/java\"},"
+				+ "\"mine\": {\"lastVersionId\": \"morch-0.9-1.20.1\"}}}");
+
+		// 1.0 is still listed, so it stays and takes over from 0.9 without 1.1 being installed
+		List<String> actions = describe(reconciler().plan(List.of(root)));
+		assertEquals(List.of(
+				"REMOVE_PROFILE morch-0.9-1.20.1",
+				"PUT_PROFILE mine",
+				"PUT_PROFILE morch-1.0-1.20.1",
+				"PRUNE " + root.resolve("versions/morch-0.9-1.20.1")), actions);
+	}
+
+	@Test
+	void latestMovesEveryBuildToTheFirstListedVersion() throws Exception {
+		installerJson = list("1.1", "1.0");
+		install("morch-1.0-1.20.1");
+
+		Reconciler.Plan plan = reconciler().plan(List.of(root), true);
+		List<String> actions = describe(plan);
+		assertTrue(actions.contains("DOWNLOAD_JAR "
+				+ root.resolve("versions/morch-1.1-1.20.1/morch-1.1-1.20.1.jar")), actions.toString());
+		assertTrue(actions.contains("PRUNE " + root.resolve("versions/morch-1.0-1.20.1")), actions.toString());
+		assertFalse(describe(reconciler().plan(List.of(root))).stream().anyMatch(action -> action.startsWith("PRUNE")));
+	}
+
+	// installer.json listing the client versions for 1.20.1, newest first
+	private URI list(String... clientVersions) {
+		return server.put("/json/installer.json", ("{\"client\": {\"1.20.1\": {\"versions\": [\""
+				+ String.join("\", \"", clientVersions) + "\"], \"instLink\": [\"" + jar + "\"]}}}")
+				.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// A build as Client leaves it: the jar from the store and the rewritten version JSON
+	private Path install(String build) throws Exception {
+		Path installed = root.resolve("versions").resolve(build).resolve(build + ".jar");
+		new Downloader(2, 2, store).downloadAll(List.of(new Downloader.Download(jar, installed)), null, null, null,
+				null);
+		Files.writeString(installed.resolveSibling(build + ".json"), Client.rewriteVersionJson(
+				new StringReader(new String(MOJANG_JSON, StandardCharsets.UTF_8)), build));
+		return installed;
+	}
+
+	// Each reconciler gets a fresh downloader and index cache, so nothing it revalidated earlier is trusted
+	private Reconciler reconciler() throws Exception {
+		Path cache = Files.createTempDirectory(dir, "cache");
+		return new Reconciler(new VersionIndex(installerJson, cache.resolve("installer.json")),
+				new ManifestResolver(manifest, cache.resolve("version_manifest.idx")),
+				new Downloader(2, 2, store));
+	}
+
+	private static List<String> describe(Reconciler.Plan plan) {
+		List<String> actions = new ArrayList<>();
+		for (Reconciler.Action action : plan.getActions()) {
+			actions.add(action.getKind() + " " + action.getTarget());
+		}
+		return actions;
+	}
+
+}
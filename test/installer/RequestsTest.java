@@ -0,0 +1,57 @@
+package installer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestsTest {
+	private static final String BODY = "{\"client\": {\"1.20.1\": {\"versions\": [\"1.0\"], \"instLink\": []}}}".repeat(200);
+
+	@Test
+	void bodyCutOffAfterTheHeadersIsRetried() throws Exception {
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/json/installer.json", BODY.getBytes(StandardCharsets.UTF_8));
+			server.truncate("/json/installer.json", 2);
+
+			String read = Requests.get(List.of(uri), candidate -> Map.of(),
+					response -> new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+			assertEquals(BODY, read);
+			assertEquals(3, server.bodies("/json/installer.json"));
+		}
+	}
+
+	@Test
+	void readerFailuresCountAsFailedAttempts() throws Exception {
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/json/installer.json", BODY.getBytes(StandardCharsets.UTF_8));
+			IOException failure = assertThrows(IOException.class, () -> Requests.get(List.of(uri),
+					candidate -> Map.of(), response -> {
+						throw new IOException("unusable");
+					}));
+			assertEquals("unusable", failure.getMessage());
+			assertEquals(4, server.gets("/json/installer.json"));
+		}
+	}
+
+	@Test
+	void unreachableSourceDoesNotUseUpAttempts() throws Exception {
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/json/installer.json", BODY.getBytes(StandardCharsets.UTF_8));
+			server.truncate("/json/installer.json", 3);
+
+			// Nothing listens on port 1, so every attempt there fails to connect
+			String read = Requests.get(List.of(uri, URI.create("http://127.0.0.1:1/json/installer.json")),
+					candidate -> Map.of(), response -> new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+			assertEquals(BODY, read);
+			assertEquals(4, server.bodies("/json/installer.json"));
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+package installer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VersionIndexTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	void staleCopyIsRevalidatedAndOnlyRefetchedWhenChanged() throws Exception {
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/json/installer.json", installerJson("1.0"));
+			Path cacheFile = dir.resolve("installer.json");
+
+			assertEquals(List.of("1.0"), new VersionIndex(uri, cacheFile).getClientVersions("1.20.1"));
+			assertEquals(1, server.bodies("/json/installer.json"));
+
+			// Within the TTL the copy on disk is used without asking
+			assertEquals(List.of("1.0"), new VersionIndex(uri, cacheFile).getClientVersions("1.20.1"));
+			assertEquals(1, server.gets("/json/installer.json"));
+
+			// Past the TTL an unchanged file is answered with 304 and no body
+			age(cacheFile);
+			assertEquals(List.of("1.0"), new VersionIndex(uri, cacheFile).getClientVersions("1.20.1"));
+			assertEquals(2, server.gets("/json/installer.json"));
+			assertEquals(1, server.bodies("/json/installer.json"));
+
+			server.put("/json/installer.json", installerJson("1.1"));
+			age(cacheFile);
+			assertEquals(List.of("1.1"), new VersionIndex(uri, cacheFile).getClientVersions("1.20.1"));
+			assertEquals(2, server.bodies("/json/installer.json"));
+		}
+	}
+
+	@Test
+	void failedRevalidationIsRetriedInsteadOfTrustingTheStaleCopy() throws Exception {
+		try (StandInServer server = StandInServer.start(0)) {
+			URI uri = server.put("/json/installer.json", installerJson("1.0"));
+			Path cacheFile = dir.resolve("installer.json");
+			new VersionIndex(uri, cacheFile).entries();
+
+			age(cacheFile);
+			server.remove("/json/installer.json");
+			VersionIndex index = new VersionIndex(uri, cacheFile);
+			assertEquals(List.of("1.0"), index.getClientVersions("1.20.1"));
+
+			// Tests retry after 0 ms; the stale copy must not be kept for a whole TTL
+			server.put("/json/installer.json", installerJson("1.1"));
+			assertEquals(List.of("1.1"), index.getClientVersions("1.20.1"));
+		}
+	}
+
+	private static byte[] installerJson(String clientVersion) {
+		return ("{\"client\": {\"1.20.1\": {\"versions\": [\"" + clientVersion + "\"], \"instLink\": []}}}")
+				.getBytes(StandardCharsets.UTF_8);
+	}
+
+	// Backdates the copy on disk as if it had been fetched long before the TTL
+	private static void age(Path cacheFile) throws Exception {
+		Path metaFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".meta");
+		Properties meta = new Properties();
+		try (Reader reader = Files.newBufferedReader(metaFile)) {
+			meta.load(reader);
+		}
+		meta.setProperty("fetchedAt", "0");
+		try (Writer writer = Files.newBufferedWriter(metaFile)) {
+			meta.store(writer, null);
+		}
+	}
+
+}
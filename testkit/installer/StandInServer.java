@@ -0,0 +1,290 @@
+package installer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for GitHub and Mojang. Files are kept in memory and served
+ * in the mirror layout {@code <host>/<path>} that {@link Sources} expects, so
+ * pointing {@code morch.mirrors} at this server covers every upstream URL.
+ * GETs honour If-None-Match, Range and If-Range like the real CDNs. Faults
+ * are injected on GETs only, so the mirror probe always sees the server: a
+ * fixed latency before every response, one bandwidth cap shared by all
+ * responses, a share of 503 answers and a share of bodies cut off halfway.
+ * Fault decisions come from a seeded Random, so a run is repeatable as far as
+ * thread scheduling allows. Unit tests also publish files under plain paths,
+ * cut off a path's next few bodies on purpose and count what each path was
+ * asked for and sent.
+ * <p>
+ * Lives in testkit/, which the tests and the bench module both compile.
+ */
+public final class StandInServer implements Closeable {
+	private static final int CHUNK = 16 * 1024;
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+	private final Map<String, String> etags = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> truncations = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> gets = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> bodies = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> sent = new ConcurrentHashMap<>();
+	private final Random random;
+
+	private volatile long latencyMillis;
+	private volatile Throttle throttle;
+	private volatile double errorRate;
+	private volatile double disconnectRate;
+
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicLong disconnects = new AtomicLong();
+	private final AtomicLong bytesSent = new AtomicLong();
+
+	private StandInServer(HttpServer server, ExecutorService executor, long seed) {
+		this.server = server;
+		this.executor = executor;
+		this.random = new Random(seed);
+	}
+
+	// Listens on a free loopback port
+	public static StandInServer start(long seed) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "morch-standin");
+			thread.setDaemon(true);
+			return thread;
+		});
+		StandInServer standIn = new StandInServer(server, executor, seed);
+		server.createContext("/", standIn::handle);
+		server.setExecutor(executor);
+		server.start();
+		return standIn;
+	}
+
+	// Base URL to use as a mirror
+	public URI getBaseUri() {
+		InetSocketAddress address = server.getAddress();
+		return URI.create("http://" + address.getHostString() + ":" + address.getPort() + "/");
+	}
+
+	public URI uri(String path) {
+		InetSocketAddress address = server.getAddress();
+		return URI.create("http://" + address.getHostString() + ":" + address.getPort() + path);
+	}
+
+	// Serves the content for the upstream URL; returns the upstream URL for convenience
+	public URI put(URI upstream, byte[] content) {
+		put("/" + Sources.relativePath(upstream), content);
+		return upstream;
+	}
+
+	// Publishes or replaces the file under a path of this server and returns its URI
+	public URI put(String path, byte[] content) {
+		etags.put(path, "\"" + sha1(content) + "\"");
+		files.put(path, content);
+		return uri(path);
+	}
+
+	// Later GETs for the path get a 404
+	public void remove(String path) {
+		files.remove(path);
+	}
+
+	// The next count full or ranged bodies of the path stop halfway, on top of any random disconnects
+	public void truncate(String path, int count) {
+		truncations.put(path, new AtomicInteger(count));
+	}
+
+	// GET requests for the path, including conditional ones
+	public int gets(String path) {
+		return gets.getOrDefault(path, new AtomicInteger()).get();
+	}
+
+	// GET requests for the path that were answered with a body
+	public int bodies(String path) {
+		return bodies.getOrDefault(path, new AtomicInteger()).get();
+	}
+
+	// Body bytes sent for the path
+	public long bytesSent(String path) {
+		return sent.getOrDefault(path, new AtomicLong()).get();
+	}
+
+	public void setLatencyMillis(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+
+	// Bytes per second across all responses, 0 for no cap
+	public void setBandwidth(long bytesPerSecond) {
+		this.throttle = Throttle.of(bytesPerSecond);
+	}
+
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	public void setDisconnectRate(double disconnectRate) {
+		this.disconnectRate = disconnectRate;
+	}
+
+	public long getRequests() {
+		return requests.get();
+	}
+
+	public long getErrors() {
+		return errors.get();
+	}
+
+	public long getDisconnects() {
+		return disconnects.get();
+	}
+
+	public long getBytesSent() {
+		return bytesSent.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String path = exchange.getRequestURI().getRawPath();
+			byte[] content = files.get(path);
+			if ("HEAD".equals(exchange.getRequestMethod())) {
+				// Mirror probes HEAD the base URL, so anything answers
+				if (content != null) {
+					exchange.getResponseHeaders().set("ETag", etags.get(path));
+				}
+				exchange.sendResponseHeaders(200, -1);
+				return;
+			}
+			requests.incrementAndGet();
+			if (latencyMillis > 0) {
+				Thread.sleep(latencyMillis);
+			}
+			if (content == null) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			gets.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+			if (roll(errorRate)) {
+				errors.incrementAndGet();
+				exchange.sendResponseHeaders(503, -1);
+				return;
+			}
+
+			String etag = etags.get(path);
+			if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				exchange.getResponseHeaders().set("ETag", etag);
+				exchange.sendResponseHeaders(304, -1);
+				return;
+			}
+			bodies.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+			long[] range = range(exchange.getRequestHeaders().getFirst("Range"), content.length);
+			String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+			if (range != null && ifRange != null && !ifRange.equals(etag)) {
+				range = null;
+			}
+			exchange.getResponseHeaders().set("ETag", etag);
+			exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+			int start = 0;
+			int end = content.length;
+			if (range != null) {
+				start = (int) range[0];
+				end = (int) range[1] + 1;
+				exchange.getResponseHeaders().set("Content-Range",
+						"bytes " + range[0] + "-" + range[1] + "/" + content.length);
+				exchange.sendResponseHeaders(206, end - start);
+			} else {
+				exchange.sendResponseHeaders(200, content.length == 0 ? -1 : content.length);
+			}
+
+			// A cut-off body still announced its full length, so the client sees the connection drop early
+			AtomicInteger truncation = truncations.get(path);
+			boolean cut = truncation != null && truncation.getAndDecrement() > 0;
+			int stop = cut || roll(disconnectRate) ? start + (end - start) / 2 : end;
+			OutputStream out = exchange.getResponseBody();
+			for (int position = start; position < stop; position += CHUNK) {
+				int length = Math.min(CHUNK, stop - position);
+				Throttle cap = throttle;
+				if (cap != null) {
+					cap.consume(length);
+				}
+				out.write(content, position, length);
+				bytesSent.addAndGet(length);
+				sent.computeIfAbsent(path, key -> new AtomicLong()).addAndGet(length);
+			}
+			if (stop < end) {
+				disconnects.incrementAndGet();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			// Client went away, or the body was cut off on purpose
+		}
+	}
+
+	private boolean roll(double rate) {
+		if (rate <= 0) {
+			return false;
+		}
+		synchronized (random) {
+			return random.nextDouble() < rate;
+		}
+	}
+
+	// {first, last} for a single satisfiable "bytes=" range, otherwise null and the whole file is sent
+	private static long[] range(String header, long length) {
+		if (header == null || !header.startsWith("bytes=") || header.contains(",") || length == 0) {
+			return null;
+		}
+		String spec = header.substring("bytes=".length()).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0) {
+			return null;
+		}
+		try {
+			String first = spec.substring(0, dash);
+			String last = spec.substring(dash + 1);
+			if (first.isEmpty()) {
+				long suffix = Long.parseLong(last);
+				return suffix > 0 ? new long[] { Math.max(0, length - suffix), length - 1 } : null;
+			}
+			long start = Long.parseLong(first);
+			long end = last.isEmpty() ? length - 1 : Math.min(length - 1, Long.parseLong(last));
+			return start <= end ? new long[] { start, end } : null;
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	public static String sha1(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}